@@ -0,0 +1,76 @@
+package ubuthebear.shop.domain.member.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ubuthebear.shop.domain.order.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 구매확정 포인트 적립 대기 건을 저장하는 엔티티 클래스
+ * 주문당 하나만 존재할 수 있으므로 (주문 ID 유니크), 구매확정 이벤트가 여러 번 전달되어도 한 번만 적립됨
+ *
+ * 대기 건은 {@link ubuthebear.shop.domain.member.service.PointSettlementService}가 회원별로 모아
+ * 잔액 갱신, 포인트 이력 기록과 같은 트랜잭션에서 정산 완료로 변경
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see PointHistory
+ */
+@Entity
+@Table(name = "point_settlements",
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_settlements_order", columnNames = "order_id"),
+        indexes = @Index(name = "idx_point_settlements_status_id", columnList = "status, settlement_id"))
+@Getter @Setter
+@NoArgsConstructor
+public class PointSettlement {
+
+    /**
+     * 정산 상태
+     */
+    public enum Status {
+        PENDING,    // 적립 대기
+        SETTLED     // 적립 완료
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long settlementId;
+
+    /**
+     * 포인트를 적립할 회원 ID
+     */
+    @Column(nullable = false)
+    private Long memberId;
+
+    /**
+     * 적립 대상 주문
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", nullable = false)
+    private Order order;
+
+    /**
+     * 적립할 포인트
+     */
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    /**
+     * 포인트 이력에 기록할 적립 내용
+     */
+    @Column(nullable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime settledAt;
+}
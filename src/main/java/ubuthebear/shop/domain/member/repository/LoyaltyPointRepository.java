@@ -1,13 +1,17 @@
 package ubuthebear.shop.domain.member.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ubuthebear.shop.domain.member.entity.LoyaltyPoint;
 import ubuthebear.shop.domain.member.entity.Member;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -43,4 +47,16 @@ public interface LoyaltyPointRepository extends JpaRepository<LoyaltyPoint, Long
      */
     @Query("SELECT lp FROM LoyaltyPoint lp WHERE lp.member = :member")
     Optional<LoyaltyPoint> findByMemberWithLock(Member member);
+
+    /**
+     * 여러 회원의 포인트 정보를 한 번에 잠금과 함께 조회
+     * 교착 상태를 피하기 위해 항상 회원 ID 오름차순으로 잠금
+     *
+     * @param memberIds 조회할 회원 ID 목록
+     * @return List<LoyaltyPoint> 포인트 정보가 있는 회원들의 포인트 정보
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT lp FROM LoyaltyPoint lp WHERE lp.member.memberId IN :memberIds ORDER BY lp.member.memberId")
+    List<LoyaltyPoint> findAllByMemberIdInForUpdate(Collection<Long> memberIds);
 }
\ No newline at end of file
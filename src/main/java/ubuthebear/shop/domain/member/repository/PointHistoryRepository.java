@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import ubuthebear.shop.domain.member.entity.Member;
 import ubuthebear.shop.domain.member.entity.PointHistory;
+import ubuthebear.shop.domain.member.entity.PointType;
 
 import java.time.LocalDateTime;
 
@@ -49,4 +50,15 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
             LocalDateTime endDate,
             Pageable pageable
     );
+
+    /**
+     * 특정 주문에 대해 해당 유형의 포인트 이력이 이미 있는지 확인
+     * 주문 이벤트가 중복 전달되어도 포인트가 두 번 적립/환급되지 않도록 하는 데 사용
+     *
+     * @param orderId 주문 ID
+     * @param type 포인트 이력 유형
+     * @return boolean 이력 존재 여부
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    boolean existsByOrderOrderIdAndType(Long orderId, PointType type);
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package ubuthebear.shop.domain.member.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ubuthebear.shop.domain.member.entity.PointSettlement;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 구매확정 포인트 적립 대기 건에 대한 데이터베이스 접근을 담당하는 리포지토리
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see PointSettlement
+ */
+@Repository
+public interface PointSettlementRepository extends JpaRepository<PointSettlement, Long> {
+
+    /**
+     * 주문의 적립 대기 건이 이미 있는지 확인
+     *
+     * @param orderId 주문 ID
+     * @return boolean 존재 여부
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    boolean existsByOrderOrderId(Long orderId);
+
+    /**
+     * 적립 대기 건을 등록 순서대로 잠금과 함께 조회
+     * 여러 서버가 동시에 정산해도 같은 대기 건을 두 번 처리하지 않도록 트랜잭션이 끝날 때까지 행을 잠금
+     *
+     * @param pageable 조회 건수
+     * @return List<PointSettlement> 적립 대기 건 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PointSettlement s " +
+            "WHERE s.status = ubuthebear.shop.domain.member.entity.PointSettlement.Status.PENDING " +
+            "ORDER BY s.settlementId")
+    List<PointSettlement> findPendingForUpdate(Pageable pageable);
+
+    /**
+     * 적립 대기 건들을 한 번의 UPDATE로 정산 완료 처리
+     *
+     * @param ids 정산한 대기 건 ID 목록
+     * @param settledAt 정산 일시
+     * @return int 변경된 행 수
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("UPDATE PointSettlement s SET s.status = ubuthebear.shop.domain.member.entity.PointSettlement.Status.SETTLED, " +
+            "s.settledAt = :settledAt WHERE s.settlementId IN :ids " +
+            "AND s.status = ubuthebear.shop.domain.member.entity.PointSettlement.Status.PENDING")
+    int markSettled(Collection<Long> ids, LocalDateTime settledAt);
+}
@@ -0,0 +1,81 @@
+package ubuthebear.shop.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ubuthebear.shop.domain.member.entity.PointType;
+import ubuthebear.shop.domain.member.repository.PointHistoryRepository;
+import ubuthebear.shop.domain.order.entity.Order;
+import ubuthebear.shop.domain.order.event.OrderCancelledEvent;
+import ubuthebear.shop.domain.order.event.OrderConfirmedEvent;
+import ubuthebear.shop.domain.order.repository.OrderRepository;
+import ubuthebear.shop.global.outbox.OutboxConsumerLog;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 이벤트를 받아 포인트를 적립/환급하는 리스너
+ * 주문 취소와 구매확정 요청은 주문 상태만 바꾸고 커밋하며, 포인트 처리는 아웃박스 릴레이가 이벤트를 발행한 뒤 수행됨
+ * 구매확정 포인트는 적립 대기 건으로만 기록하고, 실제 적립은 {@link PointSettlementService}가 회원별로 모아 처리
+ *
+ * 같은 이벤트가 다시 전달될 수 있으므로, 포인트 처리와 같은 트랜잭션에 아웃박스 이벤트 처리 기록을 남겨 중복 처리를 막음
+ * (기록 이전 데이터를 위해 해당 주문의 환급 이력이나 적립 대기 건이 이미 있는 경우도 처리하지 않음)
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see LoyaltyPointService
+ * @see PointSettlementService
+ * @see ubuthebear.shop.global.outbox.OutboxRelay
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderPointEventListener {
+    private static final String CONSUMER = "order-point";
+
+    private final LoyaltyPointService loyaltyPointService;
+    private final PointSettlementService pointSettlementService;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final OrderRepository orderRepository;
+    private final OutboxConsumerLog outboxConsumerLog;
+
+    /**
+     * 주문 취소 시 사용한 포인트를 환급
+     *
+     * @param event 주문 취소 이벤트
+     */
+    @EventListener
+    @Transactional
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        if (!outboxConsumerLog.markConsumed(event, CONSUMER)) {
+            log.debug("Order cancelled event already consumed - orderNumber: {}", event.getOrderNumber());
+            return;
+        }
+        if (event.getUsedPoints() == null || event.getUsedPoints().compareTo(BigDecimal.ZERO) <= 0) {
+            return;
+        }
+        if (pointHistoryRepository.existsByOrderOrderIdAndType(event.getOrderId(), PointType.CANCEL)) {
+            log.debug("Point refund already applied - orderNumber: {}", event.getOrderNumber());
+            return;
+        }
+        Order order = orderRepository.getReferenceById(event.getOrderId());
+        loyaltyPointService.cancelPointUse(event.getUsername(), event.getUsedPoints(), "주문 취소로 인한 포인트 환급", order);
+    }
+
+    /**
+     * 구매확정 시 적립 예정 포인트를 적립 대기 건으로 기록
+     *
+     * @param event 구매확정 이벤트
+     */
+    @EventListener
+    @Transactional
+    public void onOrderConfirmed(OrderConfirmedEvent event) {
+        if (!outboxConsumerLog.markConsumed(event, CONSUMER)) {
+            log.debug("Order confirmed event already consumed - orderNumber: {}", event.getOrderNumber());
+            return;
+        }
+        pointSettlementService.enqueue(event);
+    }
+}
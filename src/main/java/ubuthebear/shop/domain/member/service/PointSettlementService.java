@@ -0,0 +1,173 @@
+package ubuthebear.shop.domain.member.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.member.entity.LoyaltyPoint;
+import ubuthebear.shop.domain.member.entity.PointSettlement;
+import ubuthebear.shop.domain.member.entity.PointType;
+import ubuthebear.shop.domain.member.repository.LoyaltyPointRepository;
+import ubuthebear.shop.domain.member.repository.MemberRepository;
+import ubuthebear.shop.domain.member.repository.PointSettlementRepository;
+import ubuthebear.shop.domain.order.event.OrderConfirmedEvent;
+import ubuthebear.shop.domain.order.repository.OrderRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 구매확정 포인트를 비동기로 모아 적립하는 정산 서비스
+ * 구매확정 이벤트를 받으면 주문별 적립 대기 건만 기록하고, 주기적으로 대기 건을 회원별로 묶어
+ * 회원당 한 번의 잔액 갱신과 한 번의 일괄 INSERT(포인트 이력)로 적립
+ *
+ * 적립 대기 건은 주문당 하나만 만들 수 있고, 잔액 갱신/이력 기록/정산 완료 표시가 같은 트랜잭션에서 처리되므로
+ * 이벤트가 중복 전달되거나 정산 도중 서버가 중단되어도 주문당 정확히 한 번만 적립됨
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see PointSettlement
+ * @see OrderPointEventListener
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PointSettlementService {
+
+    private static final String INSERT_HISTORY_SQL = "INSERT INTO point_histories " +
+            "(member_id, amount, type, description, order_id, balance_after, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final PointSettlementRepository pointSettlementRepository;
+    private final LoyaltyPointRepository loyaltyPointRepository;
+    private final MemberRepository memberRepository;
+    private final OrderRepository orderRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PointSettlementService(PointSettlementRepository pointSettlementRepository,
+                                  LoyaltyPointRepository loyaltyPointRepository,
+                                  MemberRepository memberRepository,
+                                  OrderRepository orderRepository,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${shop.point.settlement.batch-size:500}") int batchSize) {
+        this.pointSettlementRepository = pointSettlementRepository;
+        this.loyaltyPointRepository = loyaltyPointRepository;
+        this.memberRepository = memberRepository;
+        this.orderRepository = orderRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 구매확정 주문의 포인트 적립 대기 건을 기록
+     * 이미 대기 건이 있는 주문이면 아무것도 하지 않음
+     *
+     * @param event 구매확정 이벤트
+     */
+    @Transactional
+    public void enqueue(OrderConfirmedEvent event) {
+        if (event.getEarnedPoints() == null || event.getEarnedPoints().compareTo(BigDecimal.ZERO) <= 0) {
+            return;
+        }
+        if (pointSettlementRepository.existsByOrderOrderId(event.getOrderId())) {
+            log.debug("Point settlement already queued - orderNumber: {}", event.getOrderNumber());
+            return;
+        }
+
+        Long memberId = event.getMemberId() != null ? event.getMemberId()
+                : memberRepository.findByUsername(event.getUsername())
+                        .orElseThrow(() -> new RuntimeException("Member not found"))
+                        .getMemberId();
+
+        PointSettlement settlement = new PointSettlement();
+        settlement.setMemberId(memberId);
+        settlement.setOrder(orderRepository.getReferenceById(event.getOrderId()));
+        settlement.setAmount(event.getEarnedPoints());
+        settlement.setDescription(String.format("주문 %s 구매확정 포인트 적립", event.getOrderNumber()));
+        settlement.setCreatedAt(LocalDateTime.now());
+        pointSettlementRepository.save(settlement);
+    }
+
+    /**
+     * 적립 대기 건을 주기적으로 정산
+     * 한 묶음을 모두 정산하면 대기 건이 남아 있을 수 있으므로 다음 묶음을 이어서 처리
+     * 기본 5초 간격으로 실행되며, shop.point.settlement.interval-ms 속성으로 조정 가능
+     */
+    @Scheduled(fixedDelayString = "${shop.point.settlement.interval-ms:5000}")
+    public void settlePending() {
+        try {
+            Integer settled;
+            do {
+                settled = transactionTemplate.execute(status -> settleBatch());
+            } while (settled != null && settled == batchSize);
+        } catch (DataAccessException | IllegalStateException e) {
+            // 트랜잭션이 롤백되었으므로 대기 건은 그대로 남아 다음 주기에 다시 정산됨
+            log.warn("Failed to settle points - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 적립 대기 건 한 묶음을 회원별로 묶어 정산 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @return int 정산한 대기 건 수
+     * @throws IllegalStateException 다른 트랜잭션이 같은 대기 건을 먼저 정산한 경우
+     */
+    int settleBatch() {
+        List<PointSettlement> pending = pointSettlementRepository.findPendingForUpdate(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 회원 ID 오름차순으로 묶어 잠금 순서를 고정
+        SortedMap<Long, List<PointSettlement>> byMember = pending.stream()
+                .collect(Collectors.groupingBy(PointSettlement::getMemberId, TreeMap::new, Collectors.toList()));
+        Map<Long, LoyaltyPoint> points = loyaltyPointRepository.findAllByMemberIdInForUpdate(byMember.keySet()).stream()
+                .collect(Collectors.toMap(point -> point.getMember().getMemberId(), Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> histories = new ArrayList<>(pending.size());
+        byMember.forEach((memberId, settlements) -> {
+            LoyaltyPoint point = points.get(memberId);
+            if (point == null) {
+                point = new LoyaltyPoint();
+                point.setMember(memberRepository.getReferenceById(memberId));
+                loyaltyPointRepository.save(point);
+            }
+
+            BigDecimal balance = point.getBalance();
+            for (PointSettlement settlement : settlements) {
+                balance = balance.add(settlement.getAmount());
+                histories.add(new Object[]{memberId, settlement.getAmount(), PointType.EARN.name(),
+                        settlement.getDescription(), settlement.getOrder().getOrderId(), balance, now});
+            }
+            point.setBalance(balance);
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, histories);
+        List<Long> ids = pending.stream().map(PointSettlement::getSettlementId).collect(Collectors.toList());
+        int updated = pointSettlementRepository.markSettled(ids, now);
+        if (updated != ids.size()) {
+            throw new IllegalStateException("Point settlements were settled concurrently: expected "
+                    + ids.size() + ", updated " + updated);
+        }
+
+        log.debug("Settled points - members: {}, orders: {}", byMember.size(), ids.size());
+        return ids.size();
+    }
+}
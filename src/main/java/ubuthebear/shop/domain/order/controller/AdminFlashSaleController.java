@@ -0,0 +1,49 @@
+package ubuthebear.shop.domain.order.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import ubuthebear.shop.domain.order.dto.FlashSaleResponse;
+import ubuthebear.shop.domain.order.service.FlashSaleAdmissionService;
+
+import java.util.List;
+
+/**
+ * 관리자용 플래시 세일 관리 API를 제공하는 컨트롤러
+ * 상품별 플래시 세일 시작/종료와 남은 토큰 조회 엔드포인트를 정의
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see FlashSaleAdmissionService
+ */
+@Tag(name = "Admin Flash Sale", description = "관리자용 플래시 세일 관리 API")
+@RestController
+@RequestMapping("/api/admin/flash-sales")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminFlashSaleController {
+
+    private final FlashSaleAdmissionService flashSaleAdmissionService;
+
+    @Operation(summary = "플래시 세일 목록 조회", description = "진행 중인 플래시 세일 상품과 남은 토큰 수를 조회합니다.")
+    @GetMapping
+    public ResponseEntity<List<FlashSaleResponse>> getFlashSales() {
+        return ResponseEntity.ok(flashSaleAdmissionService.getFlashSales());
+    }
+
+    @Operation(summary = "플래시 세일 시작", description = "상품의 현재 재고만큼 토큰을 적재하고 플래시 세일을 시작합니다.")
+    @PostMapping("/{productId}")
+    public ResponseEntity<FlashSaleResponse> openFlashSale(@PathVariable Long productId) {
+        return ResponseEntity.ok(flashSaleAdmissionService.open(productId));
+    }
+
+    @Operation(summary = "플래시 세일 종료", description = "상품의 플래시 세일을 종료합니다. 이후 주문은 일반 주문으로 처리됩니다.")
+    @DeleteMapping("/{productId}")
+    public ResponseEntity<Void> closeFlashSale(@PathVariable Long productId) {
+        flashSaleAdmissionService.close(productId);
+        return ResponseEntity.noContent().build();
+    }
+}
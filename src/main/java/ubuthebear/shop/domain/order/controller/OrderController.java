@@ -7,13 +7,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import ubuthebear.shop.domain.order.dto.OrderHistoryResponse;
 import ubuthebear.shop.domain.order.dto.OrderRequest;
 import ubuthebear.shop.domain.order.dto.OrderResponse;
+import ubuthebear.shop.domain.order.entity.OrderStatus;
+import ubuthebear.shop.domain.order.service.FlashSaleAdmissionService;
+import ubuthebear.shop.domain.order.service.OrderIdempotencyService;
 import ubuthebear.shop.domain.order.service.OrderService;
 
 import jakarta.validation.Valid;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 주문 관련 REST API를 제공하는 컨트롤러
@@ -30,22 +35,33 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final FlashSaleAdmissionService flashSaleAdmissionService;
 
     /**
      * 새로운 주문을 생성하는 API 엔드포인트
      * POST /api/orders
+     * Idempotency-Key 헤더를 보내면 같은 키로 재시도한 요청에는 새 주문을 만들지 않고 처음 생성된 주문을 반환
+     * 플래시 세일 상품이 포함된 주문은 입장 대기열을 거쳐 비동기로 처리 (품절 409, 대기열 초과 429)
      *
      * @param authentication Spring Security 인증 객체
+     * @param idempotencyKey 멱등성 키 (선택, 최대 100자)
      * @param request 주문 생성 요청 정보
-     * @return ResponseEntity<OrderResponse> 생성된 주문 정보
+     * @return CompletableFuture<ResponseEntity<OrderResponse>> 생성된 주문 정보
      */
-    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다.")
+    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다. Idempotency-Key 헤더로 중복 주문을 방지할 수 있습니다.")
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(
+    public CompletableFuture<ResponseEntity<OrderResponse>> createOrder(
             Authentication authentication,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody OrderRequest request) {
         log.info("Received order request: {}", request);
-        return ResponseEntity.ok(orderService.createOrder(authentication.getName(), request));
+        if (flashSaleAdmissionService.isFlashSaleOrder(request)) {
+            return flashSaleAdmissionService.submit(authentication.getName(), idempotencyKey, request)
+                    .thenApply(ResponseEntity::ok);
+        }
+        return CompletableFuture.completedFuture(ResponseEntity.ok(
+                orderIdempotencyService.createOrder(authentication.getName(), idempotencyKey, request)));
     }
 
     /**
@@ -68,16 +84,42 @@ public class OrderController {
     /**
      * 사용자의 주문 목록 조회
      * GET /api/orders
+     * 전체 주문을 한 번에 조회하므로 커서 기반 조회(/history)를 사용
      *
      * @param authentication 인증 정보
      * @return 주문 목록
      */
-    @Operation(summary = "내 주문 목록 조회", description = "자신의 주문 목록을 조회합니다.")
+    @Operation(summary = "내 주문 목록 조회", description = "자신의 주문 목록을 조회합니다. /api/orders/history를 사용하세요.",
+            deprecated = true)
     @GetMapping
     public ResponseEntity<List<OrderResponse>> getMyOrders(Authentication authentication) {
         return ResponseEntity.ok(orderService.getMyOrders(authentication.getName()));
     }
 
+    /**
+     * 사용자의 주문 내역 커서 기반 조회
+     * GET /api/orders/history
+     *
+     * @param authentication 인증 정보
+     * @param cursor 직전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (1~100)
+     * @param status 주문 상태 필터 (생략 시 전체)
+     * @param includeItems 주문 상품 목록 포함 여부
+     * @return 최신순 주문 요약 목록과 다음 페이지 커서
+     */
+    @Operation(summary = "내 주문 내역 커서 조회",
+            description = "자신의 주문 내역을 최신순으로 커서 기반 조회합니다. 다음 페이지는 응답의 nextCursor를 전달하며, 주문 상품은 includeItems=true일 때만 포함합니다.")
+    @GetMapping("/history")
+    public ResponseEntity<OrderHistoryResponse> getOrderHistory(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false, defaultValue = "false") boolean includeItems) {
+        return ResponseEntity.ok(orderService.getOrderHistory(
+                authentication.getName(), cursor, size, status, includeItems));
+    }
+
     /**
      * 주문 상세 정보 조회
      * GET /api/orders/{orderNumber}
@@ -0,0 +1,19 @@
+package ubuthebear.shop.domain.order.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 플래시 세일 상태를 반환하기 위한 응답 DTO 클래스
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.order.service.FlashSaleAdmissionService
+ */
+@Getter
+@RequiredArgsConstructor
+public class FlashSaleResponse {
+    private final Long productId;           // 플래시 세일 상품 ID
+    private final int remainingTokens;      // 남은 주문 가능 수량 (메모리 토큰 기준)
+    private final int queuedOrders;         // 처리 대기 중인 주문 수 (전체 플래시 세일 공용 대기열)
+}
@@ -0,0 +1,69 @@
+package ubuthebear.shop.domain.order.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 주문 내역 키셋(seek) 페이지네이션에 사용하는 커서
+ * 직전 페이지 마지막 주문의 생성 일시와 주문 ID를 담으며,
+ * 클라이언트에는 Base64(URL-safe)로 인코딩된 불투명 문자열로 전달
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+@Getter
+public class OrderCursor {
+
+    private final LocalDateTime createdAt;  // 마지막 주문의 생성 일시
+    private final Long orderId;             // 마지막 주문의 ID
+
+    private OrderCursor(LocalDateTime createdAt, Long orderId) {
+        this.createdAt = createdAt;
+        this.orderId = orderId;
+    }
+
+    /**
+     * 페이지의 마지막 주문으로 다음 페이지 커서를 생성
+     *
+     * @param last 현재 페이지의 마지막 주문
+     * @return OrderCursor 다음 페이지 커서
+     */
+    public static OrderCursor after(OrderSummaryResponse last) {
+        return new OrderCursor(last.getCreatedAt(), last.getOrderId());
+    }
+
+    /**
+     * 커서 문자열을 해석
+     * 형식: {주문ID}:{생성 일시} (Base64 URL-safe 인코딩)
+     *
+     * @param encoded 클라이언트가 전달한 커서 문자열
+     * @return OrderCursor 해석된 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public static OrderCursor decode(String encoded) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("커서 형식이 올바르지 않습니다.");
+            }
+            return new OrderCursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[0]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + encoded, e);
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 인코딩
+     *
+     * @return String Base64(URL-safe) 인코딩된 커서
+     */
+    public String encode() {
+        String raw = orderId + ":" + createdAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
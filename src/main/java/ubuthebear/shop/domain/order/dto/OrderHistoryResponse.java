@@ -0,0 +1,23 @@
+package ubuthebear.shop.domain.order.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반(키셋) 주문 내역 조회 결과를 반환하기 위한 응답 DTO 클래스
+ * 다음 페이지는 nextCursor를 그대로 전달하여 조회
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OrderSummaryResponse
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderHistoryResponse {
+    private final List<OrderSummaryResponse> content;   // 현재 페이지의 주문 목록 (최신순)
+    private final int size;                             // 요청한 페이지 크기
+    private final boolean hasNext;                      // 다음 페이지 존재 여부
+    private final String nextCursor;                    // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,64 @@
+package ubuthebear.shop.domain.order.dto;
+
+import lombok.Getter;
+import ubuthebear.shop.domain.order.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 내역 목록 조회를 위한 간략화된 응답 DTO 클래스
+ * 목록 표시에 필요한 주문 정보만 포함하며, 주문 상품 목록은 요청한 경우에만 채워짐
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OrderResponse
+ */
+@Getter
+public class OrderSummaryResponse {
+    private final Long orderId;                     // 주문 고유 식별자
+    private final String orderNumber;               // 주문 번호
+    private final OrderStatus status;               // 주문 상태
+    private final BigDecimal totalAmount;           // 총 주문 금액
+    private final int itemCount;                    // 주문 상품 종류 수
+    private final LocalDateTime createdAt;          // 주문 생성 일시
+    private final List<OrderItemResponse> items;    // 주문 상품 목록 (요청하지 않으면 null)
+
+    /**
+     * JPQL 생성자 표현식(SELECT new ...)으로 주문 컬럼만 직접 조회할 때 사용하는 생성자
+     *
+     * @param orderId 주문 ID
+     * @param orderNumber 주문 번호
+     * @param status 주문 상태
+     * @param totalAmount 총 주문 금액
+     * @param itemCount 주문 상품 종류 수
+     * @param createdAt 주문 생성 일시
+     */
+    public OrderSummaryResponse(Long orderId, String orderNumber, OrderStatus status, BigDecimal totalAmount,
+                                Integer itemCount, LocalDateTime createdAt) {
+        this(orderId, orderNumber, status, totalAmount, itemCount != null ? itemCount : 0, createdAt, null);
+    }
+
+    private OrderSummaryResponse(Long orderId, String orderNumber, OrderStatus status, BigDecimal totalAmount,
+                                 int itemCount, LocalDateTime createdAt, List<OrderItemResponse> items) {
+        this.orderId = orderId;
+        this.orderNumber = orderNumber;
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.itemCount = itemCount;
+        this.createdAt = createdAt;
+        this.items = items;
+    }
+
+    /**
+     * 주문 상품 목록을 채운 새 응답을 반환
+     *
+     * @param items 주문 상품 목록
+     * @return OrderSummaryResponse 주문 상품 목록이 포함된 응답
+     */
+    public OrderSummaryResponse withItems(List<OrderItemResponse> items) {
+        return new OrderSummaryResponse(orderId, orderNumber, status, totalAmount, itemCount, createdAt,
+                List.copyOf(items));
+    }
+}
@@ -0,0 +1,81 @@
+package ubuthebear.shop.domain.order.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 생성 요청의 멱등성 키(Idempotency-Key) 처리 기록을 저장하는 엔티티 클래스
+ * 같은 회원이 같은 키로 다시 요청하면 새 주문을 만들지 않고 처음 생성된 주문을 반환하기 위해 사용
+ *
+ * 처리 중(IN_PROGRESS) 기록은 주문 트랜잭션과 별도로 먼저 커밋되므로, 동시에 들어온 중복 요청은
+ * DB 잠금을 기다리지 않고 유니크 제약 위반으로 즉시 감지됨
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.order.service.OrderIdempotencyService
+ */
+@Entity
+@Table(name = "order_idempotency_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_idempotency_user_key",
+                columnNames = {"username", "idempotencyKey"}),
+        indexes = @Index(name = "idx_order_idempotency_claimed_at", columnList = "claimedAt"))
+@Getter @Setter
+@NoArgsConstructor
+public class IdempotencyRecord {
+
+    /**
+     * 멱등성 기록 처리 상태
+     */
+    public enum Status {
+        IN_PROGRESS,    // 주문 처리 중
+        COMPLETED       // 주문 생성 완료
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 요청한 회원의 사용자명
+     */
+    @Column(nullable = false)
+    private String username;
+
+    /**
+     * 클라이언트가 보낸 멱등성 키
+     */
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    /**
+     * 요청 본문의 SHA-256 해시
+     * 같은 키로 다른 내용의 주문을 요청하는 경우를 거부하기 위해 사용
+     */
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /**
+     * 생성된 주문번호 (처리 완료 시 설정)
+     */
+    private String orderNumber;
+
+    /**
+     * 처리를 시작한 일시
+     * 처리 중 상태로 오래 남은 기록(서버 중단 등)을 다시 처리할 수 있는지 판단하는 데 사용
+     */
+    @Column(nullable = false)
+    private LocalDateTime claimedAt;
+
+    /**
+     * 처리 완료 일시
+     */
+    private LocalDateTime completedAt;
+}
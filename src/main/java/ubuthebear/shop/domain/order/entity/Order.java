@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -30,7 +31,10 @@ import static org.antlr.v4.runtime.misc.IntervalSet.subtract;
  * @see Payment
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // 회원별 주문 내역 키셋 페이지네이션용 (회원, 생성 일시, 주문 ID) 복합 인덱스
+        @Index(name = "idx_orders_member_created_at_id", columnList = "member_id, created_at, order_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
@@ -54,7 +58,9 @@ public class Order {
     /**
      * 주문 상품 목록
      * 주문과 함께 저장, 수정, 삭제가 이루어짐 (CascadeType.ALL)
+     * 페치 조인 없이 여러 주문의 상품 목록을 읽을 때는 최대 100개 주문씩 IN 쿼리로 묶어서 로딩
      */
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderItem> orderItems = new ArrayList<>();
 
@@ -0,0 +1,50 @@
+package ubuthebear.shop.domain.order.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import ubuthebear.shop.domain.order.entity.Order;
+import ubuthebear.shop.global.outbox.OutboxMessage;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 주문이 구매확정되었음을 알리는 이벤트
+ * 구매확정 포인트 적립, 확정 수량 집계 등이 구독
+ * 주문 트랜잭션 안에서 아웃박스에 기록되고, 커밋 이후 아웃박스 릴레이가 발행
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.global.outbox.OutboxRelay
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OrderConfirmedEvent extends OutboxMessage {
+    private Long orderId;                   // 주문 ID
+    private String orderNumber;             // 주문 번호
+    private String username;                // 주문자 사용자명
+    private Long memberId;                  // 주문자 회원 ID
+    private LocalDateTime orderedAt;        // 주문 생성 일시
+    private BigDecimal earnedPoints;        // 적립할 포인트
+    private List<OrderLine> lines;          // 주문 상품별 판매 내역
+
+    /**
+     * 주문 엔티티로 이벤트를 생성
+     *
+     * @param order 주문 엔티티 (회원, 주문 상품과 상품이 로딩된 상태여야 함)
+     * @return OrderConfirmedEvent 구매확정 이벤트
+     */
+    public static OrderConfirmedEvent of(Order order) {
+        LocalDateTime orderedAt = order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+        List<OrderLine> lines = order.getOrderItems().stream()
+                .map(OrderLine::of)
+                .collect(Collectors.toList());
+        return new OrderConfirmedEvent(order.getOrderId(), order.getOrderNumber(), order.getMember().getUsername(),
+                order.getMember().getMemberId(), orderedAt, order.getEarnedPoints(), lines);
+    }
+}
@@ -0,0 +1,49 @@
+package ubuthebear.shop.domain.order.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import ubuthebear.shop.domain.order.entity.Order;
+import ubuthebear.shop.global.outbox.OutboxMessage;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 주문이 생성되었음을 알리는 이벤트
+ * 주문 트랜잭션 안에서 아웃박스에 기록되고, 커밋 이후 아웃박스 릴레이가 발행
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.global.outbox.OutboxRelay
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OrderCreatedEvent extends OutboxMessage {
+    private Long orderId;                   // 주문 ID
+    private String orderNumber;             // 주문 번호
+    private String username;                // 주문자 사용자명
+    private LocalDateTime orderedAt;        // 주문 생성 일시
+    private BigDecimal totalAmount;         // 결제 금액 (포인트 차감 후)
+    private BigDecimal usedPoints;          // 사용 포인트
+    private List<OrderLine> lines;          // 주문 상품별 판매 내역
+
+    /**
+     * 주문 엔티티로 이벤트를 생성
+     *
+     * @param order 주문 엔티티 (회원, 주문 상품과 상품이 로딩된 상태여야 함)
+     * @return OrderCreatedEvent 주문 생성 이벤트
+     */
+    public static OrderCreatedEvent of(Order order) {
+        LocalDateTime orderedAt = order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+        List<OrderLine> lines = order.getOrderItems().stream()
+                .map(OrderLine::of)
+                .collect(Collectors.toList());
+        return new OrderCreatedEvent(order.getOrderId(), order.getOrderNumber(), order.getMember().getUsername(), orderedAt,
+                order.getTotalAmount(), order.getUsedPoints(), lines);
+    }
+}
@@ -0,0 +1,39 @@
+package ubuthebear.shop.domain.order.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import ubuthebear.shop.domain.order.entity.OrderItem;
+
+import java.math.BigDecimal;
+
+/**
+ * 주문 이벤트에 담기는 주문 상품 하나의 판매 내역
+ * 아웃박스에 JSON으로 저장했다가 복원하므로 기본 생성자를 둠
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OrderLine {
+    private Long productId;       // 상품 ID
+    private Long categoryId;      // 카테고리 ID (없으면 null)
+    private int quantity;         // 수량
+    private BigDecimal amount;    // 판매 금액 (단가 * 수량)
+
+    /**
+     * 주문 상품 엔티티로 판매 내역을 생성
+     *
+     * @param orderItem 주문 상품 (상품이 로딩된 상태여야 함)
+     * @return OrderLine 판매 내역
+     */
+    public static OrderLine of(OrderItem orderItem) {
+        Long categoryId = orderItem.getProduct().getCategory() != null
+                ? orderItem.getProduct().getCategory().getCategoryId() : null;
+        return new OrderLine(orderItem.getProduct().getProductId(), categoryId,
+                orderItem.getQuantity(), orderItem.getSubtotal());
+    }
+}
@@ -0,0 +1,43 @@
+package ubuthebear.shop.domain.order.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import ubuthebear.shop.domain.shipping.entity.Shipping;
+import ubuthebear.shop.global.outbox.OutboxMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상품이 발송되었음을 알리는 이벤트
+ * 배송 정보를 등록하는 트랜잭션 안에서 아웃박스에 기록되고, 커밋 이후 아웃박스 릴레이가 발행
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.global.outbox.OutboxRelay
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class OrderShippedEvent extends OutboxMessage {
+    private Long orderId;                           // 주문 ID
+    private String orderNumber;                     // 주문 번호
+    private String username;                        // 주문자 사용자명
+    private Long shippingId;                        // 배송 ID
+    private String carrier;                         // 택배사
+    private String trackingNumber;                  // 운송장 번호
+    private LocalDateTime estimatedDeliveryDate;    // 예상 배송 완료일
+
+    /**
+     * 저장된 배송 정보로 이벤트를 생성
+     *
+     * @param shipping 배송 엔티티 (ID가 할당된 상태여야 함)
+     * @return OrderShippedEvent 발송 이벤트
+     */
+    public static OrderShippedEvent of(Shipping shipping) {
+        return new OrderShippedEvent(shipping.getOrder().getOrderId(), shipping.getOrder().getOrderNumber(),
+                shipping.getOrder().getMember().getUsername(), shipping.getShippingId(),
+                shipping.getCarrier(), shipping.getTrackingNumber(), shipping.getEstimatedDeliveryDate());
+    }
+}
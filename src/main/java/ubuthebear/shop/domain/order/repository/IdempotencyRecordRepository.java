@@ -0,0 +1,84 @@
+package ubuthebear.shop.domain.order.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ubuthebear.shop.domain.order.entity.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 주문 멱등성 기록 데이터 접근을 위한 리포지토리 인터페이스
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see IdempotencyRecord
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    /**
+     * 회원과 멱등성 키로 기록을 조회
+     *
+     * @param username 사용자명
+     * @param idempotencyKey 멱등성 키
+     * @return Optional<IdempotencyRecord> 조회된 기록 (없으면 빈 Optional)
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    Optional<IdempotencyRecord> findByUsernameAndIdempotencyKey(String username, String idempotencyKey);
+
+    /**
+     * 처리 중 상태로 오래 남은 기록을 현재 요청이 다시 점유
+     * 조건부 UPDATE로 처리하므로 여러 요청이 동시에 시도해도 하나만 성공함
+     *
+     * @param id 기록 ID
+     * @param staleBefore 이 시각 이전에 점유된 기록만 다시 점유 가능
+     * @param claimedAt 새 점유 시각
+     * @return int 변경된 행 수 (다른 요청이 먼저 점유했거나 이미 완료되었으면 0)
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.claimedAt = :claimedAt WHERE r.id = :id " +
+            "AND r.status = ubuthebear.shop.domain.order.entity.IdempotencyRecord.Status.IN_PROGRESS " +
+            "AND r.claimedAt < :staleBefore")
+    int reclaimStale(Long id, LocalDateTime staleBefore, LocalDateTime claimedAt);
+
+    /**
+     * 처리 중인 기록을 완료 상태로 변경
+     *
+     * @param id 기록 ID
+     * @param orderNumber 생성된 주문번호
+     * @param completedAt 완료 일시
+     * @return int 변경된 행 수
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.status = ubuthebear.shop.domain.order.entity.IdempotencyRecord.Status.COMPLETED, " +
+            "r.orderNumber = :orderNumber, r.completedAt = :completedAt WHERE r.id = :id")
+    int complete(Long id, String orderNumber, LocalDateTime completedAt);
+
+    /**
+     * 처리 중인 기록을 삭제 (주문 생성이 실패하여 같은 키로 다시 시도할 수 있도록 함)
+     *
+     * @param id 기록 ID
+     * @return int 삭제된 행 수
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id " +
+            "AND r.status = ubuthebear.shop.domain.order.entity.IdempotencyRecord.Status.IN_PROGRESS")
+    int release(Long id);
+
+    /**
+     * 보관 기간이 지난 기록을 삭제
+     *
+     * @param before 이 시각 이전에 점유된 기록을 삭제
+     * @return int 삭제된 행 수
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.claimedAt < :before")
+    int deleteClaimedBefore(LocalDateTime before);
+}
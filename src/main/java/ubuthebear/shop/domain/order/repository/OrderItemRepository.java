@@ -3,14 +3,19 @@ package ubuthebear.shop.domain.order.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import ubuthebear.shop.domain.member.entity.Member;
 import ubuthebear.shop.domain.order.entity.OrderItem;
 import ubuthebear.shop.domain.product.entity.Product;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 주문 상품 데이터 접근을 위한 리포지토리 인터페이스
@@ -33,6 +38,19 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
      */
     Page<OrderItem> findByProduct(Product product, Pageable pageable);
 
+    /**
+     * 여러 주문의 주문 상품을 상품과 함께 한 번에 조회
+     * 주문 내역 페이지에서 주문 상품 목록을 요청한 경우 페이지 단위로 한 번만 조회하기 위해 사용
+     * 상품의 상세 정보는 즉시 로딩되는 역방향 일대일 연관관계이므로, 상품마다 추가 조회가 일어나지 않도록 함께 조회
+     *
+     * @param orderIds 주문 ID 목록
+     * @return List<OrderItem> 상품과 상품 상세가 함께 로딩된 주문 상품 목록 (주문 ID, 주문 상품 ID 오름차순)
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product p LEFT JOIN FETCH p.productDetail " +
+            "WHERE oi.order.orderId IN :orderIds ORDER BY oi.order.orderId, oi.orderItemId")
+    List<OrderItem> findWithProductByOrderIdIn(Collection<Long> orderIds);
+
     /**
      * 특정 기간 동안의 상품별 판매 수량을 집계
      * 매출 통계 등에 활용
@@ -46,6 +64,21 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
      * 특정 회원이 특정 상품을 구매했는지 확인
      * 리뷰 작성 자격 검증 등에 사용
      */
+    /**
+     * 기간 내 주문 상품의 판매 집계용 컬럼만 스트림으로 조회 (판매 집계 구간 재집계용)
+     * 반드시 트랜잭션 안에서 사용하고, 사용 후 스트림을 닫아야 함
+     *
+     * @param startDate 시작 일시 (포함)
+     * @param endDate 종료 일시 (미포함)
+     * @return Stream<Object[]> [productId, categoryId, quantity, price, orderCreatedAt, orderStatus, orderNumber] 배열 스트림
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p.productId, c.categoryId, oi.quantity, oi.price, o.createdAt, o.status, o.orderNumber FROM OrderItem oi " +
+            "JOIN oi.order o JOIN oi.product p LEFT JOIN p.category c " +
+            "WHERE o.createdAt >= :startDate AND o.createdAt < :endDate")
+    Stream<Object[]> streamSalesLines(LocalDateTime startDate, LocalDateTime endDate);
+
     @Query("SELECT CASE WHEN COUNT(oi) > 0 THEN true ELSE false END FROM OrderItem oi " +
             "WHERE oi.order.member = :member AND oi.product = :product")
     boolean existsByMemberAndProduct(Member member, Product product);
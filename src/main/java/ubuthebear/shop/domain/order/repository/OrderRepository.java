@@ -1,6 +1,9 @@
 package ubuthebear.shop.domain.order.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ubuthebear.shop.domain.member.entity.Member;
 import ubuthebear.shop.domain.order.entity.Order;
@@ -21,7 +24,7 @@ import java.util.Optional;
  * @see OrderStatus
  */
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
     /**
      * 주문번호로 주문을 조회
      *
@@ -31,13 +34,31 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     Optional<Order> findByOrderNumber(String orderNumber);
 
+    /**
+     * 주문번호로 주문을 응답 생성에 필요한 연관 정보와 함께 조회
+     * 회원, 배송지, 결제 수단, 주문 상품과 상품(상세 정보 포함)을 한 번의 조인 쿼리로 가져오므로
+     * OrderResponse를 만들 때 지연 로딩 쿼리가 추가로 발생하지 않음
+     *
+     * @param orderNumber 조회할 주문번호
+     * @return Optional<Order> 연관 정보가 함께 로딩된 주문 (없으면 빈 Optional)
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @EntityGraph(attributePaths = {"member", "deliveryAddress", "paymentMethod",
+            "orderItems", "orderItems.product", "orderItems.product.productDetail"})
+    Optional<Order> findWithDetailsByOrderNumber(String orderNumber);
+
     /**
      * 특정 회원의 모든 주문 내역을 조회
      *
+     * 배송지, 결제 수단, 주문 상품과 상품(상세 정보 포함)을 한 번의 조인 쿼리로 함께 가져오므로
+     * 주문 수와 관계없이 일정한 수의 쿼리로 OrderResponse 목록을 만들 수 있음
+     *
      * @param member 조회할 회원 엔티티
      * @return List<Order> 해당 회원의 전체 주문 목록
      * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
      */
+    @EntityGraph(attributePaths = {"deliveryAddress", "paymentMethod",
+            "orderItems", "orderItems.product", "orderItems.product.productDetail"})
     List<Order> findByMember(Member member);
 
     /**
@@ -71,4 +92,19 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
      */
     List<Order> findByStatus(OrderStatus status);
-}
\ No newline at end of file
+
+    /**
+     * 주어진 값 이상이면서 길이가 같은 주문번호를 내림차순으로 조회
+     * 주문번호 생성기가 시작할 때 가장 최근에 발급된 번호 이후부터 이어서 발급하도록 사용
+     * 하한값으로 최근 날짜의 범위만 읽으므로 주문번호 유니크 인덱스의 범위 스캔으로 처리됨
+     *
+     * @param from 조회할 주문번호 하한 (이 값 이상)
+     * @param length 주문번호 길이 (다른 형식의 예전 주문번호 제외)
+     * @param pageable 조회 건수 (첫 페이지만 사용)
+     * @return List<String> 주문번호 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT o.orderNumber FROM Order o WHERE o.orderNumber >= :from " +
+            "AND LENGTH(o.orderNumber) = :length ORDER BY o.orderNumber DESC")
+    List<String> findLatestOrderNumbers(String from, int length, Pageable pageable);
+}
@@ -0,0 +1,29 @@
+package ubuthebear.shop.domain.order.repository;
+
+import ubuthebear.shop.domain.order.dto.OrderCursor;
+import ubuthebear.shop.domain.order.dto.OrderSummaryResponse;
+import ubuthebear.shop.domain.order.entity.OrderStatus;
+
+import java.util.List;
+
+/**
+ * 동적 조건이 필요한 주문 조회를 위한 커스텀 리포지토리 인터페이스
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OrderRepositoryCustomImpl
+ */
+public interface OrderRepositoryCustom {
+
+    /**
+     * 회원의 주문 내역을 최신순으로 키셋 방식 조회
+     * (생성 일시, 주문 ID) 조건으로 시작 위치를 찾으므로 주문 수와 페이지 깊이에 관계없이 일정한 비용으로 조회
+     *
+     * @param username 주문자의 사용자명
+     * @param status 주문 상태 (null이면 전체)
+     * @param cursor 직전 페이지의 커서 (null이면 첫 페이지)
+     * @param limit 조회할 최대 주문 수
+     * @return List<OrderSummaryResponse> 생성 일시, 주문 ID 내림차순 주문 요약 목록 (주문 상품 미포함)
+     */
+    List<OrderSummaryResponse> findHistoryByKeyset(String username, OrderStatus status, OrderCursor cursor, int limit);
+}
@@ -0,0 +1,51 @@
+package ubuthebear.shop.domain.order.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import ubuthebear.shop.domain.order.dto.OrderCursor;
+import ubuthebear.shop.domain.order.dto.OrderSummaryResponse;
+import ubuthebear.shop.domain.order.entity.OrderStatus;
+
+import java.util.List;
+
+/**
+ * {@link OrderRepositoryCustom}의 JPQL 기반 구현체
+ * 필터 조건에 따라 쿼리 문자열을 조합하며, 값은 모두 파라미터로 바인딩
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+public class OrderRepositoryCustomImpl implements OrderRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<OrderSummaryResponse> findHistoryByKeyset(String username, OrderStatus status,
+                                                          OrderCursor cursor, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT new ubuthebear.shop.domain.order.dto.OrderSummaryResponse(" +
+                "o.orderId, o.orderNumber, o.status, o.totalAmount, SIZE(o.orderItems), o.createdAt) " +
+                "FROM Order o WHERE o.member.username = :username");
+        if (status != null) {
+            jpql.append(" AND o.status = :status");
+        }
+        if (cursor != null) {
+            // (생성 일시, 주문 ID) 튜플 비교를 인덱스가 활용 가능한 OR 조건으로 풀어서 작성
+            jpql.append(" AND (o.createdAt < :lastCreatedAt" +
+                    " OR (o.createdAt = :lastCreatedAt AND o.orderId < :lastId))");
+        }
+        jpql.append(" ORDER BY o.createdAt DESC, o.orderId DESC");
+
+        TypedQuery<OrderSummaryResponse> query = entityManager.createQuery(jpql.toString(), OrderSummaryResponse.class);
+        query.setParameter("username", username);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (cursor != null) {
+            query.setParameter("lastCreatedAt", cursor.getCreatedAt());
+            query.setParameter("lastId", cursor.getOrderId());
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,254 @@
+package ubuthebear.shop.domain.order.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import ubuthebear.shop.domain.order.dto.FlashSaleResponse;
+import ubuthebear.shop.domain.order.dto.OrderItemRequest;
+import ubuthebear.shop.domain.order.dto.OrderRequest;
+import ubuthebear.shop.domain.order.dto.OrderResponse;
+import ubuthebear.shop.domain.product.event.ProductStockChangedEvent;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 한정 수량 상품의 플래시 세일 주문을 받아들이는 입장(admission) 제어 서비스
+ * 인기 상품 판매 시작 시 주문 요청이 같은 상품 행에 몰려 커넥션 풀이 고갈되는 것을 막기 위해,
+ * DB에 접근하기 전에 메모리에서 주문 가능 여부를 판단하고 처리 동시성을 제한
+ *
+ * - 플래시 세일을 시작하면 상품의 현재 재고만큼 메모리 토큰을 적재
+ * - 주문 요청은 먼저 토큰을 차감하며, 토큰이 부족하면 DB 접근 없이 즉시 409 Conflict
+ * - 토큰을 얻은 요청만 크기가 제한된 대기열에 들어가 고정된 수의 작업 스레드가 기존 주문 생성 로직으로 처리
+ *   (대기열이 가득 차면 429 Too Many Requests)
+ * - 주문 생성이 실패하거나, 같은 멱등성 키의 재요청이라 이전 주문을 다시 반환한 경우 차감한 토큰을 반환
+ *   (이미 완료된 재요청은 로컬 캐시에 있으면 토큰을 차감하기 전에 걸러내어 매진 응답을 받지 않도록 함)
+ * - 토큰을 차감했지만 주문 생성이 끝나지 않은 수량(처리 중 수량)을 따로 세어,
+ *   세일을 다시 시작할 때 현재 재고에서 빼고 토큰을 적재 (아직 커밋되지 않은 주문의 수량을 중복 판매하지 않음)
+ *
+ * 토큰은 서버별 메모리 값이므로 최종 재고 정합성은 주문 생성 시의 조건부 재고 차감이 보장
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OrderIdempotencyService
+ */
+@Slf4j
+@Service
+public class FlashSaleAdmissionService {
+
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final ProductRepository productRepository;
+    private final ThreadPoolExecutor executor;
+    private final Map<Long, AtomicInteger> tokens = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public FlashSaleAdmissionService(OrderIdempotencyService orderIdempotencyService,
+                                     ProductRepository productRepository,
+                                     @Value("${shop.flash-sale.workers:4}") int workers,
+                                     @Value("${shop.flash-sale.queue-capacity:200}") int queueCapacity) {
+        this.orderIdempotencyService = orderIdempotencyService;
+        this.productRepository = productRepository;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "flash-sale-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 상품의 플래시 세일을 시작 (현재 재고에서 처리 중 수량을 뺀 만큼 토큰 적재)
+     * 이미 진행 중이면 같은 기준으로 토큰을 다시 적재
+     *
+     * @param productId 상품 ID
+     * @return FlashSaleResponse 플래시 세일 상태
+     * @throws RuntimeException 상품을 찾을 수 없는 경우
+     */
+    public FlashSaleResponse open(Long productId) {
+        int stockQuantity = productRepository.findStockQuantityById(productId)
+                .orElseThrow(() -> new RuntimeException("Product not found"));
+        // 토큰을 가진 작업이 커밋하면 재고가 줄어들므로, 그 수량은 아직 재고에 남아 있어도 토큰으로 다시 내주지 않음
+        int pending = inFlightCounter(productId).get();
+        int available = Math.max(0, stockQuantity - pending);
+        tokens.put(productId, new AtomicInteger(available));
+        log.info("Flash sale opened - productId: {}, tokens: {}, in-flight: {}", productId, available, pending);
+        return new FlashSaleResponse(productId, available, executor.getQueue().size());
+    }
+
+    /**
+     * 상품의 플래시 세일을 종료 (이후 주문은 일반 주문 경로로 처리)
+     *
+     * @param productId 상품 ID
+     * @throws RuntimeException 진행 중인 플래시 세일이 없는 경우
+     */
+    public void close(Long productId) {
+        if (tokens.remove(productId) == null) {
+            throw new RuntimeException("Flash sale not found");
+        }
+        log.info("Flash sale closed - productId: {}", productId);
+    }
+
+    /**
+     * 진행 중인 플래시 세일 목록을 조회
+     *
+     * @return List<FlashSaleResponse> 상품 ID 오름차순 플래시 세일 상태 목록
+     */
+    public List<FlashSaleResponse> getFlashSales() {
+        int queued = executor.getQueue().size();
+        return tokens.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+                .map(entry -> new FlashSaleResponse(entry.getKey(), entry.getValue().get(), queued))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 주문에 플래시 세일 상품이 포함되어 있는지 확인
+     *
+     * @param request 주문 생성 요청 정보
+     * @return boolean 플래시 세일 상품 포함 여부
+     */
+    public boolean isFlashSaleOrder(OrderRequest request) {
+        if (tokens.isEmpty()) {
+            return false;
+        }
+        return request.getItems().stream().anyMatch(item -> tokens.containsKey(item.getProductId()));
+    }
+
+    /**
+     * 플래시 세일 상품이 포함된 주문을 토큰 차감 후 대기열에 넣어 처리
+     *
+     * @param username 주문자의 사용자명
+     * @param idempotencyKey 멱등성 키 (없으면 null)
+     * @param request 주문 생성 요청 정보
+     * @return CompletableFuture<OrderResponse> 작업 스레드에서 주문 생성이 끝나면 완료되는 결과
+     * @throws ResponseStatusException 토큰이 부족하거나(409), 대기열이 가득 찬 경우(429)
+     */
+    public CompletableFuture<OrderResponse> submit(String username, String idempotencyKey, OrderRequest request) {
+        // 이미 완료된 재요청은 토큰을 차감하지 않고 이전 응답을 반환 (로컬 캐시만 확인하여 DB에 접근하지 않음)
+        Optional<OrderResponse> replayed = orderIdempotencyService.findCompletedOrder(username, idempotencyKey, request);
+        if (replayed.isPresent()) {
+            return CompletableFuture.completedFuture(replayed.get());
+        }
+
+        // 매진이면 DB에 접근하지 않고 409 (캐시에 없는 재요청도 매진 응답을 받으며, 주문 조회로 결과를 확인)
+        Map<Long, Integer> acquired = acquireTokens(request);
+
+        CompletableFuture<OrderResponse> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    OrderIdempotencyService.IdempotentOrder order =
+                            orderIdempotencyService.createOrderOnce(username, idempotencyKey, request);
+                    if (order.replayed()) {
+                        // 재고가 차감되지 않은 재요청이므로 토큰을 돌려줌
+                        releaseTokens(acquired);
+                    } else {
+                        finishTokens(acquired);
+                    }
+                    result.complete(order.response());
+                } catch (Throwable e) {
+                    releaseTokens(acquired);
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            releaseTokens(acquired);
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many flash sale orders. Please retry");
+        }
+        return result;
+    }
+
+    /**
+     * 주문 취소 등으로 재고가 늘어나면 늘어난 만큼 토큰을 추가
+     * 주문으로 차감된 재고는 이미 토큰을 차감했으므로 반영하지 않음
+     *
+     * @param event 재고 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        for (ProductStockChangedEvent.StockChange change : event.getChanges()) {
+            AtomicInteger counter = tokens.get(change.getProductId());
+            int increase = change.getStockQuantity() - change.getPreviousStockQuantity();
+            if (counter != null && increase > 0) {
+                counter.addAndGet(increase);
+            }
+        }
+    }
+
+    // 플래시 세일 상품별 수량만큼 토큰을 차감. 하나라도 부족하면 이미 차감한 토큰을 되돌리고 거부
+    private Map<Long, Integer> acquireTokens(OrderRequest request) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderItemRequest item : request.getItems()) {
+            if (tokens.containsKey(item.getProductId()) && item.getQuantity() != null && item.getQuantity() > 0) {
+                quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            }
+        }
+
+        Map<Long, Integer> acquired = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            // 처리 중 수량을 먼저 늘려 두어, 토큰 차감과 세일 재시작이 겹쳐도 재시작 쪽이 적게 적재하도록 함
+            AtomicInteger pending = inFlightCounter(entry.getKey());
+            pending.addAndGet(entry.getValue());
+            AtomicInteger counter = tokens.get(entry.getKey());
+            if (counter == null || !tryAcquire(counter, entry.getValue())) {
+                pending.addAndGet(-entry.getValue());
+                releaseTokens(acquired);
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Sold out: productId=" + entry.getKey());
+            }
+            acquired.put(entry.getKey(), entry.getValue());
+        }
+        return acquired;
+    }
+
+    private AtomicInteger inFlightCounter(Long productId) {
+        return inFlight.computeIfAbsent(productId, id -> new AtomicInteger());
+    }
+
+    private static boolean tryAcquire(AtomicInteger counter, int quantity) {
+        while (true) {
+            int remaining = counter.get();
+            if (remaining < quantity) {
+                return false;
+            }
+            if (counter.compareAndSet(remaining, remaining - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    // 주문이 커밋되어 재고에 반영되었으므로 처리 중 수량에서만 제외
+    private void finishTokens(Map<Long, Integer> acquired) {
+        acquired.forEach((productId, quantity) -> inFlightCounter(productId).addAndGet(-quantity));
+    }
+
+    // 처리 중 수량에서 제외하고 토큰을 반환 (플래시 세일이 종료되어 카운터가 없으면 반환하지 않음)
+    private void releaseTokens(Map<Long, Integer> acquired) {
+        acquired.forEach((productId, quantity) -> {
+            inFlightCounter(productId).addAndGet(-quantity);
+            AtomicInteger counter = tokens.get(productId);
+            if (counter != null) {
+                counter.addAndGet(quantity);
+            }
+        });
+    }
+}
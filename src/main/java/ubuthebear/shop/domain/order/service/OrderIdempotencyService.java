@@ -0,0 +1,271 @@
+package ubuthebear.shop.domain.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import ubuthebear.shop.domain.order.dto.OrderRequest;
+import ubuthebear.shop.domain.order.dto.OrderResponse;
+import ubuthebear.shop.domain.order.entity.IdempotencyRecord;
+import ubuthebear.shop.domain.order.repository.IdempotencyRecordRepository;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 멱등성 키(Idempotency-Key)를 이용해 주문 생성 요청의 중복 처리를 막는 서비스 클래스
+ * 모바일 클라이언트가 응답 시간 초과로 같은 주문을 재시도해도 주문, 재고 차감, 포인트 사용이 한 번만 일어나도록 함
+ *
+ * 처리 흐름
+ * 1. 로컬 캐시에 완료된 응답이 있으면 DB 조회 없이 그대로 반환
+ * 2. 별도 트랜잭션으로 처리 중(IN_PROGRESS) 기록을 먼저 커밋하여 키를 점유 (잠금을 잡고 기다리지 않음)
+ *    - 이미 완료된 키면 저장된 주문번호로 주문을 조회하여 반환
+ *    - 다른 요청이 처리 중이면 409 Conflict
+ *    - 같은 키로 내용이 다른 요청이면 422 Unprocessable Entity
+ * 3. 주문 생성과 기록 완료 처리를 한 트랜잭션으로 커밋 (주문만 커밋되고 기록이 남지 않는 경우가 없음)
+ * 4. 주문 생성이 실패하면 점유 기록을 삭제하여 같은 키로 다시 시도할 수 있도록 함
+ *
+ * 트랜잭션 경계를 단계별로 직접 나누므로 클래스 단위 @Transactional을 사용하지 않음
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see IdempotencyRecord
+ * @see OrderService#createOrder(String, OrderRequest)
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderService orderService;
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final Duration staleAfter;
+    private final Duration retention;
+    private final Cache<String, CompletedOrder> completedOrders;
+
+    public OrderIdempotencyService(OrderService orderService,
+                                   IdempotencyRecordRepository recordRepository,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${shop.order.idempotency.stale-after-seconds:300}") long staleAfterSeconds,
+                                   @Value("${shop.order.idempotency.retention-hours:24}") long retentionHours,
+                                   @Value("${shop.order.idempotency.cache-max-size:10000}") long cacheMaxSize) {
+        this.orderService = orderService;
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+        this.retention = Duration.ofHours(retentionHours);
+        this.completedOrders = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(Math.min(retention.toMinutes(), 10)))
+                .build();
+    }
+
+    /**
+     * 완료된 주문 응답과 요청 해시 (로컬 캐시 값)
+     */
+    private record CompletedOrder(String requestHash, OrderResponse response) {
+    }
+
+    /**
+     * 멱등성 키를 적용한 주문 생성 결과
+     *
+     * @param response 생성된(또는 이전에 생성된) 주문 정보
+     * @param replayed 이전에 완료된 요청의 응답을 다시 반환한 경우 true (이번 호출로 재고가 차감되지 않음)
+     */
+    public record IdempotentOrder(OrderResponse response, boolean replayed) {
+    }
+
+    /**
+     * 멱등성 키를 적용하여 주문을 생성
+     * 키가 없으면 기존과 동일하게 주문을 바로 생성
+     *
+     * @param username 주문자의 사용자명
+     * @param idempotencyKey 클라이언트가 보낸 멱등성 키 (없으면 null)
+     * @param request 주문 생성 요청 정보
+     * @return OrderResponse 생성된(또는 이전에 생성된) 주문 정보
+     * @throws ResponseStatusException 키가 너무 길거나(400), 같은 키의 요청이 처리 중이거나(409), 같은 키로 다른 요청을 보낸 경우(422)
+     * @throws RuntimeException 주문 생성에 실패한 경우
+     */
+    public OrderResponse createOrder(String username, String idempotencyKey, OrderRequest request) {
+        return createOrderOnce(username, idempotencyKey, request).response();
+    }
+
+    /**
+     * 멱등성 키를 적용하여 주문을 생성하고, 이전 응답을 다시 반환했는지 함께 알려줌
+     * 주문 생성 전에 재고 토큰 등을 미리 차감한 호출자가 재요청인 경우 차감분을 되돌릴 수 있도록 사용
+     *
+     * @param username 주문자의 사용자명
+     * @param idempotencyKey 클라이언트가 보낸 멱등성 키 (없으면 null)
+     * @param request 주문 생성 요청 정보
+     * @return IdempotentOrder 주문 정보와 재요청 여부
+     * @throws ResponseStatusException 키가 너무 길거나(400), 같은 키의 요청이 처리 중이거나(409), 같은 키로 다른 요청을 보낸 경우(422)
+     * @throws RuntimeException 주문 생성에 실패한 경우
+     */
+    public IdempotentOrder createOrderOnce(String username, String idempotencyKey, OrderRequest request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return new IdempotentOrder(orderService.createOrder(username, request), false);
+        }
+        validateKey(idempotencyKey);
+
+        String requestHash = hash(request);
+        String cacheKey = username + "\n" + idempotencyKey;
+        CompletedOrder cached = completedOrders.getIfPresent(cacheKey);
+        if (cached != null) {
+            verifySameRequest(cached.requestHash(), requestHash);
+            return new IdempotentOrder(cached.response(), true);
+        }
+
+        IdempotencyRecord record = claim(username, idempotencyKey, requestHash);
+        if (record.getStatus() == IdempotencyRecord.Status.COMPLETED) {
+            OrderResponse response = orderService.getOrder(username, record.getOrderNumber());
+            completedOrders.put(cacheKey, new CompletedOrder(requestHash, response));
+            return new IdempotentOrder(response, true);
+        }
+
+        OrderResponse response;
+        try {
+            response = transactionTemplate.execute(status -> {
+                OrderResponse created = orderService.createOrder(username, request);
+                recordRepository.complete(record.getId(), created.getOrderNumber(), LocalDateTime.now());
+                return created;
+            });
+        } catch (RuntimeException e) {
+            release(record);
+            throw e;
+        }
+        completedOrders.put(cacheKey, new CompletedOrder(requestHash, response));
+        return new IdempotentOrder(response, false);
+    }
+
+    /**
+     * 같은 키로 이미 완료된 주문이 로컬 캐시에 있으면 키를 점유하지 않고 그 주문 정보를 반환
+     * DB는 조회하지 않으므로 매진 상황처럼 요청이 몰리는 경로에서도 커넥션을 쓰지 않음
+     *
+     * @param username 주문자의 사용자명
+     * @param idempotencyKey 클라이언트가 보낸 멱등성 키 (없으면 빈 결과)
+     * @param request 주문 생성 요청 정보
+     * @return Optional<OrderResponse> 이전에 완료된 주문 정보 (캐시에 없으면 빈 결과)
+     * @throws ResponseStatusException 키가 너무 길거나(400), 같은 키로 다른 요청을 보낸 경우(422)
+     */
+    public Optional<OrderResponse> findCompletedOrder(String username, String idempotencyKey, OrderRequest request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return Optional.empty();
+        }
+        validateKey(idempotencyKey);
+
+        CompletedOrder cached = completedOrders.getIfPresent(username + "\n" + idempotencyKey);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        verifySameRequest(cached.requestHash(), hash(request));
+        return Optional.of(cached.response());
+    }
+
+    /**
+     * 보관 기간이 지난 멱등성 기록을 삭제
+     * 기본 1시간 간격으로 실행되며, shop.order.idempotency.purge-interval-ms 속성으로 조정 가능
+     */
+    @Scheduled(fixedDelayString = "${shop.order.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> recordRepository.deleteClaimedBefore(before));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged expired idempotency records - count: {}", deleted);
+        }
+    }
+
+    // 처리 중 기록을 커밋하여 키를 점유. 이미 기록이 있으면 완료된 기록을 반환하거나 중복 요청을 거부
+    private IdempotencyRecord claim(String username, String idempotencyKey, String requestHash) {
+        try {
+            return newTransactionTemplate.execute(status -> {
+                IdempotencyRecord record = new IdempotencyRecord();
+                record.setUsername(username);
+                record.setIdempotencyKey(idempotencyKey);
+                record.setRequestHash(requestHash);
+                record.setStatus(IdempotencyRecord.Status.IN_PROGRESS);
+                record.setClaimedAt(LocalDateTime.now());
+                return recordRepository.saveAndFlush(record);
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Idempotency key already claimed - username: {}, key: {}", username, idempotencyKey);
+        }
+
+        IdempotencyRecord existing = newTransactionTemplate.execute(status ->
+                recordRepository.findByUsernameAndIdempotencyKey(username, idempotencyKey).orElse(null));
+        if (existing == null) {
+            // 먼저 점유한 요청이 실패하여 기록이 삭제된 경우
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "A request with the same Idempotency-Key has just failed. Please retry");
+        }
+        verifySameRequest(existing.getRequestHash(), requestHash);
+        if (existing.getStatus() == IdempotencyRecord.Status.COMPLETED) {
+            return existing;
+        }
+
+        // 처리 중 상태로 오래 남은 기록은 이전 처리가 중단된 것으로 보고 다시 점유
+        LocalDateTime now = LocalDateTime.now();
+        Integer reclaimed = newTransactionTemplate.execute(status ->
+                recordRepository.reclaimStale(existing.getId(), now.minus(staleAfter), now));
+        if (reclaimed != null && reclaimed == 1) {
+            log.warn("Reclaimed stale idempotency record - username: {}, key: {}", username, idempotencyKey);
+            return existing;
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT,
+                "A request with the same Idempotency-Key is already in progress");
+    }
+
+    private void release(IdempotencyRecord record) {
+        try {
+            newTransactionTemplate.executeWithoutResult(status -> recordRepository.release(record.getId()));
+        } catch (RuntimeException e) {
+            // 삭제하지 못한 기록은 staleAfter 이후 다시 점유 가능
+            log.warn("Failed to release idempotency record - id: {}, error: {}", record.getId(), e.getMessage());
+        }
+    }
+
+    private static void validateKey(String idempotencyKey) {
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private static void verifySameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used with a different request");
+        }
+    }
+
+    // 요청 본문을 JSON으로 직렬화한 값의 SHA-256 해시
+    private String hash(OrderRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to hash order request", e);
+        }
+    }
+}
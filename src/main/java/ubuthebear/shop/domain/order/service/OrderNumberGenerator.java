@@ -0,0 +1,20 @@
+package ubuthebear.shop.domain.order.service;
+
+/**
+ * 주문번호 생성 전략 인터페이스
+ * 주문번호는 orderNumber 컬럼의 유니크 제약을 통과해야 하므로, 구현체는 여러 서버에서 동시에 호출되어도
+ * 중복되지 않는 값을 DB 조회 없이 만들어야 함
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see SnowflakeOrderNumberGenerator
+ */
+public interface OrderNumberGenerator {
+
+    /**
+     * 새 주문번호를 생성
+     *
+     * @return String 중복되지 않는 주문번호
+     */
+    String generate();
+}
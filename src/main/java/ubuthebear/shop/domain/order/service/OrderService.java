@@ -8,20 +8,32 @@ import ubuthebear.shop.domain.member.entity.Address;
 import ubuthebear.shop.domain.member.entity.Member;
 import ubuthebear.shop.domain.member.entity.PaymentMethod;
 import ubuthebear.shop.domain.member.service.LoyaltyPointService;
+import ubuthebear.shop.domain.order.dto.OrderCursor;
+import ubuthebear.shop.domain.order.dto.OrderHistoryResponse;
 import ubuthebear.shop.domain.order.dto.OrderItemRequest;
+import ubuthebear.shop.domain.order.dto.OrderItemResponse;
 import ubuthebear.shop.domain.order.dto.OrderRequest;
 import ubuthebear.shop.domain.order.dto.OrderResponse;
+import ubuthebear.shop.domain.order.dto.OrderSummaryResponse;
 import ubuthebear.shop.domain.order.entity.*;
+import ubuthebear.shop.domain.order.event.OrderCancelledEvent;
+import ubuthebear.shop.domain.order.event.OrderConfirmedEvent;
+import ubuthebear.shop.domain.order.event.OrderCreatedEvent;
+import ubuthebear.shop.domain.order.repository.OrderItemRepository;
 import ubuthebear.shop.domain.order.repository.OrderRepository;
 import ubuthebear.shop.domain.member.repository.MemberRepository;
 import ubuthebear.shop.domain.product.entity.Product;
 import ubuthebear.shop.domain.product.repository.ProductRepository;
+import ubuthebear.shop.domain.product.service.ProductStockService;
+import ubuthebear.shop.global.outbox.OutboxWriter;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -36,9 +48,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)  // 기본적으로 읽기 전용 트랜잭션으로 설정
 public class OrderService {
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
     private final LoyaltyPointService loyaltyPointService;
+    private final ProductStockService productStockService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OutboxWriter outboxWriter;
 
     private static final BigDecimal POINT_EARN_RATE = new BigDecimal("0.01"); // 1% 적립
 
@@ -93,11 +109,11 @@ public class OrderService {
         order.setEarnedPoints(earnablePoints);
 
         // 주문번호 생성 및 설정
-        String orderNumber = generateOrderNumber();
-        order.setOrderNumber(orderNumber);
+        order.setOrderNumber(orderNumberGenerator.generate());
 
         // 주문 저장
         Order savedOrder = orderRepository.save(order);
+        outboxWriter.append(savedOrder.getOrderNumber(), OrderCreatedEvent.of(savedOrder));
 
         // 포인트 사용 처리
         if (request.getUsePoints().compareTo(BigDecimal.ZERO) > 0) {
@@ -112,18 +128,10 @@ public class OrderService {
         return new OrderResponse(savedOrder);
     }
 
-    // 주문번호 생성 메서드
-    private String generateOrderNumber() {
-        LocalDateTime now = LocalDateTime.now();
-        String datePart = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        // 고유성을 위한 랜덤 또는 시퀀스 번호
-        String randomPart = String.format("%06d", (int)(Math.random() * 1000000));
-        return "ORD" + datePart + randomPart;
-    }
-
     /**
      * 주문을 취소하고 재고를 복구
      * PENDING 또는 PAID 상태의 주문만 취소 가능
+     * 사용 포인트 환급은 커밋 이후 주문 취소 이벤트를 받아 처리
      *
      * @param username 주문자의 사용자명
      * @param orderNumber 취소할 주문 번호
@@ -132,7 +140,7 @@ public class OrderService {
      */
     @Transactional
     public OrderResponse cancelOrder(String username, String orderNumber) {
-        Order order = orderRepository.findByOrderNumber(orderNumber)
+        Order order = orderRepository.findWithDetailsByOrderNumber(orderNumber)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
         if (!order.getMember().getUsername().equals(username)) {
@@ -143,29 +151,21 @@ public class OrderService {
             throw new RuntimeException("Order cannot be cancelled");
         }
 
-        // 재고 복구
-        order.getOrderItems().forEach(item -> {
-            Product product = item.getProduct();
-            product.setStockQuantity(product.getStockQuantity() + item.getQuantity());
-        });
-
-        // 사용한 포인트 환급
-        if (order.getUsedPoints().compareTo(BigDecimal.ZERO) > 0) {
-            loyaltyPointService.cancelPointUse(
-                    username,
-                    order.getUsedPoints(),
-                    "주문 취소로 인한 포인트 환급",
-                    order
-            );
-        }
+        // 재고 복구 (조건 없는 증가 UPDATE로 처리하여 동시 주문과 갱신이 충돌하지 않음)
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        order.getOrderItems().forEach(item ->
+                quantities.merge(item.getProduct().getProductId(), item.getQuantity(), Integer::sum));
+        productStockService.increaseStock(quantities);
 
         order.setStatus(OrderStatus.CANCELLED);
+        outboxWriter.append(order.getOrderNumber(), OrderCancelledEvent.of(order));
         return new OrderResponse(order);
     }
 
     /**
      * 주문 구매확정 및 포인트 적립
      * PAID/DELIVERED 상태에서만 가능
+     * 포인트 적립은 커밋 이후 구매확정 이벤트를 받아 처리
      *
      * @param username 주문자 ID
      * @param orderNumber 확정할 주문 번호
@@ -174,7 +174,7 @@ public class OrderService {
      */
     @Transactional
     public OrderResponse confirmOrder(String username, String orderNumber) {
-        Order order = orderRepository.findByOrderNumber(orderNumber)
+        Order order = orderRepository.findWithDetailsByOrderNumber(orderNumber)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
         if (!order.getMember().getUsername().equals(username)) {
@@ -187,42 +187,51 @@ public class OrderService {
             throw new RuntimeException("Order cannot be confirmed. Current status: " + order.getStatus());
         }
 
-        // 포인트 적립
-        if (order.getEarnedPoints().compareTo(BigDecimal.ZERO) > 0) {
-            loyaltyPointService.earnPoints(
-                    username,
-                    order.getEarnedPoints(),
-                    String.format("주문 %s 구매확정 포인트 적립", order.getOrderNumber()),
-                    order
-            );
-        }
-
         order.setStatus(OrderStatus.COMPLETED);
+        outboxWriter.append(order.getOrderNumber(), OrderConfirmedEvent.of(order));
         return new OrderResponse(orderRepository.save(order));
     }
 
     /**
      * 주문상품 추가 및 재고 차감
-     * 재고 부족시 예외 발생
+     * 같은 상품이 여러 줄로 요청되면 수량을 합쳐 하나의 주문상품으로 만들고,
+     * 요청된 상품 전체를 한 번의 IN 쿼리로 조회하여 상품 수만큼 조회가 반복되지 않도록 함
+     * 재고는 상품별 조건부 UPDATE로 차감하며, 재고가 부족한 상품이 있으면 해당 상품들을 모두 사유에 담아 예외 발생
      */
     private void addOrderItems(Order order, List<OrderItemRequest> items) {
+        // 수량 검증 및 중복 상품 병합 (상품 ID 오름차순)
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
         for (OrderItemRequest itemRequest : items) {
-            Product product = productRepository.findById(itemRequest.getProductId())
-                    .orElseThrow(() -> new RuntimeException("Product not found"));
-
-            // 재고 확인
-            if (product.getStockQuantity() < itemRequest.getQuantity()) {
-                throw new RuntimeException("Insufficient stock");
+            if (itemRequest.getProductId() == null) {
+                throw new RuntimeException("Product ID is required");
             }
+            if (itemRequest.getQuantity() == null || itemRequest.getQuantity() <= 0) {
+                throw new RuntimeException("Invalid quantity for productId="
+                        + itemRequest.getProductId() + ": " + itemRequest.getQuantity());
+            }
+            quantities.merge(itemRequest.getProductId(), itemRequest.getQuantity(), Math::addExact);
+        }
 
+        Map<Long, Product> products = productRepository.findAllById(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+        List<Long> missing = quantities.keySet().stream()
+                .filter(productId -> !products.containsKey(productId))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Product not found: " + missing);
+        }
+
+        quantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
             OrderItem orderItem = new OrderItem();
             orderItem.setProduct(product);
-            orderItem.setQuantity(itemRequest.getQuantity());
+            orderItem.setQuantity(quantity);
             orderItem.setPrice(product.getPrice());
             order.addOrderItem(orderItem);
+        });
 
-            product.setStockQuantity(product.getStockQuantity() - itemRequest.getQuantity());
-        }
+        // 재고 확인과 차감을 한 문장으로 처리 (상품 ID 오름차순)
+        productStockService.decreaseStock(quantities);
     }
 
     /**
@@ -241,6 +250,46 @@ public class OrderService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자의 주문 내역을 최신순으로 커서 기반(키셋) 조회
+     * 주문 상품 목록은 includeItems가 true인 경우에만 페이지 단위로 한 번에 조회하여 채움
+     *
+     * @param username 조회할 사용자명
+     * @param cursor 직전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1~100)
+     * @param status 주문 상태 필터 (null이면 전체)
+     * @param includeItems 주문 상품 목록 포함 여부
+     * @return OrderHistoryResponse 주문 요약 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 페이지 크기가 범위를 벗어나거나 커서가 잘못된 경우
+     */
+    public OrderHistoryResponse getOrderHistory(String username, String cursor, int size,
+                                                OrderStatus status, boolean includeItems) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1~100 사이여야 합니다.");
+        }
+        OrderCursor after = (cursor == null || cursor.isBlank()) ? null : OrderCursor.decode(cursor);
+
+        // 한 건을 더 조회하여 다음 페이지 존재 여부를 COUNT 없이 판단
+        List<OrderSummaryResponse> orders = orderRepository.findHistoryByKeyset(username, status, after, size + 1);
+        boolean hasNext = orders.size() > size;
+        if (hasNext) {
+            orders = orders.subList(0, size);
+        }
+        String nextCursor = hasNext ? OrderCursor.after(orders.get(orders.size() - 1)).encode() : null;
+
+        if (includeItems && !orders.isEmpty()) {
+            Map<Long, List<OrderItemResponse>> itemsByOrderId = orderItemRepository
+                    .findWithProductByOrderIdIn(orders.stream().map(OrderSummaryResponse::getOrderId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(item -> item.getOrder().getOrderId(),
+                            Collectors.mapping(OrderItemResponse::new, Collectors.toList())));
+            orders = orders.stream()
+                    .map(order -> order.withItems(itemsByOrderId.getOrDefault(order.getOrderId(), List.of())))
+                    .collect(Collectors.toList());
+        }
+        return new OrderHistoryResponse(orders, size, hasNext, nextCursor);
+    }
+
     /**
      * 특정 주문의 상세 정보를 조회
      * 본인의 주문만 조회 가능
@@ -251,7 +300,7 @@ public class OrderService {
      * @throws RuntimeException 주문을 찾을 수 없거나 권한이 없는 경우
      */
     public OrderResponse getOrder(String username, String orderNumber) {
-        Order order = orderRepository.findByOrderNumber(orderNumber)
+        Order order = orderRepository.findWithDetailsByOrderNumber(orderNumber)
                 .orElseThrow(() -> new RuntimeException("Order not found"));
 
         if (!order.getMember().getUsername().equals(username)) {
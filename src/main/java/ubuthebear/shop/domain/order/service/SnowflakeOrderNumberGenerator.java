@@ -0,0 +1,139 @@
+package ubuthebear.shop.domain.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import ubuthebear.shop.domain.order.repository.OrderRepository;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식(시각 + 노드 ID + 시퀀스)의 주문번호 생성기
+ * 형식: "ORD" + yyyyMMdd + 13자리 36진수 (예: ORD2025010100A1B2C3D4E5F)
+ *
+ * 36진수 부분은 다음 63비트 값을 표현
+ * - 41비트: 기준 시각(2024-01-01) 이후 경과 밀리초
+ * - 10비트: 노드 ID (서버별로 달라야 함, 0~1023)
+ * - 12비트: 같은 밀리초 안의 시퀀스 (0~4095)
+ *
+ * 시각과 시퀀스를 하나의 AtomicLong에 묶어 CAS로 갱신하므로 락 없이 스레드 간 중복이 없고,
+ * 한 밀리초에 시퀀스를 다 쓰거나 시스템 시계가 뒤로 가면 논리 시각을 1ms씩 앞당겨 계속 증가시킴 (대기하지 않음)
+ * 같은 노드에서 생성된 주문번호는 문자열 순서로도 항상 증가
+ *
+ * 노드 ID는 서버마다 다르게 반드시 지정해야 하며, 지정하지 않으면 애플리케이션이 시작되지 않음
+ * 시작할 때 DB에 저장된 가장 최근 주문번호 이후부터 발급하므로, 재시작 전 논리 시각이 실제 시각보다 앞서 있었거나
+ * 재시작 사이에 시계가 뒤로 가도 이미 발급한 (시각, 시퀀스)를 다시 쓰지 않음
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+
+    private static final String PREFIX = "ORD";
+    private static final long EPOCH = 1704067200000L;     // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ID_LENGTH = Long.toString(Long.MAX_VALUE, 36).length();
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int ORDER_NUMBER_LENGTH = PREFIX.length() + 8 + ID_LENGTH;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    // (기준 시각 이후 경과 밀리초 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong lastState = new AtomicLong();
+
+    /**
+     * @param nodeId 노드 ID (0~1023, shop.order.number.node-id 필수)
+     * @param orderRepository 가장 최근 주문번호 조회용
+     * @throws IllegalStateException 노드 ID가 지정되지 않은 경우
+     */
+    @Autowired
+    public SnowflakeOrderNumberGenerator(@Value("${shop.order.number.node-id:-1}") long nodeId,
+                                         OrderRepository orderRepository) {
+        this(requireNodeId(nodeId), System::currentTimeMillis);
+        // 어제 날짜 이후의 주문번호만 확인 (논리 시각이 실제 시각보다 앞서는 폭은 그보다 훨씬 작음)
+        String from = PREFIX + DATE_FORMAT.format(Instant.now().atZone(zone).minusDays(1));
+        List<String> latest = orderRepository.findLatestOrderNumbers(from, ORDER_NUMBER_LENGTH, PageRequest.of(0, 1));
+        if (!latest.isEmpty()) {
+            resumeAfter(latest.get(0));
+        }
+    }
+
+    SnowflakeOrderNumberGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        log.info("Order number generator initialized - nodeId: {}", nodeId);
+    }
+
+    @Override
+    public String generate() {
+        long state = nextState();
+        long elapsed = state >>> SEQUENCE_BITS;
+        long id = (elapsed << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (state & SEQUENCE_MASK);
+
+        String date = DATE_FORMAT.format(Instant.ofEpochMilli(EPOCH + elapsed).atZone(zone));
+        String encoded = Long.toString(id, 36).toUpperCase();
+        StringBuilder orderNumber = new StringBuilder(PREFIX.length() + date.length() + ID_LENGTH)
+                .append(PREFIX).append(date);
+        for (int i = encoded.length(); i < ID_LENGTH; i++) {
+            orderNumber.append('0');
+        }
+        return orderNumber.append(encoded).toString();
+    }
+
+    /**
+     * 주어진 주문번호의 시각까지는 이미 사용된 것으로 보고, 이후 번호는 그보다 큰 논리 시각에서 발급
+     * (다른 노드의 번호여도 시각 기준으로만 비교하므로 안전)
+     *
+     * @param orderNumber 이전에 발급된 주문번호
+     */
+    void resumeAfter(String orderNumber) {
+        long id;
+        try {
+            id = Long.parseLong(orderNumber.substring(orderNumber.length() - ID_LENGTH), 36);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring unrecognized order number while seeding generator - orderNumber: {}", orderNumber);
+            return;
+        }
+        long elapsed = id >>> (NODE_BITS + SEQUENCE_BITS);
+        long seed = (elapsed << SEQUENCE_BITS) | SEQUENCE_MASK;
+        lastState.accumulateAndGet(seed, Math::max);
+        log.info("Order number generator resumed after {}", orderNumber);
+    }
+
+    // 현재 시각이 마지막 시각보다 뒤면 시퀀스 0부터, 아니면 마지막 값 + 1 (시퀀스가 넘치면 논리 시각이 1ms 증가)
+    private long nextState() {
+        while (true) {
+            long last = lastState.get();
+            long now = clock.getAsLong() - EPOCH;
+            long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+            if (lastState.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static long requireNodeId(long nodeId) {
+        if (nodeId < 0) {
+            throw new IllegalStateException("shop.order.number.node-id must be set to a unique value (0-"
+                    + MAX_NODE_ID + ") for each server");
+        }
+        return nodeId;
+    }
+}
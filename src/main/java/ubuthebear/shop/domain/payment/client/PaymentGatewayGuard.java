@@ -0,0 +1,126 @@
+package ubuthebear.shop.domain.payment.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ubuthebear.shop.domain.payment.dto.PaymentGatewayStatusResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 결제 게이트웨이 호출을 서킷 브레이커와 벌크헤드로 감싸 장애를 격리하는 컴포넌트
+ *
+ * 서킷 브레이커는 최근 일정 시간 동안의 호출 중 실패 비율이나 느린 호출 비율이 기준을 넘으면 열려(OPEN)
+ * 게이트웨이를 호출하지 않고 즉시 CallNotPermittedException으로 실패시키며,
+ * 대기 시간이 지나면 반열림(HALF_OPEN) 상태에서 일부 호출만 통과시켜 회복 여부를 확인
+ * 4xx 응답(카드 거절 등 정상적인 업무 오류)은 실패로 집계하지 않음
+ *
+ * 벌크헤드는 결제 게이트웨이로 동시에 나가는 호출 수를 제한하여, 게이트웨이가 느려져도
+ * 결제 외 요청이 사용할 자원이 남도록 하고 한도를 넘는 호출은 대기 없이 BulkheadFullException으로 거절
+ *
+ * 상태 전이와 거절된 호출 수는 {@link #getStatus()}로 조회
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see TossPaymentsClient
+ */
+@Slf4j
+@Component
+public class PaymentGatewayGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Map<String, AtomicLong> stateTransitions = new ConcurrentHashMap<>();
+    private final AtomicLong notPermittedCalls = new AtomicLong();
+    private final AtomicLong bulkheadRejectedCalls = new AtomicLong();
+
+    public PaymentGatewayGuard(@Value("${shop.payment.gateway.failure-rate-threshold:50}") float failureRateThreshold,
+                               @Value("${shop.payment.gateway.slow-call-duration-ms:3000}") long slowCallDurationMs,
+                               @Value("${shop.payment.gateway.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+                               @Value("${shop.payment.gateway.sliding-window-seconds:60}") int slidingWindowSeconds,
+                               @Value("${shop.payment.gateway.minimum-calls:20}") int minimumCalls,
+                               @Value("${shop.payment.gateway.open-duration-ms:30000}") long openDurationMs,
+                               @Value("${shop.payment.gateway.half-open-calls:5}") int halfOpenCalls,
+                               @Value("${shop.payment.gateway.max-concurrent-calls:20}") int maxConcurrentCalls) {
+        this.circuitBreaker = CircuitBreaker.of("tossPayments", CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.TIME_BASED)
+                .slidingWindowSize(slidingWindowSeconds)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .waitDurationInOpenState(Duration.ofMillis(openDurationMs))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(PaymentGatewayGuard::isGatewayFailure)
+                .build());
+        this.bulkhead = Bulkhead.of("tossPayments", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> {
+                    String transition = event.getStateTransition().getFromState() + "->"
+                            + event.getStateTransition().getToState();
+                    stateTransitions.computeIfAbsent(transition, key -> new AtomicLong()).incrementAndGet();
+                    log.warn("Payment gateway circuit breaker state changed - {}", transition);
+                })
+                .onCallNotPermitted(event -> notPermittedCalls.incrementAndGet());
+        bulkhead.getEventPublisher()
+                .onCallRejected(event -> bulkheadRejectedCalls.incrementAndGet());
+    }
+
+    /**
+     * 게이트웨이 호출을 벌크헤드와 서킷 브레이커를 거쳐 실행
+     * 거절된 호출은 게이트웨이에 요청을 보내지 않고 예외로 완료된 future를 반환
+     *
+     * @param call 게이트웨이 호출
+     * @return CompletableFuture<T> 호출 결과
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletionStage<T>> call) {
+        Supplier<CompletionStage<T>> guarded = Bulkhead.decorateCompletionStage(bulkhead,
+                CircuitBreaker.decorateCompletionStage(circuitBreaker, call));
+        return guarded.get().toCompletableFuture();
+    }
+
+    /**
+     * 서킷 브레이커와 벌크헤드의 현재 상태와 누적 지표를 조회
+     *
+     * @return PaymentGatewayStatusResponse 게이트웨이 보호 상태
+     */
+    public PaymentGatewayStatusResponse getStatus() {
+        CircuitBreaker.Metrics metrics = circuitBreaker.getMetrics();
+        Map<String, Long> transitions = new TreeMap<>();
+        stateTransitions.forEach((transition, count) -> transitions.put(transition, count.get()));
+        return new PaymentGatewayStatusResponse(
+                circuitBreaker.getState().name(),
+                metrics.getFailureRate(),
+                metrics.getSlowCallRate(),
+                metrics.getNumberOfBufferedCalls(),
+                notPermittedCalls.get(),
+                bulkhead.getMetrics().getAvailableConcurrentCalls(),
+                bulkhead.getMetrics().getMaxAllowedConcurrentCalls(),
+                bulkheadRejectedCalls.get(),
+                transitions);
+    }
+
+    // 게이트웨이 장애로 볼 예외인지 판단 (연결 실패, 시간 초과, 5xx 응답)
+    static boolean isGatewayFailure(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause() : throwable;
+        return !(cause instanceof TossPaymentsException e) || e.getStatusCode() >= 500;
+    }
+}
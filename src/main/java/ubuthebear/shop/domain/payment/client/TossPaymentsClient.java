@@ -0,0 +1,157 @@
+package ubuthebear.shop.domain.payment.client;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토스페이먼츠 결제 API 클라이언트
+ * 애플리케이션 전체에서 하나의 java.net.http.HttpClient를 공유하므로 연결이 재사용(keep-alive)되고,
+ * 서버가 지원하면 HTTP/2로 하나의 연결에서 여러 요청을 동시에 처리
+ *
+ * 연결/응답 시간 제한을 항상 적용하며, 모든 호출은 요청 스레드를 막지 않는 CompletableFuture로 결과를 반환
+ * 2xx 이외의 응답은 {@link TossPaymentsException}, 연결 실패나 시간 초과는 IOException 계열 예외로 완료됨
+ * 모든 호출은 {@link PaymentGatewayGuard}를 거치므로, 게이트웨이 장애 시에는 호출하지 않고
+ * CallNotPermittedException 또는 BulkheadFullException으로 즉시 완료될 수 있음
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class TossPaymentsClient {
+
+    private final PaymentGatewayGuard gatewayGuard;
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final String apiUrl;
+    private final String authHeader;
+    private final Duration readTimeout;
+
+    public TossPaymentsClient(PaymentGatewayGuard gatewayGuard,
+                              @Value("${toss.payments.api-url:https://api.tosspayments.com/v1}") String apiUrl,
+                              @Value("${toss.payments.secret.key}") String secretKey,
+                              @Value("${toss.payments.connect-timeout-ms:3000}") long connectTimeoutMs,
+                              @Value("${toss.payments.read-timeout-ms:10000}") long readTimeoutMs,
+                              @Value("${toss.payments.client-threads:8}") int clientThreads) {
+        this.gatewayGuard = gatewayGuard;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(clientThreads, runnable -> {
+            Thread thread = new Thread(runnable, "toss-payments-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)     // 지원하지 않는 서버와는 HTTP/1.1로 통신
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(executor)
+                .build();
+        this.apiUrl = apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+        this.authHeader = "Basic " + Base64.getEncoder()
+                .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+    }
+
+    /**
+     * 결제 승인 API 호출
+     *
+     * @param paymentKey 결제 키
+     * @param orderId 주문 ID
+     * @param amount 결제 금액
+     * @return CompletableFuture<JSONObject> 승인된 결제 정보
+     */
+    public CompletableFuture<JSONObject> confirm(String paymentKey, String orderId, BigDecimal amount) {
+        JSONObject body = new JSONObject()
+                .put("paymentKey", paymentKey)
+                .put("orderId", orderId)
+                .put("amount", amount);
+        return post("/payments/confirm", body);
+    }
+
+    /**
+     * 결제 취소 API 호출
+     *
+     * @param paymentKey 취소할 결제의 결제 키
+     * @param cancelReason 취소 사유
+     * @return CompletableFuture<JSONObject> 취소된 결제 정보
+     */
+    public CompletableFuture<JSONObject> cancel(String paymentKey, String cancelReason) {
+        JSONObject body = new JSONObject().put("cancelReason", cancelReason);
+        return post("/payments/" + URLEncoder.encode(paymentKey, StandardCharsets.UTF_8) + "/cancel", body);
+    }
+
+    /**
+     * 결제 조회 API 호출
+     * 승인/취소 요청 결과를 알 수 없는 결제의 실제 상태를 확인하는 데 사용
+     *
+     * @param paymentKey 결제 키
+     * @return CompletableFuture<JSONObject> 결제 정보 (status: DONE, CANCELED, ABORTED 등)
+     */
+    public CompletableFuture<JSONObject> getPayment(String paymentKey) {
+        String path = "/payments/" + URLEncoder.encode(paymentKey, StandardCharsets.UTF_8);
+        return send(path, newRequest(path).GET().build());
+    }
+
+    private CompletableFuture<JSONObject> post(String path, JSONObject body) {
+        return send(path, newRequest(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8))
+                .build());
+    }
+
+    private HttpRequest.Builder newRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(apiUrl + path))
+                .timeout(readTimeout)
+                .header("Authorization", authHeader);
+    }
+
+    private CompletableFuture<JSONObject> send(String path, HttpRequest request) {
+        return gatewayGuard.execute(() ->
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                        .thenApply(response -> toJson(path, response)));
+    }
+
+    private static JSONObject toJson(String path, HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            return new JSONObject(response.body());
+        }
+
+        String errorCode = null;
+        String message = response.body();
+        try {
+            JSONObject error = new JSONObject(response.body());
+            errorCode = error.optString("code", null);
+            message = error.optString("message", message);
+        } catch (JSONException ignored) {
+            // JSON이 아닌 오류 응답은 본문을 그대로 사유로 사용
+        }
+        log.warn("Toss Payments API error - path: {}, status: {}, code: {}", path, status, errorCode);
+        throw new TossPaymentsException(status, errorCode, message);
+    }
+
+    /**
+     * 애플리케이션 종료 시 HTTP 클라이언트 작업 스레드를 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,23 @@
+package ubuthebear.shop.domain.payment.client;
+
+import lombok.Getter;
+
+/**
+ * 토스페이먼츠 API가 오류 응답(2xx 이외)을 반환한 경우의 예외
+ * 연결 실패나 응답 시간 초과처럼 응답을 받지 못한 경우는 java.io.IOException 계열로 전달됨
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see TossPaymentsClient
+ */
+@Getter
+public class TossPaymentsException extends RuntimeException {
+    private final int statusCode;   // HTTP 상태 코드
+    private final String errorCode; // 토스페이먼츠 오류 코드 (응답 본문의 code, 없으면 null)
+
+    public TossPaymentsException(int statusCode, String errorCode, String message) {
+        super("Toss Payments API call failed: status=" + statusCode + ", code=" + errorCode + ", message=" + message);
+        this.statusCode = statusCode;
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,36 @@
+package ubuthebear.shop.domain.payment.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ubuthebear.shop.domain.payment.client.PaymentGatewayGuard;
+import ubuthebear.shop.domain.payment.dto.PaymentGatewayStatusResponse;
+
+/**
+ * 관리자용 결제 게이트웨이 상태 조회 API를 제공하는 컨트롤러
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see PaymentGatewayGuard
+ */
+@Tag(name = "Admin Payment Gateway", description = "관리자용 결제 게이트웨이 상태 API")
+@RestController
+@RequestMapping("/api/admin/payments/gateway")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminPaymentGatewayController {
+
+    private final PaymentGatewayGuard paymentGatewayGuard;
+
+    @Operation(summary = "결제 게이트웨이 상태 조회",
+            description = "서킷 브레이커 상태, 최근 실패/느린 호출 비율, 벌크헤드 사용량과 거절된 호출 수를 조회합니다.")
+    @GetMapping
+    public ResponseEntity<PaymentGatewayStatusResponse> getGatewayStatus() {
+        return ResponseEntity.ok(paymentGatewayGuard.getStatus());
+    }
+}
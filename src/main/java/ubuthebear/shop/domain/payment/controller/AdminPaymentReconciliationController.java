@@ -0,0 +1,44 @@
+package ubuthebear.shop.domain.payment.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ubuthebear.shop.domain.payment.dto.ReconciliationReportResponse;
+import ubuthebear.shop.domain.payment.service.PaymentReconciliationService;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자용 결제 대사 API를 제공하는 컨트롤러
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see PaymentReconciliationService
+ */
+@Tag(name = "Admin Payment Reconciliation", description = "관리자용 결제 대사 API")
+@RestController
+@RequestMapping("/api/admin/payments/reconciliations")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminPaymentReconciliationController {
+
+    private final PaymentReconciliationService paymentReconciliationService;
+
+    @Operation(summary = "결제 대사 실행",
+            description = "입력 디렉토리에 올려둔 PG사 정산 파일과 기간 내 결제를 주문 번호 기준으로 대사합니다. " +
+                    "금액 불일치, 상태 불일치, 우리 쪽 누락, 정산 파일 누락을 리포트 파일로 남기고 요약을 반환합니다.")
+    @PostMapping
+    public ResponseEntity<ReconciliationReportResponse> reconcile(
+            @RequestParam String file,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(paymentReconciliationService.reconcile(file, from, to));
+    }
+}
@@ -0,0 +1,27 @@
+package ubuthebear.shop.domain.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 결제 게이트웨이 서킷 브레이커/벌크헤드 상태 응답 DTO
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.payment.client.PaymentGatewayGuard
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentGatewayStatusResponse {
+    private final String circuitState;                  // 서킷 브레이커 상태 (CLOSED, OPEN, HALF_OPEN)
+    private final float failureRate;                    // 최근 실패 비율 (%, 최소 호출 수 미달 시 -1)
+    private final float slowCallRate;                   // 최근 느린 호출 비율 (%, 최소 호출 수 미달 시 -1)
+    private final int bufferedCalls;                    // 집계 구간의 호출 수
+    private final long notPermittedCalls;               // 서킷이 열려 거절된 누적 호출 수
+    private final int availableConcurrentCalls;         // 벌크헤드 여유 동시 호출 수
+    private final int maxConcurrentCalls;               // 벌크헤드 최대 동시 호출 수
+    private final long bulkheadRejectedCalls;           // 동시 호출 한도 초과로 거절된 누적 호출 수
+    private final Map<String, Long> stateTransitions;   // 상태 전이별 누적 횟수 (예: CLOSED->OPEN)
+}
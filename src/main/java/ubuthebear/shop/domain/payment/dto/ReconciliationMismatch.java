@@ -0,0 +1,35 @@
+package ubuthebear.shop.domain.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제 대사 결과 불일치 한 건을 나타내는 DTO
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ReconciliationReportResponse
+ */
+@Getter
+@AllArgsConstructor
+public class ReconciliationMismatch {
+
+    /**
+     * 불일치 유형
+     */
+    public enum Type {
+        AMOUNT_MISMATCH,    // 양쪽에 있으나 금액이 다름
+        STATUS_MISMATCH,    // 양쪽에 있으나 상태가 맞지 않음
+        MISSING_LOCALLY,    // 정산 파일에만 있음
+        MISSING_REMOTELY    // 완료/취소된 결제가 정산 파일에 없음
+    }
+
+    private final Type type;                // 불일치 유형
+    private final String orderId;           // 주문 번호
+    private final BigDecimal localAmount;   // 우리 쪽 결제 금액 (없으면 null)
+    private final BigDecimal remoteAmount;  // 정산 파일 금액 (없으면 null)
+    private final String localStatus;       // 우리 쪽 결제 상태 (없으면 null)
+    private final String remoteStatus;      // 정산 파일 상태 (없으면 null)
+}
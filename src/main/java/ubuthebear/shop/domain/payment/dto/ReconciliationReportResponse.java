@@ -0,0 +1,27 @@
+package ubuthebear.shop.domain.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 결제 대사 결과 요약 응답 DTO
+ * 전체 불일치 목록은 리포트 파일(CSV)에 기록되며, 응답에는 유형별 건수와 앞부분 일부만 포함
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ReconciliationMismatch
+ */
+@Getter
+@AllArgsConstructor
+public class ReconciliationReportResponse {
+    private final String settlementFile;                                // 대사한 정산 파일명
+    private final String reportFile;                                    // 불일치 리포트 파일 경로
+    private final long localCount;                                      // 대사한 우리 쪽 결제 수
+    private final long remoteCount;                                     // 정산 파일 거래 수
+    private final long matchedCount;                                    // 금액/상태가 일치한 주문 수
+    private final Map<ReconciliationMismatch.Type, Long> mismatchCounts; // 불일치 유형별 건수
+    private final List<ReconciliationMismatch> samples;                 // 불일치 일부 (앞에서부터)
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,7 +17,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments",
+        indexes = @Index(name = "idx_payments_status_created_at", columnList = "status, created_at"))
 @Getter @Setter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
@@ -39,7 +42,8 @@ public class Payment {
     private BigDecimal amount;  // 결제 금액
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)  // 네이티브 ENUM 대신 문자열 컬럼 (db/migration/payment_status_varchar.sql 참고)
+    @Column(nullable = false, length = 20)
     private PaymentStatus status; // 결제 상태
 
     @Column(length = 50)
@@ -53,6 +57,7 @@ public class Payment {
     private String failureReason;      // 실패 사유
     private LocalDateTime cancelledAt; // 취소 시간
     private String cancelReason;      // 취소 사유
+    private LocalDateTime claimedAt;  // 승인/취소 요청 시작 시간 (CONFIRMING, CANCELLING 상태에서만 사용)
 
     @CreatedDate
     @Column(updatable = false)
@@ -71,10 +76,34 @@ public class Payment {
         return payment;
     }
 
+    // 결제 승인 요청 시작 (게이트웨이 호출 전에 커밋)
+    public void markAsConfirming(String paymentKey) {
+        this.paymentKey = paymentKey;
+        this.status = PaymentStatus.CONFIRMING;
+        this.claimedAt = LocalDateTime.now();
+    }
+
+    // 결제 취소 요청 시작 (게이트웨이 호출 전에 커밋)
+    public void markAsCancelling(String reason) {
+        this.status = PaymentStatus.CANCELLING;
+        this.cancelReason = reason;
+        this.claimedAt = LocalDateTime.now();
+    }
+
+    // 게이트웨이에서 처리되지 않은 승인/취소 요청을 이전 상태로 되돌림
+    public void revertClaim(PaymentStatus previousStatus) {
+        this.status = previousStatus;
+        this.claimedAt = null;
+        if (previousStatus == PaymentStatus.COMPLETED) {
+            this.cancelReason = null;
+        }
+    }
+
     // 결제 성공 처리
     public void markAsComplete(String paymentKey, PaymentSuccessDetail detail) {
         this.paymentKey = paymentKey;
         this.status = PaymentStatus.COMPLETED;
+        this.claimedAt = null;
         this.paymentMethod = detail.getPaymentMethod();
         this.cardNumber = detail.getCardNumber();
         this.cardCompany = detail.getCardCompany();
@@ -86,6 +115,7 @@ public class Payment {
     public void markAsFailed(String reason) {
         this.status = PaymentStatus.FAILED;
         this.failureReason = reason;
+        this.claimedAt = null;
     }
 
     // 결제 취소 처리
@@ -93,5 +123,6 @@ public class Payment {
         this.status = PaymentStatus.CANCELLED;
         this.cancelReason = reason;
         this.cancelledAt = LocalDateTime.now();
+        this.claimedAt = null;
     }
 }
\ No newline at end of file
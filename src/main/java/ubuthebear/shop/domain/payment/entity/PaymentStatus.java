@@ -2,7 +2,10 @@ package ubuthebear.shop.domain.payment.entity;
 
 public enum PaymentStatus {
     PENDING,     // 결제 대기
+    CONFIRMING,  // 결제 승인 요청 중 (게이트웨이 응답 대기)
     COMPLETED,   // 결제 완료
+    CANCELLING,  // 결제 취소 요청 중 (게이트웨이 응답 대기)
     FAILED,      // 결제 실패
+    EXPIRED,     // 결제 만료 (준비 후 승인되지 않음)
     CANCELLED    // 결제 취소
 }
@@ -1,12 +1,17 @@
 package ubuthebear.shop.domain.payment.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import ubuthebear.shop.domain.member.entity.Member;
 import ubuthebear.shop.domain.payment.entity.Payment;
 import ubuthebear.shop.domain.payment.entity.PaymentStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,4 +30,48 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByOrderId(String orderId);
     List<Payment> findByMemberOrderByCreatedAtDesc(Member member);
     List<Payment> findByStatusAndCreatedAtBefore(PaymentStatus status, LocalDateTime dateTime);
+
+    /**
+     * 특정 상태로 기준 시각 이전에 생성된 결제의 ID를 키셋 방식으로 조회
+     * 엔티티를 적재하지 않고 ID만 일정 건수씩 읽어 대량 정리 작업에 사용
+     *
+     * @param status 결제 상태
+     * @param createdBefore 이 시각 이전에 생성된 결제만 조회
+     * @param afterId 직전 묶음의 마지막 ID (첫 묶음은 0)
+     * @param pageable 조회 건수
+     * @return List<Long> 결제 ID 목록 (오름차순)
+     */
+    @Query("SELECT p.id FROM Payment p WHERE p.status = :status AND p.createdAt < :createdBefore " +
+            "AND p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsByStatusAndCreatedAtBefore(PaymentStatus status, LocalDateTime createdBefore,
+                                                 Long afterId, Pageable pageable);
+
+    /**
+     * 승인/취소 요청 중 상태로 오래 남은 결제를 조회 (게이트웨이 호출 후 서버 중단 등)
+     *
+     * @param statuses 조회할 상태 (CONFIRMING, CANCELLING)
+     * @param claimedBefore 이 시각 이전에 요청이 시작된 결제만 조회
+     * @return List<Payment> 복구 대상 결제 목록
+     */
+    List<Payment> findByStatusInAndClaimedAtBefore(Collection<PaymentStatus> statuses, LocalDateTime claimedBefore);
+
+    /**
+     * 주문 번호로 결제를 잠금과 함께 조회 (상태 전이용 짧은 트랜잭션에서 사용)
+     *
+     * @param orderId 주문 번호
+     * @return Optional<Payment> 결제 정보
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.orderId = :orderId")
+    Optional<Payment> findByOrderIdForUpdate(String orderId);
+
+    /**
+     * 결제 ID로 결제를 잠금과 함께 조회 (상태 전이용 짧은 트랜잭션에서 사용)
+     *
+     * @param id 결제 ID
+     * @return Optional<Payment> 결제 정보
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdForUpdate(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package ubuthebear.shop.domain.payment.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.payment.entity.PaymentStatus;
+import ubuthebear.shop.domain.payment.repository.PaymentRepository;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 결제 준비 후 승인되지 않고 방치된 결제(PENDING)를 만료(EXPIRED) 처리하는 정리 작업
+ *
+ * 대상 결제의 ID만 키셋 방식으로 일정 건수씩 읽고, 묶음마다 짧은 트랜잭션에서
+ * 행 잠금 - 한 번의 UPDATE로 만료 처리 - 결제 이력 일괄 INSERT(JDBC 배치) 순서로 처리
+ * 행을 잠근 뒤 PENDING 상태인 결제만 만료하므로, 같은 결제의 승인 요청과 동시에 실행되어도 둘 중 하나만 반영됨
+ *
+ * 주문/결제 요청과 DB를 두고 경쟁하지 않도록 묶음 사이에 쉬고, 한 번 실행에 처리할 묶음 수를 제한하며,
+ * 커넥션 풀 사용률이 높으면 이번 주기를 건너뜀
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see PaymentStatus#EXPIRED
+ */
+@Slf4j
+@Component
+public class PaymentExpiryReaper {
+
+    private static final String LOCK_SQL = "SELECT id FROM payments WHERE id IN (:ids) AND status = :status FOR UPDATE";
+    private static final String EXPIRE_SQL = "UPDATE payments SET status = :expired, failure_reason = :reason, " +
+            "updated_at = :now WHERE id IN (:ids)";
+    private static final String INSERT_HISTORY_SQL = "INSERT INTO payment_histories " +
+            "(payment_id, status, description, created_at) VALUES (?, ?, ?, ?)";
+    private static final String EXPIRE_REASON = "Payment was not confirmed in time";
+    private static final String HISTORY_DESCRIPTION = "결제 승인 대기 시간이 지나 만료되었습니다";
+
+    private final PaymentRepository paymentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private final long pendingTtlMinutes;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long chunkPauseMillis;
+    private final double maxPoolUsage;
+
+    public PaymentExpiryReaper(PaymentRepository paymentRepository,
+                               JdbcTemplate jdbcTemplate,
+                               NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               DataSource dataSource,
+                               @Value("${shop.payment.expiry.pending-ttl-minutes:60}") long pendingTtlMinutes,
+                               @Value("${shop.payment.expiry.chunk-size:500}") int chunkSize,
+                               @Value("${shop.payment.expiry.max-chunks-per-run:20}") int maxChunksPerRun,
+                               @Value("${shop.payment.expiry.chunk-pause-ms:200}") long chunkPauseMillis,
+                               @Value("${shop.payment.expiry.max-pool-usage:0.5}") double maxPoolUsage) {
+        this.paymentRepository = paymentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSource = dataSource;
+        this.pendingTtlMinutes = pendingTtlMinutes;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.chunkPauseMillis = chunkPauseMillis;
+        this.maxPoolUsage = maxPoolUsage;
+    }
+
+    /**
+     * 방치된 결제를 주기적으로 만료 처리
+     * 기본 10분 간격으로 실행되며, shop.payment.expiry.interval-ms 속성으로 조정 가능
+     */
+    @Scheduled(fixedDelayString = "${shop.payment.expiry.interval-ms:600000}")
+    public void expireAbandonedPayments() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(pendingTtlMinutes);
+        long afterId = 0L;
+        int expired = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            if (isDatabaseBusy()) {
+                log.debug("Skipping payment expiry, connection pool is busy");
+                break;
+            }
+
+            List<Long> ids = paymentRepository.findIdsByStatusAndCreatedAtBefore(
+                    PaymentStatus.PENDING, cutoff, afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+
+            Integer count = transactionTemplate.execute(status -> expireChunk(ids));
+            expired += count != null ? count : 0;
+
+            if (ids.size() < chunkSize || !pause()) {
+                break;
+            }
+        }
+
+        if (expired > 0) {
+            log.info("Expired abandoned payments - count: {}, cutoff: {}", expired, cutoff);
+        }
+    }
+
+    /**
+     * 결제 묶음을 만료 처리 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @param ids 만료 대상 후보 결제 ID 목록
+     * @return int 만료 처리한 결제 수 (그 사이 승인 요청이 시작된 결제는 제외)
+     */
+    int expireChunk(List<Long> ids) {
+        List<Long> lockedIds = namedParameterJdbcTemplate.queryForList(LOCK_SQL, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("status", PaymentStatus.PENDING.name()), Long.class);
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        namedParameterJdbcTemplate.update(EXPIRE_SQL, new MapSqlParameterSource()
+                .addValue("expired", PaymentStatus.EXPIRED.name())
+                .addValue("reason", EXPIRE_REASON)
+                .addValue("now", now)
+                .addValue("ids", lockedIds));
+        jdbcTemplate.batchUpdate(INSERT_HISTORY_SQL, lockedIds.stream()
+                .map(id -> new Object[]{id, PaymentStatus.EXPIRED.name(), HISTORY_DESCRIPTION, now})
+                .collect(Collectors.toList()));
+        return lockedIds.size();
+    }
+
+    // 커넥션 풀 사용률이 기준을 넘는지 확인 (Hikari가 아니면 확인하지 않음)
+    private boolean isDatabaseBusy() {
+        try {
+            if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+                return false;
+            }
+            HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+            HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+            if (pool == null) {
+                return false;
+            }
+            return pool.getThreadsAwaitingConnection() > 0
+                    || pool.getActiveConnections() > hikari.getMaximumPoolSize() * maxPoolUsage;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    // 묶음 사이에 쉬어 다른 요청이 DB를 사용할 여유를 둠 (인터럽트되면 false)
+    // 스케줄러 스레드 하나를 점유하므로 spring.task.scheduling.pool.size를 주기 작업 수만큼 지정해야 다른 작업이 밀리지 않음
+    private boolean pause() {
+        try {
+            Thread.sleep(chunkPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
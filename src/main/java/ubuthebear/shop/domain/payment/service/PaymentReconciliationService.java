@@ -0,0 +1,126 @@
+package ubuthebear.shop.domain.payment.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import ubuthebear.shop.domain.payment.dto.ReconciliationReportResponse;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * PG사 정산 파일과 결제 데이터를 대사하는 오프라인 작업 서비스
+ *
+ * 정산 파일은 서버의 입력 디렉토리(shop.payment.reconciliation.input-dir)에 올려둔 파일만 사용하며,
+ * 수백만 건 규모를 가정하여 결제 데이터는 JDBC fetch size 단위로 스트리밍 조회하고
+ * 정렬/병합은 {@link SettlementReconciler}가 임시 파일로 처리 (어느 쪽도 메모리에 전부 올리지 않음)
+ *
+ * 불일치 전체 목록은 리포트 디렉토리에 CSV로 남기고, 응답에는 유형별 건수와 일부만 포함
+ * 대사는 무거운 작업이므로 동시에 하나만 실행
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see SettlementReconciler
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PaymentReconciliationService {
+
+    private static final String LOCAL_PAYMENTS_SQL = "SELECT order_id, amount, status FROM payments " +
+            "WHERE created_at >= ? AND created_at < ?";
+    private static final DateTimeFormatter REPORT_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final Path inputDir;
+    private final Path reportDir;
+    private final int sortRunSize;
+    private final int sampleSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PaymentReconciliationService(DataSource dataSource,
+                                        @Value("${shop.payment.reconciliation.input-dir:${java.io.tmpdir}/settlements}") String inputDir,
+                                        @Value("${shop.payment.reconciliation.report-dir:${java.io.tmpdir}/reconciliation-reports}") String reportDir,
+                                        @Value("${shop.payment.reconciliation.fetch-size:1000}") int fetchSize,
+                                        @Value("${shop.payment.reconciliation.sort-run-size:100000}") int sortRunSize,
+                                        @Value("${shop.payment.reconciliation.sample-size:100}") int sampleSize) {
+        // 결과를 한 번에 받지 않고 fetch size 단위로 스트리밍하도록 전용 JdbcTemplate 사용
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.inputDir = Paths.get(inputDir).toAbsolutePath().normalize();
+        this.reportDir = Paths.get(reportDir).toAbsolutePath().normalize();
+        this.sortRunSize = sortRunSize;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * 정산 파일과 기간 내 생성된 결제를 대사
+     *
+     * @param fileName 입력 디렉토리 안의 정산 파일명
+     * @param from 대사 시작일 (포함, 결제 생성일 기준)
+     * @param to 대사 종료일 (포함, 결제 생성일 기준)
+     * @return ReconciliationReportResponse 대사 결과 요약
+     * @throws ResponseStatusException 파일이 없거나 기간이 잘못된 경우(400), 이미 대사가 실행 중인 경우(409)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReconciliationReportResponse reconcile(String fileName, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Reconciliation period is invalid");
+        }
+        Path settlementFile = resolveSettlementFile(fileName);
+        if (!running.compareAndSet(false, true)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Reconciliation is already running");
+        }
+
+        try {
+            Files.createDirectories(reportDir);
+            Path reportFile = reportDir.resolve("reconciliation-" + from + "-" + to + "-"
+                    + LocalDateTime.now().format(REPORT_SUFFIX) + ".csv");
+            SettlementReconciler reconciler = new SettlementReconciler(reportDir, sortRunSize, sampleSize);
+
+            ReconciliationReportResponse report;
+            try (Stream<SettlementReconciler.Entry> localEntries = streamingJdbcTemplate.queryForStream(
+                    LOCAL_PAYMENTS_SQL,
+                    (rs, rowNum) -> new SettlementReconciler.Entry(
+                            rs.getString("order_id"), rs.getBigDecimal("amount"), rs.getString("status")),
+                    Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()))) {
+                report = reconciler.reconcile(localEntries.iterator(), settlementFile, reportFile);
+            }
+
+            log.info("Payment reconciliation finished - file: {}, local: {}, remote: {}, matched: {}, mismatches: {}",
+                    fileName, report.getLocalCount(), report.getRemoteCount(), report.getMatchedCount(),
+                    report.getMismatchCounts());
+            return report;
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Failed to reconcile settlement file: " + fileName, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 입력 디렉토리 밖의 파일을 가리키는 경로(../ 등)는 거부
+    private Path resolveSettlementFile(String fileName) {
+        Path file = inputDir.resolve(fileName).normalize();
+        if (!file.getParent().equals(inputDir) || !Files.isRegularFile(file)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Settlement file not found: " + fileName);
+        }
+        return file;
+    }
+}
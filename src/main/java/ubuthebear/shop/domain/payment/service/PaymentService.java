@@ -1,24 +1,29 @@
 package ubuthebear.shop.domain.payment.service;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import ubuthebear.shop.domain.member.entity.Member;
 import ubuthebear.shop.domain.member.repository.MemberRepository;
+import ubuthebear.shop.domain.payment.client.TossPaymentsClient;
+import ubuthebear.shop.domain.payment.client.TossPaymentsException;
 import ubuthebear.shop.domain.payment.dto.*;
 import ubuthebear.shop.domain.payment.entity.Payment;
 import ubuthebear.shop.domain.payment.entity.PaymentHistory;
@@ -35,14 +40,17 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final PaymentHistoryRepository paymentHistoryRepository;
     private final MemberRepository memberRepository;
-
-    @Value("${toss.payments.secret.key}")
-    private String secretKey;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${toss.payments.client.key}")
     private String clientKey;
 
-    private static final String TOSS_PAYMENTS_API_URL = "https://api.tosspayments.com/v1";
+    @Value("${shop.payment.recovery.stale-after-seconds:300}")
+    private long recoveryStaleAfterSeconds;
+
+    @Value("${shop.payment.dev.approve-on-failure:false}")
+    private boolean devApproveOnFailure;
 
     /**
      * 결제 준비 (클라이언트 키 발급)
@@ -72,123 +80,275 @@ public class PaymentService {
 
     /**
      * 결제 승인 처리
+     * 게이트웨이 응답을 기다리는 동안 DB 커넥션과 행 잠금을 잡고 있지 않도록 세 단계로 나누어 처리
+     * 1. 짧은 트랜잭션에서 결제를 CONFIRMING 상태로 바꾸고 커밋 (같은 결제의 중복 승인 방지)
+     * 2. 트랜잭션 밖에서 토스페이먼츠 승인 API 호출
+     * 3. 짧은 트랜잭션에서 승인 결과를 반영
+     * 게이트웨이가 승인을 거절하면 결제 실패로 확정하고, 응답을 받지 못해 결과를 알 수 없으면
+     * CONFIRMING 상태로 두어 {@link #recoverStuckPayments()}가 게이트웨이 조회로 정리
+     * (3단계 전에 서버가 중단된 경우도 같은 방식으로 정리)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponse confirmPayment(PaymentConfirmRequest request) {
-        // 1. 결제 정보 조회
-        Payment payment = paymentRepository.findByOrderId(request.getOrderId())
-                .orElseThrow(() -> new RuntimeException("Payment not found"));
+        // 1. 결제 정보 조회, 검증 후 승인 요청 시작
+        Long paymentId = transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findByOrderIdForUpdate(request.getOrderId())
+                    .orElseThrow(() -> new RuntimeException("Payment not found"));
+
+            // 결제 상태 확인
+            if (payment.getStatus() != PaymentStatus.PENDING) {
+                throw new RuntimeException("Invalid payment status: " + payment.getStatus());
+            }
 
-        // 2. 결제 상태 확인
-        if (payment.getStatus() != PaymentStatus.PENDING) {
-            throw new RuntimeException("Invalid payment status: " + payment.getStatus());
-        }
+            // 결제 금액 검증 - 정수 값으로 비교하도록 수정
+            if (payment.getAmount().intValue() != request.getAmount().intValue()) {
+                throw new RuntimeException("Amount mismatch. Expected: " + payment.getAmount() + ", Actual: " + request.getAmount());
+            }
 
-        // 3. 결제 금액 검증 - 정수 값으로 비교하도록 수정
-        if (payment.getAmount().intValue() != request.getAmount().intValue()) {
-            throw new RuntimeException("Amount mismatch. Expected: " + payment.getAmount() + ", Actual: " + request.getAmount());
-        }
+            payment.markAsConfirming(request.getPaymentKey());
+            createPaymentHistory(payment, "결제 승인을 요청했습니다");
+            return payment.getId();
+        });
 
+        // 2. 토스페이먼츠 결제 승인 API 호출 (트랜잭션 밖)
+        JSONObject response = null;
+        Exception failure = null;
         try {
-            // 4. 토스페이먼츠 결제 승인 API 호출
-            String authHeader = generateAuthHeader();
-            JSONObject requestBody = new JSONObject()
-                    .put("paymentKey", request.getPaymentKey())
-                    .put("orderId", request.getOrderId())
-                    .put("amount", request.getAmount());
-
-            JSONObject response = callTossPaymentsAPI("/payments/confirm", "POST", authHeader, requestBody);
-
-            // 5. 결제 정보 업데이트
-            PaymentSuccessDetail detail;
-            if (response.has("card") && !response.isNull("card")) {
-                JSONObject cardInfo = response.getJSONObject("card");
-                detail = PaymentSuccessDetail.builder()
-                        .paymentMethod(response.getString("method"))
-                        .cardNumber(cardInfo.getString("number"))
-                        .cardCompany(cardInfo.getString("company"))
-                        .installmentPlanMonths(cardInfo.optInt("installmentPlanMonths", 0))
-                        .approveNo(cardInfo.optString("approveNo"))
-                        .cardType(cardInfo.optString("cardType"))
-                        .ownerType(cardInfo.optString("ownerType"))
-                        .acquireStatus(cardInfo.optString("acquireStatus"))
-                        .useCardPoint(cardInfo.optBoolean("useCardPoint"))
-                        .build();
-            } else {
-                // 카드 정보가 없는 경우 기본값으로 설정
-                detail = PaymentSuccessDetail.builder()
-                        .paymentMethod(response.optString("method", "기타"))
-                        .cardNumber("N/A")
-                        .cardCompany("N/A")
-                        .build();
+            response = await(tossPaymentsClient.confirm(
+                    request.getPaymentKey(), request.getOrderId(), request.getAmount()));
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            // 게이트웨이 장애로 호출 자체가 거절된 경우 결제 대기 상태로 되돌려 다시 승인을 요청할 수 있게 함
+            log.warn("Payment gateway call rejected - orderId: {}, reason: {}", request.getOrderId(), e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> revertClaim(paymentId, PaymentStatus.CONFIRMING,
+                    PaymentStatus.PENDING, "결제 게이트웨이 장애로 승인 요청 취소"));
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Payment gateway is unavailable. Please retry later.");
+        } catch (TossPaymentsException e) {
+            failure = e;
+            log.error("Payment API call failed: " + e.getMessage());
+        } catch (Exception e) {
+            if (!devApproveOnFailure) {
+                log.error("Payment confirmation result unknown:", e);
+                throw new RuntimeException("Payment confirmation result unknown, it will be reconciled: " + e.getMessage());
             }
+            failure = e;
+            log.error("Payment API call failed: " + e.getMessage());
+        }
 
-            payment.markAsComplete(request.getPaymentKey(), detail);
-            createPaymentHistory(payment, "결제가 완료되었습니다");
+        // 3. 결제 정보 업데이트
+        JSONObject approved = response;
+        Exception error = failure;
+        PaymentResponse result = transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+                    .orElseThrow(() -> new RuntimeException("Payment not found"));
+            if (payment.getStatus() != PaymentStatus.CONFIRMING) {
+                // 복구 작업이 먼저 결과를 반영한 경우
+                return new PaymentResponse(payment);
+            }
 
-            return new PaymentResponse(payment);
-        } catch (Exception e) {
-            // 6. 실패 처리
-            log.error("Payment API call failed: " + e.getMessage());
+            if (error == null) {
+                payment.markAsComplete(request.getPaymentKey(), toSuccessDetail(approved));
+                createPaymentHistory(payment, "결제가 완료되었습니다");
+                return new PaymentResponse(payment);
+            }
 
-            // 개발 환경에서는 에러를 기록하고 임시로 성공으로 처리
-            // 실제 배포 환경에서는 이 부분을 제거하고 아래 주석 해제 필요
-            log.warn("Development mode: Treating payment as successful despite API error");
+            // 4. 실패 처리
+            if (devApproveOnFailure) {
+                // 개발 환경에서만 에러를 기록하고 임시로 성공으로 처리 (shop.payment.dev.approve-on-failure=true)
+                log.warn("Development mode: Treating payment as successful despite API error");
 
-            PaymentSuccessDetail detail = PaymentSuccessDetail.builder()
-                    .paymentMethod("개발환경테스트")
-                    .cardNumber("1234-****-****-5678")
-                    .cardCompany("테스트카드사")
-                    .build();
+                PaymentSuccessDetail detail = PaymentSuccessDetail.builder()
+                        .paymentMethod("개발환경테스트")
+                        .cardNumber("1234-****-****-5678")
+                        .cardCompany("테스트카드사")
+                        .build();
 
-            payment.markAsComplete(request.getPaymentKey(), detail);
-            createPaymentHistory(payment, "개발 환경 테스트: 임시 결제 성공 처리");
+                payment.markAsComplete(request.getPaymentKey(), detail);
+                createPaymentHistory(payment, "개발 환경 테스트: 임시 결제 성공 처리");
+                return new PaymentResponse(payment);
+            }
 
+            payment.markAsFailed(error.getMessage());
+            createPaymentHistory(payment, "결제 실패: " + error.getMessage());
             return new PaymentResponse(payment);
+        });
 
-            /* 실제 배포 환경에서 사용할 코드
-            payment.markAsFailed(e.getMessage());
-            createPaymentHistory(payment, "결제 실패: " + e.getMessage());
-            throw new RuntimeException("Payment confirmation failed: " + e.getMessage());
-            */
+        // 실패 기록이 커밋된 뒤 호출자에게 실패를 알림
+        if (error != null && !devApproveOnFailure) {
+            throw new RuntimeException("Payment confirmation failed: " + error.getMessage());
         }
+        return result;
     }
 
     /**
      * 결제 취소
+     * 결제 승인과 마찬가지로 취소 요청 시작, 게이트웨이 호출, 결과 반영을 나누어 처리하며
+     * 게이트웨이 호출 중에는 트랜잭션을 열어 두지 않음
+     * 게이트웨이가 취소를 거절하면 결제 완료 상태로 되돌리고, 응답을 받지 못해 결과를 알 수 없으면
+     * CANCELLING 상태로 두어 {@link #recoverStuckPayments()}가 게이트웨이 조회로 정리
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponse cancelPayment(String username, Long paymentId, PaymentCancelRequest request) {
-        // 1. 결제 정보 조회 및 권한 확인
-        Payment payment = paymentRepository.findById(paymentId)
-                .orElseThrow(() -> new RuntimeException("Payment not found"));
+        // 1. 결제 정보 조회 및 권한 확인 후 취소 요청 시작
+        String paymentKey = transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+                    .orElseThrow(() -> new RuntimeException("Payment not found"));
 
-        if (!payment.getMember().getUsername().equals(username)) {
-            throw new RuntimeException("Unauthorized access");
+            if (!payment.getMember().getUsername().equals(username)) {
+                throw new RuntimeException("Unauthorized access");
+            }
+
+            // 결제 상태 확인
+            if (payment.getStatus() != PaymentStatus.COMPLETED) {
+                throw new RuntimeException("Payment cannot be cancelled. Current status: " + payment.getStatus());
+            }
+
+            payment.markAsCancelling(request.getCancelReason());
+            createPaymentHistory(payment, "결제 취소를 요청했습니다");
+            return payment.getPaymentKey();
+        });
+
+        // 2. 토스페이먼츠 결제 취소 API 호출 (트랜잭션 밖)
+        try {
+            await(tossPaymentsClient.cancel(paymentKey, request.getCancelReason()));
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            log.warn("Payment gateway call rejected - paymentId: {}, reason: {}", paymentId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> revertClaim(paymentId, PaymentStatus.CANCELLING,
+                    PaymentStatus.COMPLETED, "결제 게이트웨이 장애로 취소 요청 취소"));
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Payment gateway is unavailable. Please retry later.");
+        } catch (TossPaymentsException e) {
+            log.error("Payment cancellation failed:", e);
+            transactionTemplate.executeWithoutResult(status -> revertClaim(paymentId, PaymentStatus.CANCELLING,
+                    PaymentStatus.COMPLETED, "결제 취소 실패: " + e.getMessage()));
+            throw new RuntimeException("Payment cancellation failed: " + e.getMessage());
+        } catch (Exception e) {
+            log.error("Payment cancellation result unknown:", e);
+            throw new RuntimeException("Payment cancellation result unknown, it will be reconciled: " + e.getMessage());
         }
 
-        // 2. 결제 상태 확인
-        if (payment.getStatus() != PaymentStatus.COMPLETED) {
-            throw new RuntimeException("Payment cannot be cancelled. Current status: " + payment.getStatus());
+        // 3. 결제 정보 업데이트
+        return transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findByIdForUpdate(paymentId)
+                    .orElseThrow(() -> new RuntimeException("Payment not found"));
+            if (payment.getStatus() == PaymentStatus.CANCELLING) {
+                payment.markAsCancelled(request.getCancelReason());
+                createPaymentHistory(payment, "결제 취소: " + request.getCancelReason());
+            }
+            return new PaymentResponse(payment);
+        });
+    }
+
+    /**
+     * 승인/취소 요청 중 상태로 오래 남은 결제를 게이트웨이의 실제 상태에 맞춰 정리
+     * 게이트웨이 호출 후 결과 반영 전에 서버가 중단된 경우 등에 해당하며,
+     * 결제 조회 API로 확인한 상태에 따라 완료/실패/취소로 확정하거나 요청 전 상태로 되돌림
+     * 기본 1분 간격으로 실행되며, shop.payment.recovery.interval-ms 속성으로 조정 가능
+     */
+    @Scheduled(fixedDelayString = "${shop.payment.recovery.interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recoverStuckPayments() {
+        List<Payment> stuckPayments = paymentRepository.findByStatusInAndClaimedAtBefore(
+                List.of(PaymentStatus.CONFIRMING, PaymentStatus.CANCELLING),
+                LocalDateTime.now().minusSeconds(recoveryStaleAfterSeconds));
+        for (Payment payment : stuckPayments) {
+            try {
+                recover(payment.getId(), payment.getStatus(), payment.getPaymentKey());
+            } catch (Exception e) {
+                log.warn("Failed to recover payment - id: {}, status: {}, error: {}",
+                        payment.getId(), payment.getStatus(), e.getMessage());
+            }
         }
+    }
 
+    private void recover(Long paymentId, PaymentStatus claimedStatus, String paymentKey) throws Exception {
+        // 게이트웨이 조회 (트랜잭션 밖)
+        JSONObject remote;
         try {
-            // 3. 토스페이먼츠 결제 취소 API 호출
-            String authHeader = generateAuthHeader();
-            JSONObject requestBody = new JSONObject()
-                    .put("cancelReason", request.getCancelReason());
+            remote = await(tossPaymentsClient.getPayment(paymentKey));
+        } catch (TossPaymentsException e) {
+            if (e.getStatusCode() != 404) {
+                throw e;
+            }
+            remote = null;  // 게이트웨이에 결제가 없음 (승인 요청이 도달하지 않음)
+        }
+        JSONObject result = remote;
+        String remoteStatus = result != null ? result.optString("status") : "NOT_FOUND";
 
-            callTossPaymentsAPI("/payments/" + payment.getPaymentKey() + "/cancel", "POST", authHeader, requestBody);
+        transactionTemplate.executeWithoutResult(status -> {
+            Payment payment = paymentRepository.findByIdForUpdate(paymentId).orElse(null);
+            if (payment == null || payment.getStatus() != claimedStatus) {
+                return;     // 요청 처리 흐름이 먼저 결과를 반영함
+            }
 
-            // 4. 결제 정보 업데이트
-            payment.markAsCancelled(request.getCancelReason());
-            createPaymentHistory(payment, "결제 취소: " + request.getCancelReason());
+            if (claimedStatus == PaymentStatus.CONFIRMING) {
+                switch (remoteStatus) {
+                    case "DONE" -> {
+                        payment.markAsComplete(paymentKey, toSuccessDetail(result));
+                        createPaymentHistory(payment, "결제 승인 결과 확인: 결제 완료");
+                    }
+                    case "ABORTED", "EXPIRED", "CANCELED" -> {
+                        payment.markAsFailed("Gateway status: " + remoteStatus);
+                        createPaymentHistory(payment, "결제 승인 결과 확인: 결제 실패 (" + remoteStatus + ")");
+                    }
+                    case "NOT_FOUND", "READY", "IN_PROGRESS" -> {
+                        payment.revertClaim(PaymentStatus.PENDING);
+                        createPaymentHistory(payment, "결제 승인이 처리되지 않아 결제 대기 상태로 복구");
+                    }
+                    default -> log.warn("Unhandled gateway status while recovering payment - id: {}, status: {}",
+                            paymentId, remoteStatus);
+                }
+            } else {
+                switch (remoteStatus) {
+                    case "CANCELED", "PARTIAL_CANCELED" -> {
+                        payment.markAsCancelled(payment.getCancelReason());
+                        createPaymentHistory(payment, "결제 취소 결과 확인: 결제 취소");
+                    }
+                    case "DONE" -> {
+                        payment.revertClaim(PaymentStatus.COMPLETED);
+                        createPaymentHistory(payment, "결제 취소가 처리되지 않아 결제 완료 상태로 복구");
+                    }
+                    default -> log.warn("Unhandled gateway status while recovering payment - id: {}, status: {}",
+                            paymentId, remoteStatus);
+                }
+            }
+        });
+    }
 
-            return new PaymentResponse(payment);
-        } catch (Exception e) {
-            log.error("Payment cancellation failed:", e);
-            throw new RuntimeException("Payment cancellation failed: " + e.getMessage());
+    /**
+     * 승인/취소 요청 중인 결제를 요청 전 상태로 되돌림 (호출자의 트랜잭션 안에서 실행)
+     */
+    private void revertClaim(Long paymentId, PaymentStatus claimedStatus, PaymentStatus previousStatus, String description) {
+        paymentRepository.findByIdForUpdate(paymentId)
+                .filter(payment -> payment.getStatus() == claimedStatus)
+                .ifPresent(payment -> {
+                    payment.revertClaim(previousStatus);
+                    createPaymentHistory(payment, description);
+                });
+    }
+
+    /**
+     * 게이트웨이 결제 정보에서 결제 수단/카드 정보를 추출
+     */
+    private static PaymentSuccessDetail toSuccessDetail(JSONObject response) {
+        if (response.has("card") && !response.isNull("card")) {
+            JSONObject cardInfo = response.getJSONObject("card");
+            return PaymentSuccessDetail.builder()
+                    .paymentMethod(response.getString("method"))
+                    .cardNumber(cardInfo.getString("number"))
+                    .cardCompany(cardInfo.getString("company"))
+                    .installmentPlanMonths(cardInfo.optInt("installmentPlanMonths", 0))
+                    .approveNo(cardInfo.optString("approveNo"))
+                    .cardType(cardInfo.optString("cardType"))
+                    .ownerType(cardInfo.optString("ownerType"))
+                    .acquireStatus(cardInfo.optString("acquireStatus"))
+                    .useCardPoint(cardInfo.optBoolean("useCardPoint"))
+                    .build();
         }
+        // 카드 정보가 없는 경우 기본값으로 설정
+        return PaymentSuccessDetail.builder()
+                .paymentMethod(response.optString("method", "기타"))
+                .cardNumber("N/A")
+                .cardCompany("N/A")
+                .build();
     }
 
     /**
@@ -242,48 +402,14 @@ public class PaymentService {
     }
 
     /**
-     * 토스페이먼츠 API 인증 헤더 생성
+     * 토스페이먼츠 API 호출 결과를 기다림
+     * 클라이언트에 연결/응답 시간 제한이 적용되어 있으므로 요청 스레드가 무기한 대기하지 않음
      */
-    private String generateAuthHeader() {
-        String credentials = secretKey + ":";
-        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
-    }
-
-    /**
-     * 토스페이먼츠 API 호출 메서드
-     */
-    private JSONObject callTossPaymentsAPI(String path, String method, String authHeader, JSONObject requestBody) throws Exception {
-        URL url = new URL(TOSS_PAYMENTS_API_URL + path);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-
+    private static JSONObject await(CompletableFuture<JSONObject> call) throws Exception {
         try {
-            conn.setRequestMethod(method);
-            conn.setRequestProperty("Authorization", authHeader);
-            conn.setRequestProperty("Content-Type", "application/json");
-            conn.setDoOutput(true);
-
-            // 요청 바디 전송
-            try (OutputStream os = conn.getOutputStream()) {
-                byte[] input = requestBody.toString().getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
-
-            // 응답 처리
-            int responseCode = conn.getResponseCode();
-            try (BufferedReader br = new BufferedReader(
-                    new InputStreamReader(
-                            responseCode == HttpURLConnection.HTTP_OK ? conn.getInputStream() : conn.getErrorStream(),
-                            StandardCharsets.UTF_8))) {
-                String response = br.lines().collect(Collectors.joining("\n"));
-
-                if (responseCode == HttpURLConnection.HTTP_OK) {
-                    return new JSONObject(response);
-                } else {
-                    throw new RuntimeException("API call failed: " + response);
-                }
-            }
-        } finally {
-            conn.disconnect();
+            return call.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,534 @@
+package ubuthebear.shop.domain.payment.service;
+
+import ubuthebear.shop.domain.payment.dto.ReconciliationMismatch;
+import ubuthebear.shop.domain.payment.dto.ReconciliationReportResponse;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * PG사 정산 파일과 우리 쪽 결제 데이터를 주문 번호 기준으로 대사(reconciliation)하는 엔진
+ *
+ * 양쪽 모두 메모리에 전부 올리지 않도록 외부 정렬(external merge sort) 후 정렬 병합(sort-merge) 방식으로 처리
+ * 1. 각 입력을 runSize 건씩 메모리에서 정렬해 임시 파일(run)로 내려쓰고, run들을 k-way 병합하여 하나의 정렬된 파일을 만듦
+ *    (동시에 여는 파일 수를 제한하기 위해 run이 MAX_MERGE_FAN_IN개를 넘으면 여러 단계로 나누어 병합)
+ * 2. 정렬된 두 파일을 한 줄씩 앞으로 읽으며 주문 번호를 비교하고, 불일치를 리포트 파일(CSV)에 바로 기록
+ * 메모리에는 run 하나와 병합 중인 각 파일의 현재 줄, 응답에 담을 불일치 일부만 유지됨
+ *
+ * DB의 ORDER BY 결과는 컬럼 콜레이션(대소문자 무시 등)에 따라 자바 문자열 순서와 다를 수 있으므로,
+ * 우리 쪽 데이터도 같은 기준(String 자연 순서)으로 직접 정렬하여 병합 순서를 보장
+ *
+ * 정산 파일은 헤더가 있는 CSV이며 orderId(order_id), amount(totalAmount), status 컬럼을 사용
+ * 같은 주문 번호가 여러 줄이면 파일에서 나중에 나온 줄을 최종 상태로 간주
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see PaymentReconciliationService
+ */
+public class SettlementReconciler {
+
+    private static final String REPORT_HEADER = "type,orderId,localAmount,remoteAmount,localStatus,remoteStatus";
+    private static final Set<String> ORDER_ID_COLUMNS = Set.of("orderid");
+    private static final Set<String> AMOUNT_COLUMNS = Set.of("amount", "totalamount");
+    private static final Set<String> STATUS_COLUMNS = Set.of("status");
+    private static final int MAX_MERGE_FAN_IN = 64;
+
+    /**
+     * 대사 대상 한 건 (주문 번호, 금액, 상태)
+     * 정렬용 임시 파일에는 탭으로 구분한 한 줄로 기록하며, 값 안의 역슬래시/탭/줄바꿈은 이스케이프
+     */
+    public record Entry(String orderId, BigDecimal amount, String status) {
+
+        public Entry {
+            if (orderId == null || orderId.isBlank()) {
+                throw new IllegalArgumentException("Invalid order id: " + orderId);
+            }
+        }
+
+        String toLine() {
+            return escape(orderId) + '\t' + amount.toPlainString() + '\t' + (status != null ? escape(status) : "");
+        }
+
+        static Entry fromLine(String line) {
+            String[] parts = line.split("\t", 3);
+            return new Entry(unescape(parts[0]), new BigDecimal(parts[1]), parts[2].isEmpty() ? null : unescape(parts[2]));
+        }
+
+        private static String escape(String value) {
+            StringBuilder escaped = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> escaped.append("\\\\");
+                    case '\t' -> escaped.append("\\t");
+                    case '\n' -> escaped.append("\\n");
+                    case '\r' -> escaped.append("\\r");
+                    default -> escaped.append(c);
+                }
+            }
+            return escaped.toString();
+        }
+
+        private static String unescape(String value) {
+            if (value.indexOf('\\') < 0) {
+                return value;
+            }
+            StringBuilder unescaped = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c != '\\' || i + 1 == value.length()) {
+                    unescaped.append(c);
+                    continue;
+                }
+                char next = value.charAt(++i);
+                unescaped.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            }
+            return unescaped.toString();
+        }
+    }
+
+    private final Path workDir;
+    private final int runSize;
+    private final int sampleSize;
+
+    /**
+     * @param workDir 정렬용 임시 파일을 만들 디렉토리
+     * @param runSize 메모리에서 한 번에 정렬할 건수 (run 하나의 크기)
+     * @param sampleSize 응답에 포함할 불일치 건수
+     */
+    public SettlementReconciler(Path workDir, int runSize, int sampleSize) {
+        if (runSize < 1) {
+            throw new IllegalArgumentException("Run size must be positive");
+        }
+        this.workDir = workDir;
+        this.runSize = runSize;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * 정산 파일과 우리 쪽 결제 데이터를 대사하고 불일치를 리포트 파일에 기록
+     *
+     * @param localEntries 우리 쪽 결제 데이터 (정렬되어 있지 않아도 됨, 한 번만 순회)
+     * @param settlementFile PG사 정산 파일 (CSV)
+     * @param reportFile 불일치를 기록할 리포트 파일 (이미 있으면 덮어씀)
+     * @return ReconciliationReportResponse 대사 결과 요약
+     * @throws IOException 파일 읽기/쓰기에 실패한 경우
+     * @throws IllegalArgumentException 정산 파일 형식이 잘못된 경우
+     */
+    public ReconciliationReportResponse reconcile(Iterator<Entry> localEntries, Path settlementFile, Path reportFile)
+            throws IOException {
+        Path localSorted = null;
+        Path remoteSorted = null;
+        try {
+            localSorted = sort(localEntries);
+            try (BufferedReader reader = Files.newBufferedReader(settlementFile, StandardCharsets.UTF_8)) {
+                remoteSorted = sort(new SettlementCsvIterator(reader));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            return merge(localSorted, remoteSorted, settlementFile, reportFile);
+        } finally {
+            deleteQuietly(localSorted);
+            deleteQuietly(remoteSorted);
+        }
+    }
+
+    /**
+     * 입력을 주문 번호 순으로 외부 정렬하여 임시 파일로 만듦
+     * 같은 주문 번호의 입력 순서는 유지됨 (run 내부는 안정 정렬, 병합 시 앞선 run 우선)
+     *
+     * @param entries 정렬할 입력
+     * @return Path 정렬된 임시 파일 (호출자가 삭제)
+     */
+    Path sort(Iterator<Entry> entries) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            List<Entry> buffer = new ArrayList<>(Math.min(runSize, 10_000));
+            while (entries.hasNext()) {
+                buffer.add(entries.next());
+                if (buffer.size() >= runSize) {
+                    runs.add(writeRun(buffer));
+                    buffer.clear();
+                }
+            }
+            if (!buffer.isEmpty() || runs.isEmpty()) {
+                runs.add(writeRun(buffer));
+            }
+            // 동시에 여는 파일 수를 제한하기 위해 run이 많으면 MAX_MERGE_FAN_IN개씩 묶어 여러 단계로 병합
+            while (runs.size() > MAX_MERGE_FAN_IN) {
+                List<Path> nextPass = new ArrayList<>();
+                try {
+                    for (int from = 0; from < runs.size(); from += MAX_MERGE_FAN_IN) {
+                        List<Path> group = runs.subList(from, Math.min(from + MAX_MERGE_FAN_IN, runs.size()));
+                        nextPass.add(group.size() == 1 ? group.get(0) : mergeRuns(group));
+                    }
+                } catch (IOException | RuntimeException e) {
+                    nextPass.stream().filter(run -> !runs.contains(run)).forEach(SettlementReconciler::deleteQuietly);
+                    throw e;
+                }
+                runs.stream().filter(run -> !nextPass.contains(run)).forEach(SettlementReconciler::deleteQuietly);
+                runs.clear();
+                runs.addAll(nextPass);
+            }
+            if (runs.size() == 1) {
+                return runs.remove(0);
+            }
+            return mergeRuns(runs);
+        } finally {
+            runs.forEach(SettlementReconciler::deleteQuietly);
+        }
+    }
+
+    // 메모리의 한 묶음을 정렬하여 run 파일로 기록
+    private Path writeRun(List<Entry> buffer) throws IOException {
+        buffer.sort(Comparator.comparing(Entry::orderId));
+        Path run = Files.createTempFile(workDir, "reconcile-run-", ".tsv");
+        try (BufferedWriter writer = Files.newBufferedWriter(run, StandardCharsets.UTF_8)) {
+            for (Entry entry : buffer) {
+                writer.write(entry.toLine());
+                writer.newLine();
+            }
+        }
+        return run;
+    }
+
+    // 정렬된 run 파일들을 k-way 병합 (각 run의 현재 줄만 메모리에 유지)
+    private Path mergeRuns(List<Path> runs) throws IOException {
+        Path merged = Files.createTempFile(workDir, "reconcile-sorted-", ".tsv");
+        List<BufferedReader> readers = new ArrayList<>(runs.size());
+        try (BufferedWriter writer = Files.newBufferedWriter(merged, StandardCharsets.UTF_8)) {
+            PriorityQueue<RunCursor> queue = new PriorityQueue<>(Comparator
+                    .comparing((RunCursor cursor) -> cursor.current.orderId())
+                    .thenComparingInt(cursor -> cursor.index));
+            for (int i = 0; i < runs.size(); i++) {
+                BufferedReader reader = Files.newBufferedReader(runs.get(i), StandardCharsets.UTF_8);
+                readers.add(reader);
+                RunCursor cursor = new RunCursor(i, reader);
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+            while (!queue.isEmpty()) {
+                RunCursor cursor = queue.poll();
+                writer.write(cursor.line);
+                writer.newLine();
+                if (cursor.advance()) {
+                    queue.add(cursor);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(merged);
+            throw e;
+        } finally {
+            for (BufferedReader reader : readers) {
+                reader.close();
+            }
+        }
+        return merged;
+    }
+
+    // 정렬된 두 파일을 한 줄씩 비교하며 불일치를 리포트에 기록
+    private ReconciliationReportResponse merge(Path localSorted, Path remoteSorted, Path settlementFile,
+                                               Path reportFile) throws IOException {
+        Map<ReconciliationMismatch.Type, Long> counts = new EnumMap<>(ReconciliationMismatch.Type.class);
+        for (ReconciliationMismatch.Type type : ReconciliationMismatch.Type.values()) {
+            counts.put(type, 0L);
+        }
+        List<ReconciliationMismatch> samples = new ArrayList<>();
+        long localCount = 0;
+        long remoteCount = 0;
+        long matchedCount = 0;
+
+        try (BufferedReader localReader = Files.newBufferedReader(localSorted, StandardCharsets.UTF_8);
+             BufferedReader remoteReader = Files.newBufferedReader(remoteSorted, StandardCharsets.UTF_8);
+             BufferedWriter report = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            report.write(REPORT_HEADER);
+            report.newLine();
+
+            GroupCursor local = new GroupCursor(localReader);
+            GroupCursor remote = new GroupCursor(remoteReader);
+            Entry l = local.next();
+            Entry r = remote.next();
+            List<ReconciliationMismatch> found = new ArrayList<>(2);
+
+            while (l != null || r != null) {
+                found.clear();
+                int cmp = l == null ? 1 : r == null ? -1 : l.orderId().compareTo(r.orderId());
+                if (cmp == 0) {
+                    localCount++;
+                    remoteCount++;
+                    if (l.amount().compareTo(r.amount()) != 0) {
+                        found.add(mismatch(ReconciliationMismatch.Type.AMOUNT_MISMATCH, l, r));
+                    }
+                    if (!statusMatches(l.status(), r.status())) {
+                        found.add(mismatch(ReconciliationMismatch.Type.STATUS_MISMATCH, l, r));
+                    }
+                    if (found.isEmpty()) {
+                        matchedCount++;
+                    }
+                    l = local.next();
+                    r = remote.next();
+                } else if (cmp < 0) {
+                    localCount++;
+                    if (isSettled(l.status())) {
+                        found.add(mismatch(ReconciliationMismatch.Type.MISSING_REMOTELY, l, null));
+                    }
+                    l = local.next();
+                } else {
+                    remoteCount++;
+                    found.add(mismatch(ReconciliationMismatch.Type.MISSING_LOCALLY, null, r));
+                    r = remote.next();
+                }
+
+                for (ReconciliationMismatch mismatch : found) {
+                    counts.merge(mismatch.getType(), 1L, Long::sum);
+                    writeReportLine(report, mismatch);
+                    if (samples.size() < sampleSize) {
+                        samples.add(mismatch);
+                    }
+                }
+            }
+        }
+
+        return new ReconciliationReportResponse(settlementFile.getFileName().toString(), reportFile.toString(),
+                localCount, remoteCount, matchedCount, counts, samples);
+    }
+
+    private static ReconciliationMismatch mismatch(ReconciliationMismatch.Type type, Entry local, Entry remote) {
+        Entry any = local != null ? local : remote;
+        return new ReconciliationMismatch(type, any.orderId(),
+                local != null ? local.amount() : null, remote != null ? remote.amount() : null,
+                local != null ? local.status() : null, remote != null ? remote.status() : null);
+    }
+
+    private static void writeReportLine(BufferedWriter report, ReconciliationMismatch mismatch) throws IOException {
+        report.write(mismatch.getType().name());
+        report.write(',');
+        report.write(csv(mismatch.getOrderId()));
+        report.write(',');
+        report.write(mismatch.getLocalAmount() != null ? mismatch.getLocalAmount().toPlainString() : "");
+        report.write(',');
+        report.write(mismatch.getRemoteAmount() != null ? mismatch.getRemoteAmount().toPlainString() : "");
+        report.write(',');
+        report.write(csv(mismatch.getLocalStatus()));
+        report.write(',');
+        report.write(csv(mismatch.getRemoteStatus()));
+        report.newLine();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 우리 쪽 결제 상태와 PG사 정산 상태가 서로 맞는지 확인
+     * 승인/취소가 진행 중인 결제(PENDING, CONFIRMING, CANCELLING)는 복구 작업이 정리하므로 비교하지 않음
+     */
+    static boolean statusMatches(String localStatus, String remoteStatus) {
+        String remote = remoteStatus != null ? remoteStatus.trim().toUpperCase(Locale.ROOT) : "";
+        if (localStatus == null) {
+            return false;
+        }
+        switch (localStatus) {
+            case "COMPLETED": return remote.equals("DONE");
+            case "CANCELLED": return remote.equals("CANCELED") || remote.equals("PARTIAL_CANCELED");
+            case "FAILED": return remote.equals("ABORTED");
+            case "EXPIRED": return remote.equals("EXPIRED") || remote.equals("ABORTED");
+            default: return true;
+        }
+    }
+
+    // 정산 파일에 반드시 있어야 하는 상태 (승인 완료 또는 승인 후 취소)
+    private static boolean isSettled(String localStatus) {
+        return "COMPLETED".equals(localStatus) || "CANCELLED".equals(localStatus);
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 대사 결과에 영향이 없음
+        }
+    }
+
+    // k-way 병합 중인 run 파일의 현재 위치
+    private static final class RunCursor {
+        private final int index;
+        private final BufferedReader reader;
+        private String line;
+        private Entry current;
+
+        private RunCursor(int index, BufferedReader reader) {
+            this.index = index;
+            this.reader = reader;
+        }
+
+        private boolean advance() throws IOException {
+            line = reader.readLine();
+            current = line != null ? Entry.fromLine(line) : null;
+            return line != null;
+        }
+    }
+
+    // 정렬된 파일에서 같은 주문 번호의 연속된 줄을 하나로 합쳐 읽음 (나중 줄 우선)
+    private static final class GroupCursor {
+        private final BufferedReader reader;
+        private Entry pending;
+        private boolean started;
+
+        private GroupCursor(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        private Entry next() throws IOException {
+            if (!started) {
+                pending = read();
+                started = true;
+            }
+            Entry current = pending;
+            if (current == null) {
+                return null;
+            }
+            pending = read();
+            while (pending != null && pending.orderId().equals(current.orderId())) {
+                current = pending;
+                pending = read();
+            }
+            return current;
+        }
+
+        private Entry read() throws IOException {
+            String line = reader.readLine();
+            return line != null ? Entry.fromLine(line) : null;
+        }
+    }
+
+    /**
+     * 정산 파일(CSV)을 한 줄씩 읽어 대사 대상으로 변환하는 반복자
+     * 첫 줄의 헤더로 컬럼 위치를 찾고, 큰따옴표로 감싼 값(쉼표, 이스케이프된 따옴표 포함)을 지원
+     */
+    private static final class SettlementCsvIterator implements Iterator<Entry> {
+        private final BufferedReader reader;
+        private final int orderIdIndex;
+        private final int amountIndex;
+        private final int statusIndex;
+        private long lineNumber = 1;
+        private Entry next;
+
+        private SettlementCsvIterator(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("Settlement file is empty");
+            }
+            List<String> columns = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header, 1);
+            this.orderIdIndex = columnIndex(columns, ORDER_ID_COLUMNS);
+            this.amountIndex = columnIndex(columns, AMOUNT_COLUMNS);
+            this.statusIndex = columnIndex(columns, STATUS_COLUMNS);
+            this.next = readNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry next() {
+            Entry current = next;
+            try {
+                next = readNext();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return current;
+        }
+
+        private Entry readNext() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> values = splitCsv(line, lineNumber);
+                int required = Math.max(orderIdIndex, Math.max(amountIndex, statusIndex));
+                if (values.size() <= required) {
+                    throw new IllegalArgumentException("Missing columns at line " + lineNumber);
+                }
+                try {
+                    return new Entry(values.get(orderIdIndex).trim(),
+                            new BigDecimal(values.get(amountIndex).trim()), values.get(statusIndex).trim());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid settlement record at line " + lineNumber, e);
+                }
+            }
+            return null;
+        }
+
+        private static int columnIndex(List<String> columns, Set<String> names) {
+            for (int i = 0; i < columns.size(); i++) {
+                String normalized = columns.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT);
+                if (names.contains(normalized)) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Settlement file has no column for " + names);
+        }
+
+        private static List<String> splitCsv(String line, long lineNumber) {
+            List<String> values = new ArrayList<>();
+            StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        value.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            if (quoted) {
+                throw new IllegalArgumentException("Unterminated quoted value at line " + lineNumber);
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+}
@@ -7,13 +7,23 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import ubuthebear.shop.domain.product.dto.response.CacheStatsResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductCursorResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductImportJobResponse;
 import ubuthebear.shop.domain.product.dto.response.ProductListResponse;
 import ubuthebear.shop.domain.product.dto.response.ProductResponse;
+import ubuthebear.shop.domain.product.service.ProductImportService;
 import ubuthebear.shop.domain.product.service.ProductService;
 
+import java.io.IOException;
+import java.util.List;
+
 @Tag(name = "Admin Product", description = "관리자용 상품 관리 API")
 @RestController
 @RequestMapping("/api/admin/products")
@@ -22,6 +32,7 @@ import ubuthebear.shop.domain.product.service.ProductService;
 public class AdminProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     @Operation(summary = "관리자용 상품 목록 조회", description = "모든 상품 목록을 페이지네이션, 정렬, 필터링과 함께 조회합니다.")
     @GetMapping
@@ -37,6 +48,20 @@ public class AdminProductController {
         return ResponseEntity.ok(productService.getAdminProducts(pageable, categoryId, keyword));
     }
 
+    @Operation(summary = "관리자용 상품 목록 커서 조회",
+            description = "커서 기반(키셋)으로 상품 목록을 조회합니다. 다음 페이지는 응답의 nextCursor를 전달하며, 전체 건수는 withTotal=true일 때만 계산합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ProductCursorResponse> getAdminProductsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "10") int size,
+            @RequestParam(required = false, defaultValue = "createdAt,desc") String sort,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false, defaultValue = "false") boolean withTotal) {
+
+        return ResponseEntity.ok(productService.getAdminProductsByCursor(cursor, size, sort, categoryId, keyword, withTotal));
+    }
+
     @Operation(summary = "상품 재고 수정", description = "관리자가 상품의 재고 수량을 직접 수정합니다.")
     @PutMapping("/{id}/stock")
     public ResponseEntity<ProductResponse> updateStock(
@@ -45,4 +70,23 @@ public class AdminProductController {
 
         return ResponseEntity.ok(productService.updateStock(id, quantity));
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "상품 캐시 통계 조회", description = "상품 정보/상세 정보 캐시의 적중률과 크기를 조회합니다.")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        return ResponseEntity.ok(productService.getCacheStats());
+    }
+
+    @Operation(summary = "상품 대량 등록",
+            description = "CSV 또는 JSON 파일로 상품을 대량 등록합니다. 처리는 백그라운드에서 진행되며 작업 ID로 진행 상황을 조회합니다.")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ProductImportJobResponse> importProducts(@RequestParam("file") MultipartFile file) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(productImportService.startImport(file));
+    }
+
+    @Operation(summary = "상품 대량 등록 진행 상황 조회", description = "대량 등록 작업의 처리 건수와 실패 사유를 조회합니다.")
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<ProductImportJobResponse> getImportJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(productImportService.getJob(jobId));
+    }
+}
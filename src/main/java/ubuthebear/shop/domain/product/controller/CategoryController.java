@@ -5,9 +5,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ubuthebear.shop.domain.product.dto.request.CategoryRequest;
 import ubuthebear.shop.domain.product.dto.response.CategoryResponse;
 import ubuthebear.shop.domain.product.service.CategoryService;
+import ubuthebear.shop.domain.product.service.CategorySnapshot;
 
 import java.util.List;
 
@@ -44,14 +46,22 @@ public class CategoryController {
     }
 
     /**
-     * 모든 카테고리 목록을 조회
+     * 모든 카테고리 목록을 상품 수와 함께 조회
+     * 메모리 스냅샷에서 반환하며, 스냅샷 버전을 ETag로 내려주어 변경이 없으면 304 Not Modified로 응답
      * HTTP GET /api/categories
      *
+     * @param request If-None-Match 헤더 확인용 요청 정보
      * @return ResponseEntity<List<CategoryResponse>> 전체 카테고리 목록
      */
-    @Operation(summary = "카테고리 목록 조회", description = "모든 카테고리를 조회합니다.")
+    @Operation(summary = "카테고리 목록 조회", description = "모든 카테고리를 상품 수와 함께 조회합니다.")
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<List<CategoryResponse>> getAllCategories(WebRequest request) {
+        CategorySnapshot snapshot = categoryService.getCategorySnapshot();
+        if (request.checkNotModified(snapshot.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .body(snapshot.getCategories());
     }
-}
\ No newline at end of file
+}
@@ -4,13 +4,20 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ubuthebear.shop.domain.product.dto.request.ProductRequest;
 import ubuthebear.shop.domain.product.dto.response.ProductDetailResponse;
 import ubuthebear.shop.domain.product.dto.response.ProductListResponse;
 import ubuthebear.shop.domain.product.dto.response.ProductResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductSearchResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductStockResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductSuggestResponse;
+import ubuthebear.shop.domain.product.dto.search.ProductSearchRequest;
 import ubuthebear.shop.domain.product.service.ProductService;
 
 import java.util.List;
@@ -54,15 +61,52 @@ public class ProductController {
 
     /**
      * 전체 상품 목록을 조회
+     * 전체 카탈로그를 한 번에 메모리에 올리므로 페이지 조회(/paged) 또는 내보내기(/export)를 사용
      * HTTP GET /api/products
      *
      * @return ResponseEntity<List<ProductListResponse>> 전체 상품 목록
      */
+    @Operation(summary = "전체 상품 목록 조회", description = "전체 상품 목록을 조회합니다. /api/products/paged 또는 /api/products/export를 사용하세요.",
+            deprecated = true)
     @GetMapping
     public ResponseEntity<List<ProductListResponse>> getProducts() {
         return ResponseEntity.ok(productService.getAllProducts());
     }
 
+    /**
+     * 상품 목록을 페이지 단위로 조회
+     * HTTP GET /api/products/paged?page={page}&size={size}&sort={sort}
+     *
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (최대 100)
+     * @param sort 정렬 조건 (예: createdAt,desc / price,asc)
+     * @return ResponseEntity<Page<ProductListResponse>> 상품 목록 페이지
+     */
+    @Operation(summary = "상품 목록 페이지 조회", description = "상품 목록을 페이지 단위로 조회합니다.")
+    @GetMapping("/paged")
+    public ResponseEntity<Page<ProductListResponse>> getProductsPage(
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false, defaultValue = "createdAt,desc") String sort) {
+        return ResponseEntity.ok(productService.getProductsPage(page, size, sort));
+    }
+
+    /**
+     * 전체 상품 목록을 NDJSON 스트림으로 내보내기
+     * 상품을 DB에서 읽는 대로 한 줄씩 응답에 기록하므로 카탈로그 크기와 관계없이 일정한 메모리로 처리
+     * HTTP GET /api/products/export
+     *
+     * @return ResponseEntity<StreamingResponseBody> 한 줄에 상품 하나씩 기록된 NDJSON 응답
+     */
+    @Operation(summary = "상품 목록 내보내기", description = "전체 상품 목록을 NDJSON 형식으로 스트리밍합니다.")
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportProducts() {
+        StreamingResponseBody body = productService::exportProducts;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     /**
      * 특정 카테고리에 속한 상품 목록을 조회
      * HTTP GET /api/products/category/{categoryId}
@@ -88,6 +132,21 @@ public class ProductController {
         return ResponseEntity.ok(productService.getProduct(id));
     }
 
+    /**
+     * 특정 상품의 현재 재고를 조회
+     * 상품 정보는 캐시되므로 구매 직전 등 정확한 재고가 필요할 때 사용
+     * HTTP GET /api/products/{id}/stock
+     *
+     * @param id 상품 ID
+     * @return ResponseEntity<ProductStockResponse> 재고 정보
+     * @throws RuntimeException 상품을 찾을 수 없는 경우
+     */
+    @Operation(summary = "상품 재고 조회", description = "상품의 최신 재고 수량을 조회합니다.")
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<ProductStockResponse> getStock(@PathVariable Long id) {
+        return ResponseEntity.ok(productService.getStock(id));
+    }
+
     /**
      * 특정 상품의 상세 정보를 조회
      * 조회 시 해당 상품의 조회수가 증가
@@ -151,4 +210,40 @@ public class ProductController {
     public ResponseEntity<List<ProductListResponse>> searchProducts(@RequestParam String keyword) {
         return ResponseEntity.ok(productService.searchProducts(keyword));
     }
+
+    /**
+     * 입력 중인 검색어에 대한 상품명/카테고리명 자동완성 제안을 조회
+     * 메모리 색인만 사용하므로 키 입력마다 호출해도 DB 부하가 발생하지 않음
+     * HTTP GET /api/products/suggest?q={q}&limit={limit}
+     *
+     * @param q 입력 중인 검색어
+     * @param limit 종류별 최대 제안 수 (최대 10)
+     * @return ResponseEntity<ProductSuggestResponse> 상품/카테고리 제안 목록
+     */
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 상품명과 카테고리명을 제안합니다.")
+    @GetMapping("/suggest")
+    public ResponseEntity<ProductSuggestResponse> suggest(
+            @RequestParam String q,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productService.suggest(q, limit));
+    }
+
+    /**
+     * 키워드, 카테고리, 가격 범위, 재고 여부 조건으로 상품을 검색
+     * 결과 페이지와 함께 카테고리/가격대/재고 패싯 건수를 반환
+     * HTTP GET /api/products/filter?keyword={keyword}&categoryId={categoryId}&minPrice={minPrice}&maxPrice={maxPrice}&inStock={inStock}&page={page}&size={size}
+     *
+     * @param request 검색 조건 {@link ProductSearchRequest}
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (최대 100)
+     * @return ResponseEntity<ProductSearchResponse> 검색된 상품 목록과 패싯 건수
+     */
+    @Operation(summary = "상품 조건 검색", description = "여러 조건으로 상품을 검색하고 패싯 건수를 함께 반환합니다.")
+    @GetMapping("/filter")
+    public ResponseEntity<ProductSearchResponse> searchProductsWithFilter(
+            @ModelAttribute ProductSearchRequest request,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.searchProductsWithFilter(request, page, size));
+    }
 }
\ No newline at end of file
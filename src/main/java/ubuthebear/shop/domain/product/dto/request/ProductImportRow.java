@@ -0,0 +1,41 @@
+package ubuthebear.shop.domain.product.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 대량 등록 파일(CSV/JSON)의 한 행을 표현하는 DTO 클래스
+ * 카테고리는 categoryId 또는 categoryName 중 하나로 지정
+ *
+ * CSV 헤더는 필드명과 같으며(대소문자 무시), imageUrls는 '|'로 구분하여 한 칸에 기록
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.product.service.ProductImportService
+ */
+@Getter @Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ProductImportRow {
+    private String name;                // 상품명 (필수)
+    private BigDecimal price;           // 가격 (필수, 0 이상)
+    private String description;         // 상품 설명
+    private Integer stockQuantity;      // 재고 수량 (필수, 0 이상)
+    private Long categoryId;            // 카테고리 ID
+    private String categoryName;        // 카테고리명 (categoryId가 없을 때 사용)
+
+    /**
+     * ProductDetail 관련 필드들 - 모두 선택적 입력 값
+     */
+    private String manufacturer;        // 제조사명
+    private String origin;              // 원산지 정보
+    private String material;            // 소재 정보
+    private String size;                // 크기 정보
+    private String weight;              // 무게 정보
+    private String content;             // HTML 형식의 상세 설명
+    private List<String> imageUrls = new ArrayList<>();    // 상세 이미지 URL 목록
+}
@@ -0,0 +1,22 @@
+package ubuthebear.shop.domain.product.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로컬 캐시의 적중/미적중 통계를 반환하기 위한 응답 DTO 클래스
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.product.service.ProductCache
+ */
+@Getter
+@RequiredArgsConstructor
+public class CacheStatsResponse {
+    private final String name;          // 캐시 이름
+    private final long size;            // 현재 저장된 항목 수 (추정치)
+    private final long hitCount;        // 적중 횟수
+    private final long missCount;       // 미적중 횟수
+    private final double hitRate;       // 적중률 (0.0 ~ 1.0)
+    private final long evictionCount;   // 크기/TTL 초과로 제거된 항목 수
+}
@@ -6,6 +6,7 @@ import ubuthebear.shop.domain.product.entity.Category;
 /**
  * 카테고리 정보를 반환하기 위한 응답 DTO (Data Transfer Object) 클래스
  * Category 엔티티의 정보를 클라이언트에게 전달하는 용도로 사용
+ * 불변 객체이므로 카테고리 스냅샷에 그대로 보관하여 여러 요청에서 공유
  *
  * @author ubuthebear
  * @version 1.0
@@ -13,20 +14,36 @@ import ubuthebear.shop.domain.product.entity.Category;
  */
 @Getter
 public class CategoryResponse {
-    private final Long categoryId;      // 카테고리 고유 식별자
-    private final String name;          // 카테고리명
-    private final String description;   // 카테고리 설명
-    private final int productCount;     // 카테고리에 속한 상품 수
+    private final Long categoryId;          // 카테고리 고유 식별자
+    private final String name;              // 카테고리명
+    private final String description;       // 카테고리 설명
+    private final long productCount;        // 카테고리에 속한 상품 수
+    private final long inStockProductCount; // 카테고리에 속한 재고 있는 상품 수
 
     /**
-     * Category 엔티티를 CategoryResponse DTO로 변환하는 생성자
+     * 상품이 없는 카테고리(새로 생성된 카테고리)의 응답을 생성하는 생성자
      *
      * @param category 변환할 Category 엔티티
      */
     public CategoryResponse(Category category) {
-        this.categoryId = category.getCategoryId();
-        this.name = category.getName();
-        this.description = category.getDescription();
-        this.productCount = category.getProducts().size();  // 연관된 상품 목록의 크기를 계산
+        this(category.getCategoryId(), category.getName(), category.getDescription(), 0L, 0L);
     }
-}
\ No newline at end of file
+
+    /**
+     * 카테고리 정보와 상품 수로 응답을 생성하는 생성자
+     *
+     * @param categoryId 카테고리 ID
+     * @param name 카테고리명
+     * @param description 카테고리 설명
+     * @param productCount 상품 수
+     * @param inStockProductCount 재고 있는 상품 수
+     */
+    public CategoryResponse(Long categoryId, String name, String description,
+                            long productCount, long inStockProductCount) {
+        this.categoryId = categoryId;
+        this.name = name;
+        this.description = description;
+        this.productCount = productCount;
+        this.inStockProductCount = inStockProductCount;
+    }
+}
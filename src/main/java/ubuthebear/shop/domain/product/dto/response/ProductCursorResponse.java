@@ -0,0 +1,24 @@
+package ubuthebear.shop.domain.product.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반(키셋) 상품 목록 조회 결과를 반환하기 위한 응답 DTO 클래스
+ * 다음 페이지는 nextCursor를 그대로 전달하여 조회
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductListResponse
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductCursorResponse {
+    private final List<ProductListResponse> content;  // 현재 페이지의 상품 목록
+    private final int size;                           // 요청한 페이지 크기
+    private final boolean hasNext;                    // 다음 페이지 존재 여부
+    private final String nextCursor;                  // 다음 페이지 커서 (마지막 페이지면 null)
+    private final Long totalElements;                 // 전체 상품 수 (요청한 경우에만 포함, 아니면 null)
+}
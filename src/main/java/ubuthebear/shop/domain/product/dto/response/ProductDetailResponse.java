@@ -36,14 +36,39 @@ public class ProductDetailResponse {
     public ProductDetailResponse(ProductDetail detail) {
         this.productDetailId = detail.getProductDetailId();
         this.content = detail.getContent();
-        this.imageUrls = detail.getImageUrls();
+        // 캐시에 보관되므로 지연 로딩 컬렉션 대신 복사본을 저장
+        this.imageUrls = List.copyOf(detail.getImageUrls());
         this.manufacturer = detail.getManufacturer();
         this.origin = detail.getOrigin();
         this.material = detail.getMaterial();
         this.size = detail.getSize();
         this.weight = detail.getWeight();
-        this.viewCount = detail.getViewCount();
+        this.viewCount = detail.getViewCount() != null ? detail.getViewCount() : 0L;
         this.updatedAt = detail.getUpdatedAt();
         this.createdAt = detail.getCreatedAt();
     }
-}
\ No newline at end of file
+
+    private ProductDetailResponse(ProductDetailResponse source, Long viewCount) {
+        this.productDetailId = source.productDetailId;
+        this.content = source.content;
+        this.imageUrls = source.imageUrls;
+        this.manufacturer = source.manufacturer;
+        this.origin = source.origin;
+        this.material = source.material;
+        this.size = source.size;
+        this.weight = source.weight;
+        this.viewCount = viewCount;
+        this.updatedAt = source.updatedAt;
+        this.createdAt = source.createdAt;
+    }
+
+    /**
+     * 조회수만 바꾼 새 응답을 생성 (캐시된 응답은 변경하지 않음)
+     *
+     * @param viewCount 새 조회수
+     * @return ProductDetailResponse 조회수가 바뀐 상세 정보
+     */
+    public ProductDetailResponse withViewCount(long viewCount) {
+        return new ProductDetailResponse(this, viewCount);
+    }
+}
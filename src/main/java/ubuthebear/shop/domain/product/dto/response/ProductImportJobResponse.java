@@ -0,0 +1,41 @@
+package ubuthebear.shop.domain.product.dto.response;
+
+import lombok.Getter;
+import ubuthebear.shop.domain.product.service.ProductImportJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 대량 등록 작업의 진행 상황을 반환하기 위한 응답 DTO 클래스
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductImportJob
+ */
+@Getter
+public class ProductImportJobResponse {
+    private final String jobId;                 // 작업 ID
+    private final String fileName;              // 업로드된 파일명
+    private final ProductImportJob.Status status;   // 작업 상태
+    private final long processedRows;           // 처리한 행 수
+    private final long importedRows;            // 등록된 상품 수
+    private final long failedRows;              // 실패한 행 수
+    private final List<String> errors;          // 실패 사유 (최대 100건)
+    private final String message;               // 작업 중단 사유
+    private final LocalDateTime startedAt;      // 시작 일시
+    private final LocalDateTime finishedAt;     // 종료 일시
+
+    public ProductImportJobResponse(ProductImportJob job) {
+        this.jobId = job.getJobId();
+        this.fileName = job.getFileName();
+        this.status = job.getStatus();
+        this.processedRows = job.getProcessedRows().get();
+        this.importedRows = job.getImportedRows().get();
+        this.failedRows = job.getFailedRows().get();
+        this.errors = job.getErrors();
+        this.message = job.getMessage();
+        this.startedAt = job.getStartedAt();
+        this.finishedAt = job.getFinishedAt();
+    }
+}
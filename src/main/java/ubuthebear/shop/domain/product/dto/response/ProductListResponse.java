@@ -37,4 +37,26 @@ public class ProductListResponse {
         this.categoryName = product.getCategory().getName();
         this.createdAt = product.getCreatedAt();
     }
+
+    /**
+     * JPQL 생성자 표현식(SELECT new ...)으로 목록 컬럼만 직접 조회할 때 사용하는 생성자
+     * 엔티티를 영속성 컨텍스트에 올리지 않고, 카테고리명도 조인으로 함께 조회하여 지연 로딩이 발생하지 않음
+     *
+     * @param productId 상품 ID
+     * @param name 상품명
+     * @param price 가격
+     * @param stockQuantity 재고 수량
+     * @param categoryName 카테고리명 (카테고리가 없으면 null)
+     * @param createdAt 등록일시
+     * @see ubuthebear.shop.domain.product.repository.ProductRepository#findAllListItems()
+     */
+    public ProductListResponse(Long productId, String name, BigDecimal price, Integer stockQuantity,
+                               String categoryName, LocalDateTime createdAt) {
+        this.productId = productId;
+        this.name = name;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+        this.categoryName = categoryName;
+        this.createdAt = createdAt;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package ubuthebear.shop.domain.product.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 조건 검색 결과를 반환하기 위한 응답 DTO 클래스
+ * 요청한 페이지의 상품 목록과 함께 카테고리/가격대/재고 패싯 건수를 한 번에 전달하여
+ * 프론트엔드가 패싯마다 별도 요청을 보내지 않도록 함
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductListResponse
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductSearchResponse {
+    private final List<ProductListResponse> content;    // 현재 페이지의 상품 목록
+    private final int page;                             // 현재 페이지 번호 (0부터 시작)
+    private final int size;                             // 페이지 크기
+    private final long totalElements;                   // 조건을 만족하는 전체 상품 수
+    private final int totalPages;                       // 전체 페이지 수
+    private final List<CategoryFacet> categoryFacets;   // 카테고리별 상품 수
+    private final List<PriceFacet> priceFacets;         // 가격대별 상품 수
+    private final long inStockCount;                    // 재고 있는 상품 수
+    private final long outOfStockCount;                 // 재고 없는 상품 수
+
+    /**
+     * 카테고리 패싯 (카테고리 조건을 제외한 나머지 조건 기준 건수)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class CategoryFacet {
+        private final Long categoryId;      // 카테고리 ID
+        private final String categoryName;  // 카테고리명
+        private final long count;           // 상품 수
+    }
+
+    /**
+     * 가격대 패싯 (가격 조건을 제외한 나머지 조건 기준 건수)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PriceFacet {
+        private final BigDecimal minPrice;  // 가격대 하한 (이상)
+        private final BigDecimal maxPrice;  // 가격대 상한 (미만, 상한이 없으면 null)
+        private final long count;           // 상품 수
+    }
+}
@@ -0,0 +1,19 @@
+package ubuthebear.shop.domain.product.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품의 현재 재고를 반환하기 위한 응답 DTO 클래스
+ * 캐시된 상품 정보와 달리 항상 DB의 최신 값을 담음
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductStockResponse {
+    private final Long productId;       // 상품 ID
+    private final int stockQuantity;    // 현재 재고 수량
+    private final boolean inStock;      // 구매 가능 여부
+}
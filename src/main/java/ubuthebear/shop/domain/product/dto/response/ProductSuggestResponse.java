@@ -0,0 +1,31 @@
+package ubuthebear.shop.domain.product.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 검색어 자동완성 결과를 반환하기 위한 응답 DTO 클래스
+ * 상품명 제안은 조회수 순, 카테고리명 제안은 이름 순으로 정렬
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductSuggestResponse {
+    private final String keyword;                   // 요청한 검색어
+    private final List<Suggestion> products;        // 상품명 제안 목록
+    private final List<Suggestion> categories;      // 카테고리명 제안 목록
+
+    /**
+     * 자동완성 제안 항목
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Suggestion {
+        private final Long id;      // 상품 ID 또는 카테고리 ID
+        private final String text;  // 제안 텍스트
+    }
+}
@@ -0,0 +1,133 @@
+package ubuthebear.shop.domain.product.dto.search;
+
+import lombok.Getter;
+import ubuthebear.shop.domain.product.entity.Product;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션에 사용하는 커서
+ * 직전 페이지 마지막 상품의 정렬 키 값과 상품 ID를 담으며,
+ * 클라이언트에는 Base64(URL-safe)로 인코딩된 불투명 문자열로 전달
+ *
+ * 커서에는 정렬 기준과 방향도 함께 기록하여, 다른 정렬 조건으로 커서를 재사용하는 요청을 거부
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+@Getter
+public class ProductCursor {
+
+    /**
+     * 키셋 페이지네이션을 지원하는 정렬 기준
+     * 동일한 값이 있을 수 있으므로 항상 상품 ID를 보조 정렬 키로 사용
+     */
+    public enum SortField {
+        CREATED_AT("createdAt"),
+        PRICE("price"),
+        NAME("name"),
+        PRODUCT_ID("productId");
+
+        private final String property;
+
+        SortField(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public static SortField from(String property) {
+            for (SortField field : values()) {
+                if (field.property.equals(property)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + property);
+        }
+
+        // 상품에서 정렬 키 값을 추출
+        Object valueOf(Product product) {
+            switch (this) {
+                case CREATED_AT: return product.getCreatedAt();
+                case PRICE: return product.getPrice();
+                case NAME: return product.getName();
+                default: return product.getProductId();
+            }
+        }
+
+        // 문자열로 인코딩된 정렬 키 값을 복원
+        Object parse(String value) {
+            switch (this) {
+                case CREATED_AT: return LocalDateTime.parse(value);
+                case PRICE: return new BigDecimal(value);
+                case NAME: return value;
+                default: return Long.valueOf(value);
+            }
+        }
+    }
+
+    private final SortField sortField;  // 정렬 기준
+    private final boolean ascending;    // 오름차순 여부
+    private final Object sortValue;     // 마지막 상품의 정렬 키 값
+    private final Long productId;       // 마지막 상품의 ID
+
+    private ProductCursor(SortField sortField, boolean ascending, Object sortValue, Long productId) {
+        this.sortField = sortField;
+        this.ascending = ascending;
+        this.sortValue = sortValue;
+        this.productId = productId;
+    }
+
+    /**
+     * 페이지의 마지막 상품으로 다음 페이지 커서를 생성
+     *
+     * @param sortField 정렬 기준
+     * @param ascending 오름차순 여부
+     * @param last 현재 페이지의 마지막 상품
+     * @return ProductCursor 다음 페이지 커서
+     */
+    public static ProductCursor after(SortField sortField, boolean ascending, Product last) {
+        return new ProductCursor(sortField, ascending, sortField.valueOf(last), last.getProductId());
+    }
+
+    /**
+     * 커서 문자열을 해석
+     * 형식: {정렬기준}:{asc|desc}:{상품ID}:{정렬 키 값} (Base64 URL-safe 인코딩)
+     *
+     * @param encoded 클라이언트가 전달한 커서 문자열
+     * @param sortField 요청의 정렬 기준
+     * @param ascending 요청의 정렬 방향
+     * @return ProductCursor 해석된 커서
+     * @throws IllegalArgumentException 커서 형식이 잘못되었거나 정렬 조건이 일치하지 않는 경우
+     */
+    public static ProductCursor decode(String encoded, SortField sortField, boolean ascending) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":", 4);
+            if (parts.length != 4
+                    || SortField.from(parts[0]) != sortField
+                    || "asc".equals(parts[1]) != ascending) {
+                throw new IllegalArgumentException("정렬 조건이 커서와 일치하지 않습니다.");
+            }
+            return new ProductCursor(sortField, ascending, sortField.parse(parts[3]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + encoded, e);
+        }
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 인코딩
+     *
+     * @return String Base64(URL-safe) 인코딩된 커서
+     */
+    public String encode() {
+        String value = sortValue instanceof BigDecimal ? ((BigDecimal) sortValue).toPlainString() : String.valueOf(sortValue);
+        String raw = sortField.getProperty() + ":" + (ascending ? "asc" : "desc") + ":" + productId + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,12 +5,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * 상품 카테고리 정보를 저장하는 엔티티 클래스
  * 하나의 카테고리는 여러 상품을 포함할 수 있음
+ * 상품 목록 컬렉션은 매핑하지 않음 (상품 수는 {@link ubuthebear.shop.domain.product.service.CategoryCatalog}에서 관리)
  *
  * @author ubuthebear
  * @version 1.0
@@ -42,12 +40,4 @@ public class Category {
      * 선택적으로 입력 가능한 부가 설명
      */
     private String description;
-
-    /**
-     * 해당 카테고리에 속한 상품 목록
-     * Category와 Product는 1:N 관계
-     * mappedBy = "category" : 연관관계의 주인이 Product 엔티티의 category 필드임
-     */
-    @OneToMany(mappedBy = "category")
-    private List<Product> products = new ArrayList<>();
-}
\ No newline at end of file
+}
@@ -21,7 +21,12 @@ import java.time.LocalDateTime;
  * @see ProductDetail
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        // 관리자 목록 키셋 페이지네이션용 (정렬 키, 상품 ID) 복합 인덱스
+        @Index(name = "idx_products_created_at_id", columnList = "created_at, product_id"),
+        @Index(name = "idx_products_price_id", columnList = "price, product_id"),
+        @Index(name = "idx_products_name_id", columnList = "name, product_id")
+})
 @Getter @Setter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
@@ -29,10 +34,13 @@ public class Product {
 
     /**
      * 상품의 고유 식별자
-     * 자동 생성되는 기본키
+     * 시퀀스(products_seq)로 생성되는 기본키
+     * IDENTITY 전략은 INSERT마다 키를 받아와야 하므로 JDBC 배치 삽입이 비활성화됨
+     * allocationSize만큼 ID를 미리 할당받아(pooled) 대량 등록 시 배치 INSERT가 가능하도록 함
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq_generator")
+    @SequenceGenerator(name = "products_seq_generator", sequenceName = "products_seq", allocationSize = 100)
     private Long productId;
 
     /**
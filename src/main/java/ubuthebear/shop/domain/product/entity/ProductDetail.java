@@ -27,10 +27,11 @@ public class ProductDetail {
 
     /**
      * 상품 상세 정보의 고유 식별자
-     * 자동 생성되는 기본키
+     * 시퀀스(product_details_seq)로 생성되는 기본키 (배치 INSERT 지원, {@link Product#getProductId()} 참고)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_details_seq_generator")
+    @SequenceGenerator(name = "product_details_seq_generator", sequenceName = "product_details_seq", allocationSize = 100)
     private Long productDetailId;
 
     /**
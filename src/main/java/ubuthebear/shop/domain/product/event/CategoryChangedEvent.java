@@ -0,0 +1,20 @@
+package ubuthebear.shop.domain.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카테고리의 생성/수정을 알리는 애플리케이션 이벤트
+ * 자동완성 색인 등 카테고리명을 메모리에 보관하는 컴포넌트들이 구독하여 상태를 갱신
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.product.entity.Category
+ */
+@Getter
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+    private final Long categoryId;      // 카테고리 ID
+    private final String name;          // 카테고리명
+    private final String description;   // 카테고리 설명
+}
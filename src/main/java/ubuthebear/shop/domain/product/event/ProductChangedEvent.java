@@ -0,0 +1,90 @@
+package ubuthebear.shop.domain.product.event;
+
+import lombok.Getter;
+import ubuthebear.shop.domain.product.entity.Product;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품의 생성, 수정, 삭제를 알리는 애플리케이션 이벤트
+ * 검색 인덱스 등 메모리에 상품 정보를 보관하는 컴포넌트들이 구독하여 상태를 갱신
+ * 트랜잭션 커밋 이후에 처리되므로, 이벤트 생성 시점의 값을 스냅샷으로 보관
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see Product
+ */
+@Getter
+public class ProductChangedEvent {
+
+    /**
+     * 상품 변경 유형
+     */
+    public enum ChangeType {
+        CREATED,    // 상품 등록
+        UPDATED,    // 상품 수정
+        DELETED     // 상품 삭제
+    }
+
+    private final ChangeType type;              // 변경 유형
+    private final Long productId;               // 상품 ID
+    private final String name;                  // 상품명 (삭제 시 null)
+    private final String description;           // 상품 설명 (삭제 시 null)
+    private final Long categoryId;              // 카테고리 ID (삭제 시 null)
+    private final BigDecimal price;             // 가격 (삭제 시 null)
+    private final Integer stockQuantity;        // 재고 수량 (삭제 시 null)
+    private final Long previousCategoryId;      // 변경 전 카테고리 ID (등록 시 null)
+    private final Integer previousStockQuantity;    // 변경 전 재고 수량 (등록 시 null)
+
+    private ProductChangedEvent(ChangeType type, Long productId, Product product,
+                                Long previousCategoryId, Integer previousStockQuantity) {
+        this.type = type;
+        this.productId = productId;
+        this.name = product != null ? product.getName() : null;
+        this.description = product != null ? product.getDescription() : null;
+        this.categoryId = categoryIdOf(product);
+        this.price = product != null ? product.getPrice() : null;
+        this.stockQuantity = product != null ? product.getStockQuantity() : null;
+        this.previousCategoryId = previousCategoryId;
+        this.previousStockQuantity = previousStockQuantity;
+    }
+
+    /**
+     * 상품 등록 이벤트 생성
+     *
+     * @param product 저장된 상품 엔티티 (ID가 할당된 상태여야 함)
+     * @return ProductChangedEvent 등록 이벤트
+     */
+    public static ProductChangedEvent created(Product product) {
+        return new ProductChangedEvent(ChangeType.CREATED, product.getProductId(), product, null, null);
+    }
+
+    /**
+     * 상품 수정 이벤트 생성
+     * 카테고리별 상품 수처럼 증분으로 관리되는 값을 보정할 수 있도록 변경 전 카테고리와 재고를 함께 전달
+     *
+     * @param product 수정된 상품 엔티티
+     * @param previousCategoryId 변경 전 카테고리 ID
+     * @param previousStockQuantity 변경 전 재고 수량
+     * @return ProductChangedEvent 수정 이벤트
+     */
+    public static ProductChangedEvent updated(Product product, Long previousCategoryId, Integer previousStockQuantity) {
+        return new ProductChangedEvent(ChangeType.UPDATED, product.getProductId(), product,
+                previousCategoryId, previousStockQuantity);
+    }
+
+    /**
+     * 상품 삭제 이벤트 생성
+     *
+     * @param product 삭제된 상품 엔티티 (삭제 전 카테고리와 재고를 변경 전 값으로 기록)
+     * @return ProductChangedEvent 삭제 이벤트
+     */
+    public static ProductChangedEvent deleted(Product product) {
+        return new ProductChangedEvent(ChangeType.DELETED, product.getProductId(), null,
+                categoryIdOf(product), product.getStockQuantity());
+    }
+
+    private static Long categoryIdOf(Product product) {
+        return product != null && product.getCategory() != null ? product.getCategory().getCategoryId() : null;
+    }
+}
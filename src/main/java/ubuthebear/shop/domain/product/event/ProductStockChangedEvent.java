@@ -0,0 +1,33 @@
+package ubuthebear.shop.domain.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문/취소 등으로 상품 재고만 변경되었음을 알리는 애플리케이션 이벤트
+ * 재고는 조건부 UPDATE로 DB에서 직접 증감하므로 엔티티 스냅샷 대신 상품별 변경 전/후 재고를 전달하며,
+ * 한 주문의 여러 상품을 묶어 구독 측이 한 번의 락 구간에서 반영하도록 함
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.product.service.ProductStockService
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductStockChangedEvent {
+    private final List<StockChange> changes;    // 상품별 재고 변경 내역
+
+    /**
+     * 상품 하나의 재고 변경 내역
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class StockChange {
+        private final Long productId;               // 상품 ID
+        private final Long categoryId;              // 카테고리 ID (없으면 null)
+        private final int previousStockQuantity;    // 변경 전 재고 수량
+        private final int stockQuantity;            // 변경 후 재고 수량
+    }
+}
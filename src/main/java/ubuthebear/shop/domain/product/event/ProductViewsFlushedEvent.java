@@ -0,0 +1,20 @@
+package ubuthebear.shop.domain.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 메모리에 누적된 조회수가 DB에 반영되었음을 알리는 애플리케이션 이벤트
+ * 캐시된 상세 정보 등 조회수를 보관하는 컴포넌트들이 구독하여 반영된 증가분을 더함
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.product.service.ProductViewCountBuffer
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductViewsFlushedEvent {
+    private final Map<Long, Long> viewCountDeltas;  // 상품 ID별 반영된 조회수 증가분
+}
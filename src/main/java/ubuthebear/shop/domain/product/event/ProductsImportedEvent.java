@@ -0,0 +1,21 @@
+package ubuthebear.shop.domain.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대량 등록으로 한 번에 저장된 상품들을 알리는 애플리케이션 이벤트
+ * 상품마다 {@link ProductChangedEvent}를 처리하면 색인 락 획득과 재계산이 상품 수만큼 반복되므로,
+ * 청크 단위로 묶어 전달하여 구독 측이 한 번의 락 구간에서 일괄 반영하도록 함
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.product.service.ProductImportService
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductsImportedEvent {
+    private final List<ProductChangedEvent> events;     // 저장된 상품별 등록 이벤트
+}
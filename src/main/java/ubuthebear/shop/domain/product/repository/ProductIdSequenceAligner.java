@@ -0,0 +1,55 @@
+package ubuthebear.shop.domain.product.repository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품/상품 상세 ID 시퀀스를 기존 데이터의 최대 ID 이후로 맞추는 컴포넌트
+ * IDENTITY(AUTO_INCREMENT)로 저장된 기존 행이 있는 상태에서 시퀀스 전략으로 전환하면
+ * 새 시퀀스가 1부터 시작하여 기본키가 충돌하므로, 애플리케이션 시작 시(요청을 받기 전) 한 번 보정
+ *
+ * Hibernate pooled 최적화는 시퀀스 값 v에 대해 (v - allocationSize, v] 구간의 ID를 사용하므로
+ * 다음 시퀀스 값이 "최대 ID + allocationSize" 이상이 되도록 재설정
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.product.entity.Product
+ * @see ubuthebear.shop.domain.product.entity.ProductDetail
+ */
+@Slf4j
+@Component
+public class ProductIdSequenceAligner {
+
+    private static final int ALLOCATION_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory 초기화(스키마 생성/갱신) 이후에 실행되도록 의존성으로 주입
+    public ProductIdSequenceAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void align() {
+        align("products_seq", "products", "product_id");
+        align("product_details_seq", "product_details", "product_detail_id");
+    }
+
+    private void align(String sequence, String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        if (maxId == null || maxId == 0L) {
+            return;
+        }
+        Long nextValue = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+        if (nextValue == null || nextValue - ALLOCATION_SIZE >= maxId) {
+            return;
+        }
+
+        long restartWith = maxId + ALLOCATION_SIZE;
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith);
+        log.info("Aligned id sequence - sequence: {}, maxId: {}, restartWith: {}", sequence, maxId, restartWith);
+    }
+}
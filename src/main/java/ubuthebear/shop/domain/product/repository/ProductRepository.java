@@ -2,14 +2,23 @@ package ubuthebear.shop.domain.product.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import ubuthebear.shop.domain.product.dto.response.ProductListResponse;
 import ubuthebear.shop.domain.product.entity.Category;
 import ubuthebear.shop.domain.product.entity.Product;
+import ubuthebear.shop.domain.product.entity.ProductDetail;
 
 import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 상품 데이터 접근을 위한 리포지토리 인터페이스
@@ -20,9 +29,10 @@ import java.util.List;
  * @version 1.0
  * @see Product
  * @see JpaRepository
+ * @see ProductRepositoryCustom
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     /**
      * 상품명에 특정 문자열이 포함된 상품들을 검색
      * 대소문자를 구분하여 검색하며, 부분 일치도 검색 가능
@@ -32,6 +42,16 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
      */
     List<Product> findByNameContaining(String name);
+
+    /**
+     * 상품명 또는 상품 설명에 특정 문자열이 포함된 상품들을 검색
+     *
+     * @param name 상품명 검색 키워드
+     * @param description 상품 설명 검색 키워드
+     * @return List<Product> 검색된 상품 목록 (검색 결과가 없을 경우 빈 리스트)
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    List<Product> findByNameContainingOrDescriptionContaining(String name, String description);
     /**
      * 특정 카테고리에 속한 모든 상품을 검색
      * Category 엔티티의 연관관계를 통해 검색
@@ -75,4 +95,205 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     // 카테고리별 상품 조회
     Page<Product> findByCategory(Category category, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 검색 색인 구축용으로 상품 ID, 상품명, 상품 설명만 조회
+     * 상품 ID 기준 키셋 페이징으로 대량의 상품을 나누어 읽을 때 사용
+     *
+     * @param lastId 이전 배치의 마지막 상품 ID (처음 조회 시 0)
+     * @param pageable 배치 크기 (첫 페이지만 사용)
+     * @return List<Object[]> [productId, name, description] 배열 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT p.productId, p.name, p.description FROM Product p " +
+            "WHERE p.productId > :lastId ORDER BY p.productId")
+    List<Object[]> findSearchRowsAfter(Long lastId, Pageable pageable);
+
+    /**
+     * 필터 엔진 구축용으로 상품 ID, 카테고리 ID, 가격, 재고 수량만 조회
+     * 상품 ID 기준 키셋 페이징으로 대량의 상품을 나누어 읽을 때 사용
+     *
+     * @param lastId 이전 배치의 마지막 상품 ID (처음 조회 시 0)
+     * @param pageable 배치 크기 (첫 페이지만 사용)
+     * @return List<Object[]> [productId, categoryId, price, stockQuantity] 배열 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT p.productId, c.categoryId, p.price, p.stockQuantity FROM Product p " +
+            "LEFT JOIN p.category c WHERE p.productId > :lastId ORDER BY p.productId")
+    List<Object[]> findFilterRowsAfter(Long lastId, Pageable pageable);
+
+    /**
+     * 자동완성 색인 구축용으로 상품 ID, 상품명, 조회수만 조회
+     * 상품 ID 기준 키셋 페이징으로 대량의 상품을 나누어 읽을 때 사용
+     *
+     * @param lastId 이전 배치의 마지막 상품 ID (처음 조회 시 0)
+     * @param pageable 배치 크기 (첫 페이지만 사용)
+     * @return List<Object[]> [productId, name, viewCount] 배열 목록 (상세 정보가 없으면 viewCount는 null)
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT p.productId, p.name, d.viewCount FROM Product p " +
+            "LEFT JOIN p.productDetail d WHERE p.productId > :lastId ORDER BY p.productId")
+    List<Object[]> findSuggestRowsAfter(Long lastId, Pageable pageable);
+
+    /**
+     * 상품 목록 화면에 필요한 컬럼만 DTO로 직접 조회
+     * 카테고리명을 조인으로 함께 가져오므로 상품마다 카테고리를 지연 로딩하는 N+1 문제가 발생하지 않고,
+     * 설명 등 목록에 필요 없는 컬럼과 관리 대상 엔티티를 만들지 않음
+     *
+     * @return List<ProductListResponse> 상품 ID 오름차순 전체 상품 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT new ubuthebear.shop.domain.product.dto.response.ProductListResponse(" +
+            "p.productId, p.name, p.price, p.stockQuantity, c.name, p.createdAt) " +
+            "FROM Product p LEFT JOIN p.category c ORDER BY p.productId")
+    List<ProductListResponse> findAllListItems();
+
+    /**
+     * 특정 카테고리의 상품 목록을 DTO로 직접 조회
+     *
+     * @param categoryId 카테고리 ID
+     * @return List<ProductListResponse> 상품 ID 오름차순 상품 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT new ubuthebear.shop.domain.product.dto.response.ProductListResponse(" +
+            "p.productId, p.name, p.price, p.stockQuantity, c.name, p.createdAt) " +
+            "FROM Product p JOIN p.category c WHERE c.categoryId = :categoryId ORDER BY p.productId")
+    List<ProductListResponse> findListItemsByCategoryId(Long categoryId);
+
+    /**
+     * 상품 ID 목록에 해당하는 상품들을 DTO로 직접 조회
+     * 검색 색인이나 필터 엔진이 찾은 상품 ID로 목록을 만들 때 사용
+     *
+     * @param productIds 조회할 상품 ID 목록
+     * @return List<ProductListResponse> 상품 ID 오름차순 상품 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT new ubuthebear.shop.domain.product.dto.response.ProductListResponse(" +
+            "p.productId, p.name, p.price, p.stockQuantity, c.name, p.createdAt) " +
+            "FROM Product p LEFT JOIN p.category c WHERE p.productId IN :productIds ORDER BY p.productId")
+    List<ProductListResponse> findListItemsByIdIn(Collection<Long> productIds);
+
+    /**
+     * 상품명에 특정 문자열이 포함된 상품들을 DTO로 직접 조회
+     * 검색 색인이 구축되기 전의 키워드 검색에 사용
+     *
+     * @param keyword 검색할 상품명 키워드
+     * @return List<ProductListResponse> 상품 ID 오름차순 상품 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT new ubuthebear.shop.domain.product.dto.response.ProductListResponse(" +
+            "p.productId, p.name, p.price, p.stockQuantity, c.name, p.createdAt) " +
+            "FROM Product p LEFT JOIN p.category c WHERE p.name LIKE CONCAT('%', :keyword, '%') ORDER BY p.productId")
+    List<ProductListResponse> findListItemsByNameContaining(String keyword);
+
+    /**
+     * 상품 목록을 DTO로 직접 페이지 조회
+     * 정렬 조건은 Pageable의 Sort가 "p." 별칭 기준으로 추가됨
+     *
+     * @param pageable 페이지 정보 (정렬 포함)
+     * @return Page<ProductListResponse> 상품 목록 페이지
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query(value = "SELECT new ubuthebear.shop.domain.product.dto.response.ProductListResponse(" +
+            "p.productId, p.name, p.price, p.stockQuantity, c.name, p.createdAt) " +
+            "FROM Product p LEFT JOIN p.category c",
+            countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductListResponse> findListItems(Pageable pageable);
+
+    /**
+     * 전체 상품 목록을 DTO 스트림으로 조회 (내보내기용)
+     * JDBC fetch size를 지정하여 결과를 나누어 읽으므로 상품 수와 관계없이 일정한 메모리로 처리
+     * 반드시 트랜잭션 안에서 사용하고, 사용 후 스트림을 닫아야 함
+     *
+     * @return Stream<ProductListResponse> 상품 ID 오름차순 상품 스트림
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new ubuthebear.shop.domain.product.dto.response.ProductListResponse(" +
+            "p.productId, p.name, p.price, p.stockQuantity, c.name, p.createdAt) " +
+            "FROM Product p LEFT JOIN p.category c ORDER BY p.productId")
+    Stream<ProductListResponse> streamAllListItems();
+
+    /**
+     * 상품을 카테고리, 상세 정보와 함께 한 번의 쿼리로 조회
+     * 상품 정보 응답을 만들 때 연관 엔티티의 지연 로딩이 추가로 발생하지 않도록 함
+     *
+     * @param productId 상품 ID
+     * @return Optional<Product> 연관 정보가 함께 로딩된 상품
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category LEFT JOIN FETCH p.productDetail " +
+            "WHERE p.productId = :productId")
+    Optional<Product> findWithCategoryAndDetailById(Long productId);
+
+    /**
+     * 상품의 상세 정보를 이미지 URL 목록과 함께 조회
+     *
+     * @param productId 상품 ID
+     * @return Optional<ProductDetail> 이미지 URL 목록이 함께 로딩된 상세 정보
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT d FROM ProductDetail d LEFT JOIN FETCH d.imageUrls WHERE d.product.productId = :productId")
+    Optional<ProductDetail> findDetailWithImagesByProductId(Long productId);
+
+    /**
+     * 상품의 현재 재고 수량만 조회
+     *
+     * @param productId 상품 ID
+     * @return Optional<Integer> 재고 수량 (상품이 없으면 empty)
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.productId = :productId")
+    Optional<Integer> findStockQuantityById(Long productId);
+
+    /**
+     * 카테고리별 상품 수와 재고 있는 상품 수를 집계
+     * 카테고리 스냅샷을 처음 구성할 때 한 번만 사용 (이후에는 변경 이벤트로 증분 갱신)
+     *
+     * @return List<Object[]> [categoryId, productCount, inStockProductCount] 배열 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT c.categoryId, COUNT(p), SUM(CASE WHEN p.stockQuantity > 0 THEN 1 ELSE 0 END) " +
+            "FROM Product p JOIN p.category c GROUP BY c.categoryId")
+    List<Object[]> countByCategory();
+
+    /**
+     * 재고가 충분한 경우에만 재고를 차감 (조건부 UPDATE)
+     * 재고 확인과 차감을 한 문장으로 처리하므로 동시에 주문이 들어와도 재고가 음수가 되지 않으며,
+     * 행 잠금은 UPDATE 시점부터 트랜잭션 종료까지만 유지됨
+     * 영속성 컨텍스트의 상품 엔티티에는 반영되지 않으므로 이후 재고 값이 필요하면 다시 조회해야 함
+     *
+     * @param productId 상품 ID
+     * @param quantity 차감할 수량 (양수)
+     * @return int 변경된 행 수 (재고가 부족하거나 상품이 없으면 0)
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity " +
+            "WHERE p.productId = :productId AND p.stockQuantity >= :quantity")
+    int decreaseStock(Long productId, int quantity);
+
+    /**
+     * 재고를 증가 (주문 취소 등으로 재고를 복구할 때 사용)
+     *
+     * @param productId 상품 ID
+     * @param quantity 증가할 수량 (양수)
+     * @return int 변경된 행 수 (상품이 없으면 0)
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity WHERE p.productId = :productId")
+    int increaseStock(Long productId, int quantity);
+
+    /**
+     * 상품 ID 목록에 해당하는 상품의 카테고리 ID와 현재 재고 수량만 조회
+     * 조건부 UPDATE 이후 변경된 재고 값을 이벤트로 전달하거나, 재고 부족 사유를 만들 때 사용
+     *
+     * @param productIds 조회할 상품 ID 목록
+     * @return List<Object[]> [productId, categoryId, stockQuantity] 배열 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT p.productId, c.categoryId, p.stockQuantity FROM Product p " +
+            "LEFT JOIN p.category c WHERE p.productId IN :productIds")
+    List<Object[]> findStockRowsByIdIn(Collection<Long> productIds);
+}
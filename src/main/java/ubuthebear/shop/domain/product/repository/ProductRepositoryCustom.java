@@ -0,0 +1,41 @@
+package ubuthebear.shop.domain.product.repository;
+
+import ubuthebear.shop.domain.product.dto.search.ProductCursor;
+import ubuthebear.shop.domain.product.entity.Product;
+
+import java.util.List;
+
+/**
+ * 동적 조건이 필요한 상품 조회를 위한 커스텀 리포지토리 인터페이스
+ * 정렬 기준에 따라 JPQL이 달라지는 키셋(seek) 페이지네이션 조회를 제공
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductRepositoryCustomImpl
+ */
+public interface ProductRepositoryCustom {
+
+    /**
+     * 커서 이후의 상품 목록을 키셋 방식으로 조회
+     * OFFSET 없이 (정렬 키, 상품 ID) 조건으로 시작 위치를 찾으므로 페이지 깊이와 무관하게 일정한 비용으로 조회
+     *
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param keyword 상품명/설명 검색 키워드 (null이거나 비어있으면 전체)
+     * @param sortField 정렬 기준
+     * @param ascending 오름차순 여부
+     * @param cursor 직전 페이지의 커서 (null이면 첫 페이지)
+     * @param limit 조회할 최대 상품 수
+     * @return List<Product> 카테고리가 함께 로딩된 상품 목록
+     */
+    List<Product> findPageByKeyset(Long categoryId, String keyword, ProductCursor.SortField sortField,
+                                   boolean ascending, ProductCursor cursor, int limit);
+
+    /**
+     * 키셋 조회와 동일한 조건의 전체 상품 수를 조회
+     *
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param keyword 상품명/설명 검색 키워드 (null이거나 비어있으면 전체)
+     * @return long 조건을 만족하는 상품 수
+     */
+    long countByCondition(Long categoryId, String keyword);
+}
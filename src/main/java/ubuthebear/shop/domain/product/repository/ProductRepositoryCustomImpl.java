@@ -0,0 +1,87 @@
+package ubuthebear.shop.domain.product.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import ubuthebear.shop.domain.product.dto.search.ProductCursor;
+import ubuthebear.shop.domain.product.entity.Product;
+
+import java.util.List;
+
+/**
+ * {@link ProductRepositoryCustom}의 JPQL 기반 구현체
+ * 정렬 기준과 필터 조건에 따라 쿼리 문자열을 조합하며, 값은 모두 파라미터로 바인딩
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Product> findPageByKeyset(Long categoryId, String keyword, ProductCursor.SortField sortField,
+                                          boolean ascending, ProductCursor cursor, int limit) {
+        String sortPath = "p." + sortField.getProperty();
+        String direction = ascending ? "ASC" : "DESC";
+        String comparator = ascending ? ">" : "<";
+
+        StringBuilder jpql = new StringBuilder("SELECT p FROM Product p LEFT JOIN FETCH p.category c WHERE 1 = 1");
+        appendConditions(jpql, categoryId, keyword);
+        if (cursor != null) {
+            if (sortField == ProductCursor.SortField.PRODUCT_ID) {
+                jpql.append(" AND p.productId ").append(comparator).append(" :lastId");
+            } else {
+                // (정렬 키, 상품 ID) 튜플 비교를 인덱스가 활용 가능한 OR 조건으로 풀어서 작성
+                jpql.append(" AND (").append(sortPath).append(' ').append(comparator).append(" :lastValue")
+                        .append(" OR (").append(sortPath).append(" = :lastValue AND p.productId ")
+                        .append(comparator).append(" :lastId))");
+            }
+        }
+        if (sortField == ProductCursor.SortField.PRODUCT_ID) {
+            jpql.append(" ORDER BY p.productId ").append(direction);
+        } else {
+            jpql.append(" ORDER BY ").append(sortPath).append(' ').append(direction)
+                    .append(", p.productId ").append(direction);
+        }
+
+        TypedQuery<Product> query = entityManager.createQuery(jpql.toString(), Product.class);
+        bindConditions(query, categoryId, keyword);
+        if (cursor != null) {
+            query.setParameter("lastId", cursor.getProductId());
+            if (sortField != ProductCursor.SortField.PRODUCT_ID) {
+                query.setParameter("lastValue", cursor.getSortValue());
+            }
+        }
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countByCondition(Long categoryId, String keyword) {
+        StringBuilder jpql = new StringBuilder("SELECT COUNT(p) FROM Product p WHERE 1 = 1");
+        appendConditions(jpql, categoryId, keyword);
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+        bindConditions(query, categoryId, keyword);
+        return query.getSingleResult();
+    }
+
+    private void appendConditions(StringBuilder jpql, Long categoryId, String keyword) {
+        if (categoryId != null) {
+            jpql.append(" AND p.category.categoryId = :categoryId");
+        }
+        if (keyword != null && !keyword.isEmpty()) {
+            jpql.append(" AND (p.name LIKE :keyword OR p.description LIKE :keyword)");
+        }
+    }
+
+    private void bindConditions(TypedQuery<?> query, Long categoryId, String keyword) {
+        if (categoryId != null) {
+            query.setParameter("categoryId", categoryId);
+        }
+        if (keyword != null && !keyword.isEmpty()) {
+            query.setParameter("keyword", "%" + keyword + "%");
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package ubuthebear.shop.domain.product.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ubuthebear.shop.domain.product.dto.search.ProductSearchRequest;
+import ubuthebear.shop.domain.product.event.ProductChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductStockChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductsImportedEvent;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색 조건(카테고리, 가격 범위, 재고 여부)을 비트셋으로 평가하는 메모리 기반 필터 엔진
+ * 카테고리별, 가격대별, 재고 보유 여부별로 비트셋을 유지하여 조건 간 교집합을 비트 연산으로 계산하고,
+ * 검색 결과와 함께 카테고리/가격대/재고 패싯(facet) 건수를 한 번에 산출
+ *
+ * 각 패싯 건수는 해당 패싯 자신의 조건만 제외한 나머지 조건으로 계산
+ * (예: 카테고리 패싯은 키워드/가격/재고 조건을 적용한 상태에서 카테고리별 건수)
+ *
+ * 삭제된 상품의 문서 번호는 비워 두었다가, 검색 색인과 같이 일정 비율 이상 쌓이면 문서 번호를 다시 매겨 압축
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductSearchRequest
+ * @see ProductSearchIndex
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFilterEngine {
+
+    /**
+     * 가격대 패싯의 경계값 (원)
+     * 마지막 가격대는 상한이 없음
+     */
+    private static final long[] PRICE_BAND_BOUNDS = {0L, 10_000L, 30_000L, 50_000L, 100_000L, 300_000L};
+    private static final int BUILD_BATCH_SIZE = 1000;
+    private static final long NO_CATEGORY = -1L;
+    private static final int COMPACTION_MIN_DELETED = 1024;
+
+    private final ProductRepository productRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docIdsByProductId = new HashMap<>();
+    private final Map<Long, BitSet> categoryBits = new HashMap<>();
+    private final BitSet[] priceBandBits = new BitSet[PRICE_BAND_BOUNDS.length];
+    private final BitSet inStockBits = new BitSet();
+    private final BitSet liveDocs = new BitSet();
+    private final Set<Long> changedDuringBuild = new HashSet<>();
+    private final Map<Long, Integer> stocksChangedDuringBuild = new HashMap<>();
+    private long[] productIdsByDocId = new long[1024];
+    private long[] categoryIdsByDocId = new long[1024];
+    private BigDecimal[] pricesByDocId = new BigDecimal[1024];
+    private int nextDocId;
+    private int deletedCount;
+    private volatile boolean ready;
+
+    {
+        for (int i = 0; i < priceBandBits.length; i++) {
+            priceBandBits[i] = new BitSet();
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 상품의 필터 속성을 적재
+     * 페이지를 읽은 뒤 반영하기 전에 커밋된 변경이 오래된 행으로 덮어써지지 않도록,
+     * 구축 중 상품 변경 이벤트로 반영된 상품은 건너뛰고 재고 변경 이벤트의 재고는 행 반영 후 다시 적용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        int loaded = 0;
+        List<Object[]> rows;
+        do {
+            rows = productRepository.findFilterRowsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    Long productId = (Long) row[0];
+                    lastId = productId;
+                    if (changedDuringBuild.contains(productId)) {
+                        continue;
+                    }
+                    upsert(productId, (Long) row[1], (BigDecimal) row[2], (Integer) row[3]);
+                    Integer latestStock = stocksChangedDuringBuild.get(productId);
+                    if (latestStock != null) {
+                        updateStock(productId, latestStock);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            loaded += rows.size();
+        } while (rows.size() == BUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            changedDuringBuild.clear();
+            stocksChangedDuringBuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product filter engine built - products: {}, elapsed: {}ms",
+                loaded, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 필터 엔진 적재 완료 여부
+     *
+     * @return boolean 필터 평가 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 상품 변경 이벤트를 받아 필터 속성을 갱신 (커밋 이후 반영)
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대량 등록된 상품들의 필터 속성을 한 번의 락 구간에서 반영
+     *
+     * @param event 대량 등록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getEvents().forEach(this::apply);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주문/취소로 변경된 재고를 반영 (재고 보유 여부 비트만 갱신)
+     *
+     * @param event 재고 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (ProductStockChangedEvent.StockChange change : event.getChanges()) {
+                if (!ready) {
+                    stocksChangedDuringBuild.put(change.getProductId(), change.getStockQuantity());
+                }
+                updateStock(change.getProductId(), change.getStockQuantity());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void updateStock(Long productId, int stockQuantity) {
+        Integer docId = docIdsByProductId.get(productId);
+        if (docId != null) {
+            inStockBits.set(docId, stockQuantity > 0);
+        }
+    }
+
+    private void apply(ProductChangedEvent event) {
+        if (!ready) {
+            changedDuringBuild.add(event.getProductId());
+        }
+        if (event.getType() == ProductChangedEvent.ChangeType.DELETED) {
+            remove(event.getProductId());
+        } else {
+            upsert(event.getProductId(), event.getCategoryId(), event.getPrice(), event.getStockQuantity());
+        }
+    }
+
+    /**
+     * 검색 조건을 모두 적용한 상품 ID 목록과 패싯 건수를 계산
+     *
+     * @param request 검색 조건 (키워드 조건은 keywordMatches로 전달)
+     * @param keywordMatches 키워드에 해당하는 상품 ID 목록 (키워드 조건이 없으면 null)
+     * @return FilterResult 필터링된 상품 ID(오름차순)와 패싯 건수
+     */
+    public FilterResult filter(ProductSearchRequest request, List<Long> keywordMatches) {
+        lock.readLock().lock();
+        try {
+            BitSet keywordBits = keywordMatches != null ? toBits(keywordMatches) : null;
+            BitSet categoryFilter = categoryFilter(request.getCategoryId());
+            BitSet priceFilter = priceFilter(request.getMinPrice(), request.getMaxPrice());
+            BitSet stockFilter = stockFilter(request.getInStock());
+
+            BitSet matched = intersect(keywordBits, categoryFilter, priceFilter, stockFilter);
+
+            // 패싯별로 자기 자신의 조건만 제외하고 건수를 집계
+            Map<Long, Long> categoryCounts = countByCategory(intersect(keywordBits, priceFilter, stockFilter));
+            long[] priceBandCounts = countByPriceBand(intersect(keywordBits, categoryFilter, stockFilter));
+            BitSet withoutStock = intersect(keywordBits, categoryFilter, priceFilter);
+            long total = withoutStock.cardinality();
+            withoutStock.and(inStockBits);
+            long inStockCount = withoutStock.cardinality();
+
+            List<Long> productIds = new ArrayList<>(matched.cardinality());
+            for (int docId = matched.nextSetBit(0); docId >= 0; docId = matched.nextSetBit(docId + 1)) {
+                productIds.add(productIdsByDocId[docId]);
+            }
+            Collections.sort(productIds);
+
+            return new FilterResult(productIds, categoryCounts, priceBandFacets(priceBandCounts),
+                    inStockCount, total - inStockCount);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 주어진 조건 비트셋(null은 조건 없음)을 모두 만족하는 활성 문서 집합
+    private BitSet intersect(BitSet... filters) {
+        BitSet result = (BitSet) liveDocs.clone();
+        for (BitSet filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private BitSet toBits(List<Long> productIds) {
+        BitSet bits = new BitSet();
+        for (Long productId : productIds) {
+            Integer docId = docIdsByProductId.get(productId);
+            if (docId != null) {
+                bits.set(docId);
+            }
+        }
+        return bits;
+    }
+
+    private BitSet categoryFilter(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        return categoryBits.getOrDefault(categoryId, new BitSet());
+    }
+
+    private BitSet stockFilter(Boolean inStock) {
+        if (inStock == null) {
+            return null;
+        }
+        if (inStock) {
+            return inStockBits;
+        }
+        BitSet outOfStock = (BitSet) liveDocs.clone();
+        outOfStock.andNot(inStockBits);
+        return outOfStock;
+    }
+
+    /**
+     * 가격 범위 조건 비트셋 계산
+     * 범위에 완전히 포함되는 가격대는 비트셋을 그대로 합치고, 경계에 걸친 가격대만 개별 가격을 비교
+     */
+    private BitSet priceFilter(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            return null;
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+
+        BitSet result = new BitSet();
+        for (int band = 0; band < PRICE_BAND_BOUNDS.length; band++) {
+            BigDecimal bandMin = BigDecimal.valueOf(PRICE_BAND_BOUNDS[band]);
+            BigDecimal bandMax = band + 1 < PRICE_BAND_BOUNDS.length
+                    ? BigDecimal.valueOf(PRICE_BAND_BOUNDS[band + 1]) : null;   // 상한 미포함
+
+            boolean belowRange = maxPrice != null && bandMin.compareTo(maxPrice) > 0;
+            boolean aboveRange = minPrice != null && bandMax != null && bandMax.compareTo(minPrice) <= 0;
+            if (belowRange || aboveRange) {
+                continue;
+            }
+
+            boolean coversLower = minPrice == null || bandMin.compareTo(minPrice) >= 0;
+            boolean coversUpper = maxPrice == null || (bandMax != null && bandMax.compareTo(maxPrice) <= 0);
+            BitSet bandBits = priceBandBits[band];
+            if (coversLower && coversUpper) {
+                result.or(bandBits);
+                continue;
+            }
+
+            for (int docId = bandBits.nextSetBit(0); docId >= 0; docId = bandBits.nextSetBit(docId + 1)) {
+                BigDecimal price = pricesByDocId[docId];
+                if ((minPrice == null || price.compareTo(minPrice) >= 0)
+                        && (maxPrice == null || price.compareTo(maxPrice) <= 0)) {
+                    result.set(docId);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Map<Long, Long> countByCategory(BitSet docs) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (int docId = docs.nextSetBit(0); docId >= 0; docId = docs.nextSetBit(docId + 1)) {
+            long categoryId = categoryIdsByDocId[docId];
+            if (categoryId != NO_CATEGORY) {
+                counts.merge(categoryId, 1L, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private long[] countByPriceBand(BitSet docs) {
+        long[] counts = new long[PRICE_BAND_BOUNDS.length];
+        for (int band = 0; band < PRICE_BAND_BOUNDS.length; band++) {
+            BitSet bandDocs = (BitSet) docs.clone();
+            bandDocs.and(priceBandBits[band]);
+            counts[band] = bandDocs.cardinality();
+        }
+        return counts;
+    }
+
+    private static List<PriceBandCount> priceBandFacets(long[] counts) {
+        List<PriceBandCount> facets = new ArrayList<>(counts.length);
+        for (int band = 0; band < counts.length; band++) {
+            BigDecimal bandMax = band + 1 < PRICE_BAND_BOUNDS.length
+                    ? BigDecimal.valueOf(PRICE_BAND_BOUNDS[band + 1]) : null;
+            facets.add(new PriceBandCount(BigDecimal.valueOf(PRICE_BAND_BOUNDS[band]), bandMax, counts[band]));
+        }
+        return facets;
+    }
+
+    private void upsert(Long productId, Long categoryId, BigDecimal price, Integer stockQuantity) {
+        Integer existing = docIdsByProductId.get(productId);
+        int docId;
+        if (existing != null) {
+            docId = existing;
+            clearAttributes(docId);
+        } else {
+            docId = nextDocId++;
+            ensureCapacity(docId);
+            docIdsByProductId.put(productId, docId);
+            productIdsByDocId[docId] = productId;
+        }
+
+        long category = categoryId != null ? categoryId : NO_CATEGORY;
+        BigDecimal effectivePrice = price != null ? price : BigDecimal.ZERO;
+        int stock = stockQuantity != null ? stockQuantity : 0;
+
+        categoryIdsByDocId[docId] = category;
+        pricesByDocId[docId] = effectivePrice;
+
+        categoryBits.computeIfAbsent(category, c -> new BitSet()).set(docId);
+        priceBandBits[priceBand(effectivePrice)].set(docId);
+        inStockBits.set(docId, stock > 0);
+        liveDocs.set(docId);
+    }
+
+    private void remove(Long productId) {
+        Integer docId = docIdsByProductId.remove(productId);
+        if (docId != null) {
+            clearAttributes(docId);
+            liveDocs.clear(docId);
+            deletedCount++;
+        }
+    }
+
+    /**
+     * 삭제된 문서 번호가 전체의 1/3을 넘으면 살아있는 문서에 번호를 다시 매기고 비트셋을 재구성
+     * (재고 보유 여부는 기존 비트를 그대로 옮김)
+     */
+    private void compactIfNeeded() {
+        if (deletedCount < COMPACTION_MIN_DELETED || deletedCount * 3 < nextDocId) {
+            return;
+        }
+
+        int capacity = Math.max(1024, nextDocId - deletedCount);
+        long[] productIds = new long[capacity];
+        long[] categoryIds = new long[capacity];
+        BigDecimal[] prices = new BigDecimal[capacity];
+        BitSet inStock = new BitSet();
+        int live = 0;
+        for (int docId = liveDocs.nextSetBit(0); docId >= 0; docId = liveDocs.nextSetBit(docId + 1)) {
+            productIds[live] = productIdsByDocId[docId];
+            categoryIds[live] = categoryIdsByDocId[docId];
+            prices[live] = pricesByDocId[docId];
+            inStock.set(live, inStockBits.get(docId));
+            docIdsByProductId.put(productIds[live], live);
+            live++;
+        }
+
+        productIdsByDocId = productIds;
+        categoryIdsByDocId = categoryIds;
+        pricesByDocId = prices;
+        categoryBits.clear();
+        for (BitSet bandBits : priceBandBits) {
+            bandBits.clear();
+        }
+        inStockBits.clear();
+        inStockBits.or(inStock);
+        liveDocs.clear();
+        for (int docId = 0; docId < live; docId++) {
+            categoryBits.computeIfAbsent(categoryIds[docId], c -> new BitSet()).set(docId);
+            priceBandBits[priceBand(prices[docId])].set(docId);
+            liveDocs.set(docId);
+        }
+        nextDocId = live;
+        deletedCount = 0;
+        log.debug("Product filter engine compacted - live documents: {}", live);
+    }
+
+    private void clearAttributes(int docId) {
+        BitSet category = categoryBits.get(categoryIdsByDocId[docId]);
+        if (category != null) {
+            category.clear(docId);
+        }
+        priceBandBits[priceBand(pricesByDocId[docId])].clear(docId);
+        inStockBits.clear(docId);
+    }
+
+    private void ensureCapacity(int docId) {
+        if (docId < productIdsByDocId.length) {
+            return;
+        }
+        int capacity = productIdsByDocId.length * 2;
+        productIdsByDocId = Arrays.copyOf(productIdsByDocId, capacity);
+        categoryIdsByDocId = Arrays.copyOf(categoryIdsByDocId, capacity);
+        pricesByDocId = Arrays.copyOf(pricesByDocId, capacity);
+    }
+
+    private static int priceBand(BigDecimal price) {
+        for (int band = PRICE_BAND_BOUNDS.length - 1; band > 0; band--) {
+            if (price.compareTo(BigDecimal.valueOf(PRICE_BAND_BOUNDS[band])) >= 0) {
+                return band;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 필터 평가 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class FilterResult {
+        private final List<Long> productIds;                // 조건을 모두 만족하는 상품 ID (오름차순)
+        private final Map<Long, Long> categoryCounts;       // 카테고리 ID별 상품 수
+        private final List<PriceBandCount> priceBandCounts; // 가격대별 상품 수
+        private final long inStockCount;                    // 재고 있는 상품 수
+        private final long outOfStockCount;                 // 재고 없는 상품 수
+    }
+
+    /**
+     * 가격대별 상품 수
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PriceBandCount {
+        private final BigDecimal minPrice;  // 가격대 하한 (이상)
+        private final BigDecimal maxPrice;  // 가격대 상한 (미만, 마지막 가격대는 null)
+        private final long count;           // 상품 수
+    }
+}
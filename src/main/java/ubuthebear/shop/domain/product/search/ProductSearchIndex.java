@@ -0,0 +1,444 @@
+package ubuthebear.shop.domain.product.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ubuthebear.shop.domain.product.event.ProductChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductsImportedEvent;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 키워드 검색을 위한 메모리 기반 역색인(inverted index)
+ * 상품명과 상품 설명을 각각의 포스팅 맵에 n-gram 단위로 분해하여 색인하고, 검색 시 DB의 LIKE 전체 스캔 없이 후보 상품 ID를 반환
+ * - 2-gram : 상품명의 각 단어에서 추출 (띄어쓰기가 불규칙한 한글 텍스트의 부분 일치 검색 지원)
+ * - 1-gram : 상품명의 각 글자 (한 글자 검색어 지원)
+ * n-gram 교집합은 후보일 뿐이므로, 정규화된 상품명(설명)에 검색어가 실제로 포함되는지 다시 확인
+ * (색인 구축 전 대체 검색인 상품명 LIKE 검색, 상품명 또는 설명 LIKE 검색과 같은 결과를 반환)
+ * 애플리케이션 시작 시 전체 상품으로 구축되고, 이후 {@link ProductChangedEvent}로 증분 갱신
+ *
+ * 포스팅 리스트는 문서 번호(docId) 오름차순의 int 배열로 저장하여 메모리 사용량을 줄이고,
+ * 삭제된 문서는 비트셋으로 표시해 두었다가 일정 비율 이상 쌓이면 압축
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductChangedEvent
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+    private static final int COMPACTION_MIN_DELETED = 1024;
+    private static final Pattern TOKEN_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ProductRepository productRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final Map<String, IntList> descriptionPostings = new HashMap<>();
+    private final Map<Long, Integer> docIdsByProductId = new HashMap<>();
+    private final BitSet deletedDocs = new BitSet();
+    private final Set<Long> changedDuringBuild = new HashSet<>();
+    private long[] productIdsByDocId = new long[1024];
+    private String[] namesByDocId = new String[1024];
+    private String[] descriptionsByDocId = new String[1024];
+    private int nextDocId;
+    private int deletedCount;
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 시작 시 전체 상품으로 색인을 구축
+     * 상품 ID 기준 키셋 페이징으로 필요한 컬럼만 나누어 조회
+     * 페이지를 읽은 뒤 반영하기 전에 커밋된 변경 이벤트가 오래된 행으로 덮어써지지 않도록,
+     * 구축 중 이벤트로 반영된 상품은 건너뜀 (이벤트가 더 최신 상태를 담고 있음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        int indexed = 0;
+        List<Object[]> rows;
+        do {
+            rows = productRepository.findSearchRowsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    Long productId = (Long) row[0];
+                    lastId = productId;
+                    if (changedDuringBuild.contains(productId)) {
+                        continue;
+                    }
+                    removeDocument(productId);
+                    addDocument(productId, (String) row[1], (String) row[2]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            indexed += rows.size();
+        } while (rows.size() == BUILD_BATCH_SIZE);
+
+        int grams;
+        lock.writeLock().lock();
+        try {
+            changedDuringBuild.clear();
+            ready = true;
+            grams = postings.size() + descriptionPostings.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product search index built - products: {}, grams: {}, elapsed: {}ms",
+                indexed, grams, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 색인 구축 완료 여부
+     * 구축 전에는 호출 측에서 DB 검색으로 대체해야 함
+     *
+     * @return boolean 검색 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 상품 변경 이벤트를 받아 색인을 증분 갱신
+     * 트랜잭션이 커밋된 이후에만 반영하여 롤백된 변경이 색인에 남지 않도록 함
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대량 등록된 상품들을 한 번의 락 구간에서 색인에 반영
+     *
+     * @param event 대량 등록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getEvents().forEach(this::apply);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ProductChangedEvent event) {
+        if (!ready) {
+            changedDuringBuild.add(event.getProductId());
+        }
+        removeDocument(event.getProductId());
+        if (event.getType() != ProductChangedEvent.ChangeType.DELETED) {
+            addDocument(event.getProductId(), event.getName(), event.getDescription());
+        }
+    }
+
+    /**
+     * 키워드가 상품명에 포함된 상품 ID 목록을 검색
+     *
+     * @param keyword 검색 키워드
+     * @return List<Long> 상품 ID 오름차순 목록
+     * @see #search(String, boolean)
+     */
+    public List<Long> search(String keyword) {
+        return search(keyword, false);
+    }
+
+    /**
+     * 키워드에 해당하는 상품 ID 목록을 검색
+     * 검색어의 모든 n-gram을 포함하는 상품을 후보로 찾고, 상품명(또는 설명)에 검색어가 그대로 포함된 상품만 반환
+     * 검색어가 비어있으면 전체 상품을 반환
+     *
+     * @param keyword 검색 키워드
+     * @param includeDescription 상품 설명에 포함된 상품도 반환할지 여부
+     * @return List<Long> 상품 ID 오름차순 목록
+     */
+    public List<Long> search(String keyword, boolean includeDescription) {
+        String phrase = normalize(keyword).trim();
+        Set<String> grams = queryGrams(phrase);
+
+        lock.readLock().lock();
+        try {
+            if (phrase.isEmpty()) {
+                return allProductIds();
+            }
+            BitSet matched = new BitSet(nextDocId);
+            collectMatches(phrase, grams, postings, namesByDocId, matched);
+            if (includeDescription) {
+                collectMatches(phrase, grams, descriptionPostings, descriptionsByDocId, matched);
+            }
+
+            List<Long> productIds = new ArrayList<>(matched.cardinality());
+            for (int docId = matched.nextSetBit(0); docId >= 0; docId = matched.nextSetBit(docId + 1)) {
+                productIds.add(productIdsByDocId[docId]);
+            }
+            Collections.sort(productIds);
+            return productIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 한 필드(상품명 또는 설명)에서 검색어를 포함하는 문서를 matched에 표시
+    private void collectMatches(String phrase, Set<String> grams, Map<String, IntList> fieldPostings,
+                                String[] texts, BitSet matched) {
+        if (grams.isEmpty()) {
+            // 문자/숫자가 없는 검색어(기호 등)는 색인으로 좁힐 수 없으므로 전체 텍스트에서 확인
+            for (int docId = 0; docId < nextDocId; docId++) {
+                if (contains(docId, texts, phrase)) {
+                    matched.set(docId);
+                }
+            }
+            return;
+        }
+
+        // 가장 짧은 포스팅 리스트부터 교집합을 계산
+        List<IntList> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            IntList posting = fieldPostings.get(gram);
+            if (posting == null) {
+                return;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(IntList::size));
+
+        int[] candidates = lists.get(0).toArray();
+        int size = candidates.length;
+        for (int i = 1; i < lists.size() && size > 0; i++) {
+            size = intersect(candidates, size, lists.get(i));
+        }
+        for (int i = 0; i < size; i++) {
+            if (contains(candidates[i], texts, phrase)) {
+                matched.set(candidates[i]);
+            }
+        }
+    }
+
+    private boolean contains(int docId, String[] texts, String phrase) {
+        return !deletedDocs.get(docId) && texts[docId] != null && texts[docId].contains(phrase);
+    }
+
+    private List<Long> allProductIds() {
+        List<Long> productIds = new ArrayList<>(docIdsByProductId.keySet());
+        Collections.sort(productIds);
+        return productIds;
+    }
+
+    // 정렬된 candidates[0, size)와 posting의 교집합을 candidates 앞쪽에 기록하고 그 크기를 반환
+    private static int intersect(int[] candidates, int size, IntList posting) {
+        int i = 0, j = 0, written = 0;
+        while (i < size && j < posting.size()) {
+            int a = candidates[i];
+            int b = posting.get(j);
+            if (a == b) {
+                candidates[written++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return written;
+    }
+
+    private void addDocument(Long productId, String name, String description) {
+        int docId = nextDocId++;
+        if (docId == productIdsByDocId.length) {
+            productIdsByDocId = Arrays.copyOf(productIdsByDocId, docId * 2);
+            namesByDocId = Arrays.copyOf(namesByDocId, docId * 2);
+            descriptionsByDocId = Arrays.copyOf(descriptionsByDocId, docId * 2);
+        }
+        String normalizedName = normalize(name);
+        String normalizedDescription = description != null && !description.isBlank() ? normalize(description) : null;
+        productIdsByDocId[docId] = productId;
+        namesByDocId[docId] = normalizedName;
+        descriptionsByDocId[docId] = normalizedDescription;
+        docIdsByProductId.put(productId, docId);
+
+        // 문서 번호는 항상 증가하므로 포스팅 리스트는 별도 정렬 없이 오름차순을 유지
+        for (String gram : documentGrams(normalizedName)) {
+            postings.computeIfAbsent(gram, g -> new IntList()).add(docId);
+        }
+        if (normalizedDescription != null) {
+            for (String gram : documentGrams(normalizedDescription)) {
+                descriptionPostings.computeIfAbsent(gram, g -> new IntList()).add(docId);
+            }
+        }
+    }
+
+    private void removeDocument(Long productId) {
+        Integer docId = docIdsByProductId.remove(productId);
+        if (docId != null) {
+            deletedDocs.set(docId);
+            namesByDocId[docId] = null;
+            descriptionsByDocId[docId] = null;
+            deletedCount++;
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서가 전체의 1/3을 넘으면 문서 번호를 다시 매기고 포스팅 리스트를 정리
+     */
+    private void compactIfNeeded() {
+        if (deletedCount < COMPACTION_MIN_DELETED || deletedCount * 3 < nextDocId) {
+            return;
+        }
+
+        int[] remap = new int[nextDocId];
+        long[] compacted = new long[Math.max(1024, nextDocId - deletedCount)];
+        String[] compactedNames = new String[compacted.length];
+        String[] compactedDescriptions = new String[compacted.length];
+        int live = 0;
+        for (int docId = 0; docId < nextDocId; docId++) {
+            if (deletedDocs.get(docId)) {
+                remap[docId] = -1;
+                continue;
+            }
+            remap[docId] = live;
+            compacted[live] = productIdsByDocId[docId];
+            compactedNames[live] = namesByDocId[docId];
+            compactedDescriptions[live] = descriptionsByDocId[docId];
+            docIdsByProductId.put(productIdsByDocId[docId], live);
+            live++;
+        }
+
+        for (Map<String, IntList> fieldPostings : List.of(postings, descriptionPostings)) {
+            Iterator<IntList> iterator = fieldPostings.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().remap(remap) == 0) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        productIdsByDocId = compacted;
+        namesByDocId = compactedNames;
+        descriptionsByDocId = compactedDescriptions;
+        nextDocId = live;
+        deletedDocs.clear();
+        deletedCount = 0;
+        log.debug("Product search index compacted - live documents: {}", live);
+    }
+
+    private static Set<String> documentGrams(String normalizedText) {
+        Set<String> grams = new HashSet<>();
+        for (String token : tokenize(normalizedText)) {
+            addUnigrams(token, grams);
+            addBigrams(token, grams);
+        }
+        return grams;
+    }
+
+    private static Set<String> queryGrams(String normalizedKeyword) {
+        Set<String> grams = new HashSet<>();
+        for (String token : tokenize(normalizedKeyword)) {
+            if (token.length() == 1) {
+                grams.add(token);
+            } else {
+                addBigrams(token, grams);
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 텍스트를 NFKC 정규화 및 소문자 변환
+     * NFKC 정규화로 전각 문자와 분리된 한글 자모를 일반 형태로 맞춤
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 정규화된 텍스트를 문자/숫자가 아닌 문자를 기준으로 분리
+    private static List<String> tokenize(String normalized) {
+        if (normalized.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_DELIMITER.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static void addUnigrams(String token, Set<String> grams) {
+        for (int i = 0; i < token.length(); i++) {
+            grams.add(token.substring(i, i + 1));
+        }
+    }
+
+    private static void addBigrams(String token, Set<String> grams) {
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            grams.add(token.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * 박싱 없이 int 값을 저장하는 가변 길이 리스트 (포스팅 리스트 용도)
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        // 삭제된 문서를 제거하고 새 문서 번호로 치환 (remap은 단조 증가이므로 정렬 순서 유지)
+        int remap(int[] mapping) {
+            int written = 0;
+            for (int i = 0; i < size; i++) {
+                int mapped = mapping[values[i]];
+                if (mapped >= 0) {
+                    values[written++] = mapped;
+                }
+            }
+            size = written;
+            return size;
+        }
+    }
+}
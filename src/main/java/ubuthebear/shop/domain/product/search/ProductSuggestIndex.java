@@ -0,0 +1,256 @@
+package ubuthebear.shop.domain.product.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ubuthebear.shop.domain.product.dto.response.ProductSuggestResponse;
+import ubuthebear.shop.domain.product.entity.Category;
+import ubuthebear.shop.domain.product.event.CategoryChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductViewsFlushedEvent;
+import ubuthebear.shop.domain.product.event.ProductsImportedEvent;
+import ubuthebear.shop.domain.product.repository.CategoryRepository;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 상품명/카테고리명 자동완성을 위한 메모리 기반 색인
+ * 상품명과 카테고리명을 각각 압축 트라이({@link SuggestTrie})에 저장하고, 접두어 조회 시 DB에 접근하지 않음
+ * - 상품 : 조회수(ProductDetail.viewCount) 내림차순으로 정렬
+ * - 카테고리 : 이름 오름차순으로 정렬
+ *
+ * 애플리케이션 시작 시 구축되고, 이후 상품/카테고리 변경 이벤트와 조회수 반영 이벤트로 증분 갱신
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see SuggestTrie
+ * @see ProductChangedEvent
+ * @see ProductViewsFlushedEvent
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSuggestIndex {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SuggestTrie productTrie = new SuggestTrie();
+    private final SuggestTrie categoryTrie = new SuggestTrie();
+    private final Map<Long, SuggestTrie.Entry> productEntries = new HashMap<>();
+    private final Map<Long, SuggestTrie.Entry> categoryEntries = new HashMap<>();
+    private final Set<Long> productsChangedDuringBuild = new HashSet<>();
+    private final Set<Long> categoriesChangedDuringBuild = new HashSet<>();
+    private volatile boolean ready;
+
+    /**
+     * 애플리케이션 시작 시 전체 카테고리와 상품으로 색인을 구축
+     * 상품은 ID 기준 키셋 페이징으로 필요한 컬럼만 나누어 조회
+     * 조회한 뒤 반영하기 전에 커밋된 변경 이벤트가 오래된 행으로 덮어써지지 않도록,
+     * 구축 중 이벤트로 반영된 상품/카테고리는 이름을 덮어쓰지 않음 (상품 조회수 점수만 DB 값으로 보정)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long startedAt = System.currentTimeMillis();
+        List<Category> categories = categoryRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            for (Category category : categories) {
+                if (!categoriesChangedDuringBuild.contains(category.getCategoryId())) {
+                    putCategory(category.getCategoryId(), category.getName());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long lastId = 0L;
+        int indexed = 0;
+        List<Object[]> rows;
+        do {
+            rows = productRepository.findSuggestRowsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    Long productId = (Long) row[0];
+                    long viewCount = row[2] != null ? (Long) row[2] : 0L;
+                    lastId = productId;
+                    if (productsChangedDuringBuild.contains(productId)) {
+                        SuggestTrie.Entry entry = productEntries.get(productId);
+                        if (entry != null && entry.score < viewCount) {
+                            productTrie.updateScore(entry, viewCount);
+                        }
+                        continue;
+                    }
+                    putProduct(productId, (String) row[1], viewCount);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            indexed += rows.size();
+        } while (rows.size() == BUILD_BATCH_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            productTrie.refresh();
+            categoryTrie.refresh();
+            productsChangedDuringBuild.clear();
+            categoriesChangedDuringBuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product suggest index built - products: {}, categories: {}, elapsed: {}ms",
+                indexed, categories.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 상품 변경 이벤트를 받아 자동완성 색인을 증분 갱신
+     * 상품명이 바뀌어도 누적된 조회수 점수는 유지
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(event);
+            productTrie.refresh();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대량 등록된 상품들을 모두 반영한 뒤 상위 목록을 한 번만 다시 계산
+     *
+     * @param event 대량 등록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getEvents().forEach(this::apply);
+            productTrie.refresh();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(ProductChangedEvent event) {
+        if (!ready) {
+            productsChangedDuringBuild.add(event.getProductId());
+        }
+        SuggestTrie.Entry previous = productEntries.remove(event.getProductId());
+        if (previous != null) {
+            productTrie.remove(previous);
+        }
+        if (event.getType() != ProductChangedEvent.ChangeType.DELETED) {
+            putProduct(event.getProductId(), event.getName(), previous != null ? previous.score : 0L);
+        }
+    }
+
+    /**
+     * 카테고리 변경 이벤트를 받아 자동완성 색인을 증분 갱신
+     *
+     * @param event 카테고리 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                categoriesChangedDuringBuild.add(event.getCategoryId());
+            }
+            SuggestTrie.Entry previous = categoryEntries.remove(event.getCategoryId());
+            if (previous != null) {
+                categoryTrie.remove(previous);
+            }
+            putCategory(event.getCategoryId(), event.getName());
+            categoryTrie.refresh();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * DB에 반영된 조회수 증가분을 상품 점수에 더함
+     * 한 번의 반영 주기에 들어온 증가분을 모두 적용한 뒤 상위 목록을 한 번만 다시 계산
+     *
+     * @param event 조회수 반영 이벤트
+     */
+    @EventListener
+    public void onViewsFlushed(ProductViewsFlushedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.getViewCountDeltas().forEach((productId, delta) -> {
+                SuggestTrie.Entry entry = productEntries.get(productId);
+                if (entry != null) {
+                    productTrie.updateScore(entry, entry.score + delta);
+                }
+            });
+            productTrie.refresh();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 상품명과 카테고리명을 제안
+     * 상품명 중간 단어로 시작하는 입력도 일치 (예: "이어" → "무선 블루투스 이어폰")
+     * 색인이 구축되기 전이거나 접두어가 비어 있으면 빈 목록을 반환
+     *
+     * @param keyword 입력 중인 검색어
+     * @param limit 종류별 최대 제안 수 (최대 10)
+     * @return ProductSuggestResponse 상품/카테고리 제안 목록
+     */
+    public ProductSuggestResponse suggest(String keyword, int limit) {
+        String prefix = SuggestTrie.normalize(keyword);
+        int size = Math.max(1, Math.min(limit, SuggestTrie.TOP_K));
+        if (!ready || prefix.isEmpty()) {
+            return new ProductSuggestResponse(keyword, List.of(), List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            return new ProductSuggestResponse(keyword,
+                    toSuggestions(productTrie.suggest(prefix, size)),
+                    toSuggestions(categoryTrie.suggest(prefix, size)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putProduct(Long productId, String name, long score) {
+        SuggestTrie.Entry entry = new SuggestTrie.Entry(productId, name, score);
+        productEntries.put(productId, entry);
+        productTrie.add(entry);
+    }
+
+    private void putCategory(Long categoryId, String name) {
+        SuggestTrie.Entry entry = new SuggestTrie.Entry(categoryId, name, 0L);
+        categoryEntries.put(categoryId, entry);
+        categoryTrie.add(entry);
+    }
+
+    private static List<ProductSuggestResponse.Suggestion> toSuggestions(List<SuggestTrie.Entry> entries) {
+        return entries.stream()
+                .map(entry -> new ProductSuggestResponse.Suggestion(entry.id, entry.text))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,295 @@
+package ubuthebear.shop.domain.product.search;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 자동완성용 압축 트라이(radix trie)
+ * 간선에 문자열을 저장하여 노드 수를 줄이고, 각 노드에 하위 트리의 상위 K개 항목을 미리 계산해 두어
+ * 접두어 조회 시 하위 트리를 탐색하지 않고 접두어 길이만큼만 이동하여 결과를 반환
+ *
+ * 항목 추가/삭제/점수 변경 시에는 경로상의 노드만 dirty로 표시하고, {@link #refresh()}에서 한 번에 다시 계산
+ * 동기화는 호출 측에서 담당 (읽기/쓰기 락)
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductSuggestIndex
+ */
+final class SuggestTrie {
+
+    static final int TOP_K = 10;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Entry[] EMPTY = new Entry[0];
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong((Entry entry) -> entry.score).reversed()
+            .thenComparing(entry -> entry.text)
+            .thenComparingLong(entry -> entry.id);
+
+    private final Node root = new Node("");
+
+    /**
+     * 자동완성 항목 (상품 또는 카테고리)
+     * 같은 항목이 여러 키로 등록될 수 있으며, 점수는 모든 키에서 공유
+     */
+    static final class Entry {
+        final long id;          // 상품 ID 또는 카테고리 ID
+        final String text;      // 표시할 원본 텍스트
+        final List<String> keys;
+        long score;             // 정렬 점수 (높을수록 우선)
+
+        Entry(long id, String text, long score) {
+            this.id = id;
+            this.text = text;
+            this.score = score;
+            this.keys = suffixKeys(text);
+        }
+    }
+
+    private static final class Node {
+        String label;                                   // 부모에서 이 노드로 오는 간선 문자열
+        final Map<Character, Node> children = new HashMap<>(4);
+        List<Entry> terminals;                          // 이 노드에서 끝나는 키의 항목
+        Entry[] top = EMPTY;                            // 하위 트리 상위 K개 (점수 순)
+        boolean dirty;
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * 접두어 조회와 색인에 사용하는 형태로 정규화
+     * NFKC 정규화, 소문자 변환, 연속 공백을 하나로 축소
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+        return WHITESPACE.matcher(normalized).replaceAll(" ");
+    }
+
+    /**
+     * 텍스트의 각 단어로 시작하는 접미 문자열을 키로 생성 ("무선 블루투스 이어폰" → 무선.../블루투스.../이어폰)
+     * 상품명 중간 단어로 입력을 시작해도 제안되도록 함 (단어 수는 최대 8개까지만 사용)
+     */
+    private static List<String> suffixKeys(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        int from = 0;
+        while (keys.size() < 8) {
+            int space = normalized.indexOf(' ', from);
+            if (space < 0) {
+                break;
+            }
+            keys.add(normalized.substring(space + 1));
+            from = space + 1;
+        }
+        return keys;
+    }
+
+    void add(Entry entry) {
+        for (String key : entry.keys) {
+            insert(key, entry);
+        }
+    }
+
+    void remove(Entry entry) {
+        for (String key : entry.keys) {
+            delete(root, key, 0, entry);
+        }
+    }
+
+    /**
+     * 항목의 점수를 바꾸고 해당 키 경로를 dirty로 표시
+     */
+    void updateScore(Entry entry, long score) {
+        entry.score = score;
+        for (String key : entry.keys) {
+            markPath(key);
+        }
+    }
+
+    /**
+     * dirty로 표시된 노드의 상위 K개 목록을 하위 노드부터 다시 계산
+     * 변경은 항상 루트부터 경로 전체를 표시하므로 dirty가 아닌 노드의 하위 트리는 건너뜀
+     */
+    void refresh() {
+        refresh(root);
+    }
+
+    /**
+     * 접두어로 시작하는 키를 가진 상위 항목을 반환
+     *
+     * @param prefix 정규화된 접두어
+     * @param limit 최대 개수 (TOP_K 이하)
+     */
+    List<Entry> suggest(String prefix, int limit) {
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return List.of();
+            }
+            String label = child.label;
+            int remaining = prefix.length() - i;
+            if (remaining <= label.length()) {
+                // 접두어가 간선 중간에서 끝나는 경우
+                if (!label.startsWith(prefix.substring(i))) {
+                    return List.of();
+                }
+                node = child;
+                break;
+            }
+            if (!prefix.startsWith(label, i)) {
+                return List.of();
+            }
+            i += label.length();
+            node = child;
+        }
+        Entry[] top = node.top;
+        return Arrays.asList(top).subList(0, Math.min(limit, top.length));
+    }
+
+    private void insert(String key, Entry entry) {
+        Node node = root;
+        node.dirty = true;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(key.charAt(i), child);
+                node = child;
+                node.dirty = true;
+                i = key.length();
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                // 간선을 공통 부분에서 분할
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                middle.top = child.top;
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            node = child;
+            node.dirty = true;
+            i += common;
+        }
+        if (node.terminals == null) {
+            node.terminals = new ArrayList<>(1);
+        }
+        node.terminals.add(entry);
+    }
+
+    // 키를 삭제하고, 비어 있는 노드는 제거하거나 자식과 병합. 노드가 제거되면 true 반환
+    private boolean delete(Node node, String key, int i, Entry entry) {
+        node.dirty = true;
+        if (i == key.length()) {
+            if (node.terminals != null) {
+                node.terminals.remove(entry);
+                if (node.terminals.isEmpty()) {
+                    node.terminals = null;
+                }
+            }
+        } else {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return false;
+            }
+            if (delete(child, key, i + child.label.length(), entry)) {
+                node.children.remove(key.charAt(i));
+            }
+        }
+
+        if (node == root || node.terminals != null) {
+            return false;
+        }
+        if (node.children.isEmpty()) {
+            return true;
+        }
+        if (node.children.size() == 1) {
+            // 항목이 없고 자식이 하나뿐인 노드는 자식과 병합하여 압축 상태를 유지
+            Node only = node.children.values().iterator().next();
+            node.label = node.label + only.label;
+            node.terminals = only.terminals;
+            node.children.clear();
+            node.children.putAll(only.children);
+            node.top = only.top;
+            node.dirty = true;
+        }
+        return false;
+    }
+
+    private void markPath(String key) {
+        Node node = root;
+        node.dirty = true;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return;
+            }
+            i += child.label.length();
+            node = child;
+            node.dirty = true;
+        }
+    }
+
+    private void refresh(Node node) {
+        if (!node.dirty) {
+            return;
+        }
+        List<Entry> candidates = new ArrayList<>();
+        if (node.terminals != null) {
+            candidates.addAll(node.terminals);
+        }
+        for (Node child : node.children.values()) {
+            refresh(child);
+            Collections.addAll(candidates, child.top);
+        }
+        candidates.sort(RANKING);
+
+        // 같은 항목이 여러 키로 하위 트리에 존재할 수 있으므로 중복 제거
+        List<Entry> top = new ArrayList<>(TOP_K);
+        for (Entry candidate : candidates) {
+            if (top.size() == TOP_K) {
+                break;
+            }
+            if (!containsSame(top, candidate)) {
+                top.add(candidate);
+            }
+        }
+        node.top = top.toArray(EMPTY);
+        node.dirty = false;
+    }
+
+    private static boolean containsSame(List<Entry> entries, Entry target) {
+        for (Entry entry : entries) {
+            if (entry == target) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int length = 0;
+        while (length < max && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,240 @@
+package ubuthebear.shop.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ubuthebear.shop.domain.product.dto.response.CategoryResponse;
+import ubuthebear.shop.domain.product.entity.Category;
+import ubuthebear.shop.domain.product.event.CategoryChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductStockChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductsImportedEvent;
+import ubuthebear.shop.domain.product.repository.CategoryRepository;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 목록과 카테고리별 상품 수를 메모리에 보관하는 컴포넌트
+ * 애플리케이션 시작 시 한 번 적재한 뒤 상품/카테고리 변경 이벤트로 건수를 증분 갱신하고,
+ * 변경될 때마다 버전이 증가한 불변 {@link CategorySnapshot}을 만들어 교체
+ *
+ * 상품별로 현재 카테고리와 재고 보유 여부를 기억하고, 이벤트는 이벤트가 담은 변경 전 값이 아니라
+ * 기억해 둔 상태와의 차이만큼 건수를 보정함. 적재 중 커밋되어 적재 결과에 이미 포함된 변경의 이벤트가
+ * 적재 이후에 다시 반영되어도 상태가 같으므로 건수가 두 번 바뀌지 않음
+ *
+ * 카테고리 목록 조회는 스냅샷을 그대로 반환하므로 DB 조회가 발생하지 않음
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see CategorySnapshot
+ * @see ProductChangedEvent
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCatalog {
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+
+    private final long instanceId = System.currentTimeMillis();
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+
+    // 아래 상태는 synchronized 메서드에서만 변경
+    private final Map<Long, CategoryState> categories = new TreeMap<>();
+    private final Map<Long, ProductState> products = new HashMap<>();
+    private long version;
+
+    /**
+     * 건수 집계에 반영된 상품의 상태
+     */
+    private record ProductState(Long categoryId, boolean inStock) {
+    }
+
+    /**
+     * 카테고리별 상품 수 (변경 가능한 내부 상태)
+     */
+    private static final class CategoryState {
+        String name;
+        String description;
+        long productCount;
+        long inStockProductCount;
+
+        CategoryState(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 카테고리 목록과 상품별 카테고리/재고 보유 여부를 적재
+     * 상품은 ID 기준 키셋 페이징으로 필요한 컬럼만 나누어 조회
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        categories.clear();
+        products.clear();
+        for (Category category : categoryRepository.findAll()) {
+            categories.put(category.getCategoryId(), new CategoryState(category.getName(), category.getDescription()));
+        }
+        long lastId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = productRepository.findFilterRowsAfter(lastId, PageRequest.of(0, BUILD_BATCH_SIZE));
+            for (Object[] row : rows) {
+                Long productId = (Long) row[0];
+                Integer stockQuantity = (Integer) row[3];
+                put(productId, new ProductState((Long) row[1], stockQuantity != null && stockQuantity > 0));
+                lastId = productId;
+            }
+        } while (rows.size() == BUILD_BATCH_SIZE);
+        publish();
+        log.info("Category catalog built - categories: {}, products: {}", categories.size(), products.size());
+    }
+
+    /**
+     * 현재 카테고리 스냅샷을 반환
+     *
+     * @return CategorySnapshot 스냅샷 (적재 전이면 null)
+     */
+    public CategorySnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * 카테고리 생성/수정 이벤트를 반영
+     *
+     * @param event 카테고리 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+        if (snapshot.get() == null) {
+            return;
+        }
+        CategoryState state = categories.get(event.getCategoryId());
+        if (state == null) {
+            // 카테고리 이벤트보다 먼저 반영된 상품이 있으면 함께 집계
+            state = new CategoryState(event.getName(), event.getDescription());
+            for (ProductState product : products.values()) {
+                if (event.getCategoryId().equals(product.categoryId())) {
+                    state.productCount++;
+                    state.inStockProductCount += product.inStock() ? 1 : 0;
+                }
+            }
+            categories.put(event.getCategoryId(), state);
+        } else {
+            state.name = event.getName();
+            state.description = event.getDescription();
+        }
+        publish();
+    }
+
+    /**
+     * 상품 변경 이벤트의 카테고리와 재고로 카테고리별 상품 수를 보정
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        if (snapshot.get() == null) {
+            return;
+        }
+        if (apply(event)) {
+            publish();
+        }
+    }
+
+    /**
+     * 대량 등록된 상품들을 반영한 뒤 스냅샷을 한 번만 교체
+     *
+     * @param event 대량 등록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onProductsImported(ProductsImportedEvent event) {
+        if (snapshot.get() == null) {
+            return;
+        }
+        boolean changed = false;
+        for (ProductChangedEvent productEvent : event.getEvents()) {
+            changed |= apply(productEvent);
+        }
+        if (changed) {
+            publish();
+        }
+    }
+
+    /**
+     * 주문/취소로 재고 보유 여부가 바뀐 상품만큼 카테고리별 재고 있는 상품 수를 보정
+     *
+     * @param event 재고 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onStockChanged(ProductStockChangedEvent event) {
+        if (snapshot.get() == null) {
+            return;
+        }
+        boolean changed = false;
+        for (ProductStockChangedEvent.StockChange change : event.getChanges()) {
+            ProductState product = products.get(change.getProductId());
+            if (product != null) {
+                changed |= put(change.getProductId(),
+                        new ProductState(product.categoryId(), change.getStockQuantity() > 0));
+            }
+        }
+        if (changed) {
+            publish();
+        }
+    }
+
+    // 기억해 둔 상태를 빼고 이벤트의 상태를 더함. 건수가 바뀌었으면 true
+    private boolean apply(ProductChangedEvent event) {
+        if (event.getType() == ProductChangedEvent.ChangeType.DELETED) {
+            ProductState previous = products.remove(event.getProductId());
+            return previous != null && adjust(previous, -1);
+        }
+        Integer stockQuantity = event.getStockQuantity();
+        return put(event.getProductId(),
+                new ProductState(event.getCategoryId(), stockQuantity != null && stockQuantity > 0));
+    }
+
+    private boolean put(Long productId, ProductState state) {
+        ProductState previous = products.put(productId, state);
+        if (state.equals(previous)) {
+            return false;
+        }
+        boolean changed = previous != null && adjust(previous, -1);
+        return adjust(state, 1) || changed;
+    }
+
+    private boolean adjust(ProductState product, int delta) {
+        CategoryState state = product.categoryId() != null ? categories.get(product.categoryId()) : null;
+        if (state == null) {
+            return false;
+        }
+        state.productCount += delta;
+        if (product.inStock()) {
+            state.inStockProductCount += delta;
+        }
+        return true;
+    }
+
+    private void publish() {
+        List<CategoryResponse> responses = new ArrayList<>(categories.size());
+        categories.forEach((categoryId, state) -> responses.add(new CategoryResponse(
+                categoryId, state.name, state.description, state.productCount, state.inStockProductCount)));
+        snapshot.set(new CategorySnapshot(instanceId, ++version, responses));
+    }
+}
@@ -1,15 +1,21 @@
 package ubuthebear.shop.domain.product.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ubuthebear.shop.domain.product.dto.request.CategoryRequest;
 import ubuthebear.shop.domain.product.dto.response.CategoryResponse;
 import ubuthebear.shop.domain.product.entity.Category;
+import ubuthebear.shop.domain.product.event.CategoryChangedEvent;
 import ubuthebear.shop.domain.product.repository.CategoryRepository;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +33,9 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 새로운 카테고리를 생성
@@ -45,7 +54,38 @@ public class CategoryService {
         Category category = new Category();
         category.setName(request.getName());
         category.setDescription(request.getDescription());
-        return new CategoryResponse(categoryRepository.save(category));
+        Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(
+                savedCategory.getCategoryId(), savedCategory.getName(), savedCategory.getDescription()));
+        return new CategoryResponse(savedCategory);
+    }
+
+    /**
+     * 모든 카테고리 목록을 상품 수와 함께 조회
+     * 메모리의 카테고리 스냅샷을 그대로 반환하므로 DB에 접근하지 않음 (트랜잭션도 시작하지 않음)
+     * 스냅샷이 적재되기 전(애플리케이션 기동 직후)에만 DB에서 직접 집계
+     *
+     * @return CategorySnapshot 카테고리 목록과 버전(ETag)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CategorySnapshot getCategorySnapshot() {
+        CategorySnapshot snapshot = categoryCatalog.getSnapshot();
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        Map<Long, Object[]> counts = productRepository.countByCategory().stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> row));
+        List<CategoryResponse> categories = categoryRepository.findAll().stream()
+                .sorted(Comparator.comparing(Category::getCategoryId))
+                .map(category -> {
+                    Object[] row = counts.get(category.getCategoryId());
+                    return new CategoryResponse(category.getCategoryId(), category.getName(), category.getDescription(),
+                            row != null ? ((Number) row[1]).longValue() : 0L,
+                            row != null && row[2] != null ? ((Number) row[2]).longValue() : 0L);
+                })
+                .collect(Collectors.toList());
+        return new CategorySnapshot(0L, 0L, categories);
     }
 
     /**
@@ -53,9 +93,8 @@ public class CategoryService {
      *
      * @return List<CategoryResponse> 전체 카테고리 목록
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<CategoryResponse> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(CategoryResponse::new)
-                .collect(Collectors.toList());
+        return getCategorySnapshot().getCategories();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package ubuthebear.shop.domain.product.service;
+
+import lombok.Getter;
+import ubuthebear.shop.domain.product.dto.response.CategoryResponse;
+
+import java.util.List;
+
+/**
+ * 특정 시점의 전체 카테고리 목록과 상품 수를 담은 불변 스냅샷
+ * 변경이 생기면 새 스냅샷을 만들어 교체하므로, 읽는 쪽은 락 없이 그대로 반환할 수 있음
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see CategoryCatalog
+ */
+@Getter
+public class CategorySnapshot {
+    private final String etag;                          // HTTP 캐시 검증용 ETag (인스턴스 시작 시각 + 버전)
+    private final long version;                         // 스냅샷 버전 (변경될 때마다 증가)
+    private final List<CategoryResponse> categories;    // 카테고리 ID 오름차순 목록 (수정 불가)
+
+    CategorySnapshot(long instanceId, long version, List<CategoryResponse> categories) {
+        this.etag = "\"categories-" + instanceId + "-" + version + "\"";
+        this.version = version;
+        this.categories = List.copyOf(categories);
+    }
+}
@@ -0,0 +1,82 @@
+package ubuthebear.shop.domain.product.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 형식의 CSV를 한 레코드씩 읽는 리더
+ * 큰따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이중 큰따옴표("")를 처리하며 파일 전체를 메모리에 올리지 않음
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductImportService
+ */
+final class CsvRecordReader implements Closeable {
+
+    private final BufferedReader reader;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * 다음 레코드를 읽음
+     *
+     * @return List<String> 필드 목록 (파일 끝이면 null)
+     * @throws IOException 읽기 오류 또는 큰따옴표가 닫히지 않은 경우
+     */
+    List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        if (quoted) {
+            throw new IOException("CSV 큰따옴표가 닫히지 않았습니다.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
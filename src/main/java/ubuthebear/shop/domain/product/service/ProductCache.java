@@ -0,0 +1,143 @@
+package ubuthebear.shop.domain.product.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ubuthebear.shop.domain.product.dto.response.CacheStatsResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductDetailResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductResponse;
+import ubuthebear.shop.domain.product.event.ProductChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductStockChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductViewsFlushedEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 상품 기본 정보와 상세 정보 응답을 보관하는 로컬 캐시
+ * 최대 건수와 TTL로 크기를 제한하며, 상품이 변경되면 {@link ProductChangedEvent}로 해당 상품만 즉시 무효화
+ * 주문/취소로 재고만 바뀐 경우에도 {@link ProductStockChangedEvent}로 재고가 담긴 기본 정보 캐시를 무효화
+ * TTL은 다른 서버에서 발생한 변경을 반영하기 위한 상한 역할
+ *
+ * 다른 서버에서 처리된 주문의 재고 변경은 TTL 동안 반영되지 않을 수 있으므로,
+ * 정확한 재고가 필요한 경우 {@link ProductService#getStock(Long)}을 사용
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductService#getProduct(Long)
+ * @see ProductService#getProductDetail(Long)
+ */
+@Component
+public class ProductCache {
+
+    private final Cache<Long, ProductResponse> products;
+    private final Cache<Long, ProductDetailResponse> details;
+
+    public ProductCache(@Value("${shop.product.cache.max-size:10000}") long maxSize,
+                        @Value("${shop.product.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 상품 기본 정보를 반환하고, 없으면 loader로 조회하여 저장
+     * 같은 상품을 동시에 요청해도 loader는 한 번만 실행됨
+     *
+     * @param productId 상품 ID
+     * @param loader 캐시에 없을 때 상품 정보를 조회하는 함수
+     * @return ProductResponse 상품 정보
+     */
+    public ProductResponse getProduct(Long productId, Function<Long, ProductResponse> loader) {
+        return products.get(productId, loader);
+    }
+
+    /**
+     * 캐시된 상품 상세 정보를 반환하고, 없으면 loader로 조회하여 저장
+     * 캐시된 조회수는 DB에 반영된 값이므로 미반영 조회수는 호출 측에서 더해야 함
+     *
+     * @param productId 상품 ID
+     * @param loader 캐시에 없을 때 상세 정보를 조회하는 함수
+     * @return ProductDetailResponse 상품 상세 정보
+     */
+    public ProductDetailResponse getDetail(Long productId, Function<Long, ProductDetailResponse> loader) {
+        return details.get(productId, loader);
+    }
+
+    /**
+     * 상품의 캐시 항목을 무효화
+     *
+     * @param productId 상품 ID
+     */
+    public void evict(Long productId) {
+        products.invalidate(productId);
+        details.invalidate(productId);
+    }
+
+    /**
+     * 상품 변경 트랜잭션이 커밋된 후 해당 상품의 캐시를 무효화
+     * 커밋 전에 무효화하면 다른 요청이 변경 전 값을 다시 캐시할 수 있으므로 커밋 이후에 처리
+     *
+     * @param event 상품 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.getProductId());
+    }
+
+    /**
+     * 주문/취소로 재고가 변경된 트랜잭션이 커밋된 후 해당 상품들의 기본 정보 캐시를 무효화
+     * 상세 정보에는 재고가 없으므로 유지
+     * 커밋 순서와 이벤트 처리 순서가 다를 수 있어 재고 값을 덮어쓰지 않고 무효화하여 다음 조회 시 다시 읽음
+     *
+     * @param event 재고 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockChanged(ProductStockChangedEvent event) {
+        event.getChanges().forEach(change -> products.invalidate(change.getProductId()));
+    }
+
+    /**
+     * DB에 반영된 조회수 증가분을 캐시된 상세 정보에 더함
+     * 버퍼에서 차감된 만큼 캐시 값에 더하여 응답의 조회수가 줄어들지 않도록 함
+     *
+     * @param event 조회수 반영 이벤트
+     */
+    @EventListener
+    public void onViewsFlushed(ProductViewsFlushedEvent event) {
+        Map<Long, ProductDetailResponse> cached = details.asMap();
+        event.getViewCountDeltas().forEach((productId, delta) ->
+                cached.computeIfPresent(productId, (id, detail) -> detail.withViewCount(detail.getViewCount() + delta)));
+    }
+
+    /**
+     * 캐시별 적중/미적중 통계를 반환
+     *
+     * @return List<CacheStatsResponse> 상품 기본 정보, 상세 정보 캐시 통계
+     */
+    public List<CacheStatsResponse> getStats() {
+        return List.of(
+                toStats("product", products),
+                toStats("productDetail", details));
+    }
+
+    private static CacheStatsResponse toStats(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(name, cache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                stats.hitRate(), stats.evictionCount());
+    }
+}
@@ -0,0 +1,98 @@
+package ubuthebear.shop.domain.product.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 대량 등록 작업의 진행 상태
+ * 작업 스레드가 갱신하고 조회 API가 읽으므로 카운터는 원자적으로 관리
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductImportService
+ */
+@Getter
+public class ProductImportJob {
+
+    /**
+     * 작업 상태
+     */
+    public enum Status {
+        QUEUED,     // 대기 중
+        RUNNING,    // 처리 중
+        COMPLETED,  // 완료 (일부 행 실패 포함)
+        FAILED      // 파일 형식 오류 등으로 중단
+    }
+
+    private static final int MAX_ERRORS = 100;
+
+    private final String jobId;                             // 작업 ID
+    private final String fileName;                          // 업로드된 파일명
+    private final AtomicLong processedRows = new AtomicLong();  // 처리한 행 수
+    private final AtomicLong importedRows = new AtomicLong();   // 등록된 상품 수
+    private final AtomicLong failedRows = new AtomicLong();     // 실패한 행 수
+    private final List<String> errors = new ArrayList<>();      // 실패 사유 (최대 100건)
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;                        // 작업 중단 사유
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public ProductImportJob(String jobId, String fileName) {
+        this.jobId = jobId;
+        this.fileName = fileName;
+    }
+
+    void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    void recordImported(int count) {
+        processedRows.addAndGet(count);
+        importedRows.addAndGet(count);
+    }
+
+    void recordFailed(long rowNumber, String reason) {
+        recordFailed(1, "row " + rowNumber + ": " + reason);
+    }
+
+    void recordFailed(int count, String reason) {
+        processedRows.addAndGet(count);
+        failedRows.addAndGet(count);
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(reason);
+            }
+        }
+    }
+
+    /**
+     * 실패 사유 목록의 복사본을 반환
+     *
+     * @return List<String> 실패 사유 목록
+     */
+    public List<String> getErrors() {
+        synchronized (errors) {
+            return new ArrayList<>(errors);
+        }
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
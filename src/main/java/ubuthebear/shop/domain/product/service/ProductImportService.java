@@ -0,0 +1,411 @@
+package ubuthebear.shop.domain.product.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import ubuthebear.shop.domain.product.dto.request.ProductImportRow;
+import ubuthebear.shop.domain.product.dto.response.ProductImportJobResponse;
+import ubuthebear.shop.domain.product.entity.Category;
+import ubuthebear.shop.domain.product.entity.Product;
+import ubuthebear.shop.domain.product.entity.ProductDetail;
+import ubuthebear.shop.domain.product.event.ProductChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductsImportedEvent;
+import ubuthebear.shop.domain.product.repository.CategoryRepository;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 상품 대량 등록(import)을 처리하는 서비스 클래스
+ * 업로드된 CSV/JSON 파일을 임시 파일로 저장한 뒤 별도 스레드에서 한 행씩 스트리밍으로 읽어 검증하고,
+ * 일정 건수(청크)마다 하나의 트랜잭션으로 상품/상세 정보/이미지 URL을 저장
+ *
+ * - 카테고리는 작업 시작 시 한 번 적재한 맵으로 확인하여 행마다 조회하지 않음
+ * - 상품/상세 정보는 시퀀스 ID를 사용하므로 hibernate.jdbc.batch_size 단위로 배치 INSERT 됨
+ * - 청크마다 flush/clear 하여 영속성 컨텍스트가 커지지 않도록 함
+ * - 청크 저장에 실패하면 해당 청크만 실패로 기록하고 다음 청크를 계속 처리
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductImportJob
+ * @see ProductsImportedEvent
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 대량 등록은 DB 부하가 크므로 한 번에 하나의 작업만 처리
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, ProductImportJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * 대량 등록 파일을 받아 작업을 등록
+     * 파일은 임시 파일로 저장되고 실제 처리는 백그라운드에서 진행
+     *
+     * @param file 업로드된 CSV(.csv) 또는 JSON(.json, .ndjson) 파일
+     * @return ProductImportJobResponse 등록된 작업 정보 (진행 상황은 작업 ID로 조회)
+     * @throws IllegalArgumentException 지원하지 않는 파일 형식인 경우
+     * @throws IOException 임시 파일 저장에 실패한 경우
+     */
+    public ProductImportJobResponse startImport(MultipartFile file) throws IOException {
+        String fileName = Optional.ofNullable(file.getOriginalFilename()).orElse("upload");
+        String lowerName = fileName.toLowerCase(Locale.ROOT);
+        boolean csv = lowerName.endsWith(".csv");
+        if (!csv && !lowerName.endsWith(".json") && !lowerName.endsWith(".ndjson")) {
+            throw new IllegalArgumentException("CSV 또는 JSON 파일만 등록할 수 있습니다: " + fileName);
+        }
+
+        Path tempFile = Files.createTempFile("product-import-", csv ? ".csv" : ".json");
+        file.transferTo(tempFile);
+
+        ProductImportJob job = new ProductImportJob(UUID.randomUUID().toString(), fileName);
+        registerJob(job);
+        executor.submit(() -> run(job, tempFile, csv));
+        return new ProductImportJobResponse(job);
+    }
+
+    /**
+     * 대량 등록 작업의 진행 상황을 조회
+     *
+     * @param jobId 작업 ID
+     * @return ProductImportJobResponse 작업 진행 상황
+     * @throws RuntimeException 작업을 찾을 수 없는 경우
+     */
+    public ProductImportJobResponse getJob(String jobId) {
+        ProductImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new RuntimeException("Import job not found");
+        }
+        return new ProductImportJobResponse(job);
+    }
+
+    private void registerJob(ProductImportJob job) {
+        synchronized (jobs) {
+            // 완료된 오래된 작업부터 정리하여 보관 건수를 제한
+            Iterator<ProductImportJob> iterator = jobs.values().iterator();
+            while (jobs.size() >= MAX_RETAINED_JOBS && iterator.hasNext()) {
+                if (iterator.next().isFinished()) {
+                    iterator.remove();
+                }
+            }
+            jobs.put(job.getJobId(), job);
+        }
+    }
+
+    private void run(ProductImportJob job, Path file, boolean csv) {
+        job.start();
+        long startedAt = System.currentTimeMillis();
+        try (RowSource rows = csv ? new CsvRowSource(openReader(file)) : new JsonRowSource(openReader(file))) {
+            CategoryLookup categories = new CategoryLookup(categoryRepository.findAll());
+            List<ProductImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            long rowNumber = 0;
+            while (true) {
+                ProductImportRow row;
+                rowNumber++;
+                try {
+                    row = rows.next();
+                } catch (IllegalArgumentException e) {
+                    job.recordFailed(rowNumber, e.getMessage());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+
+                String error = validate(row, categories);
+                if (error != null) {
+                    job.recordFailed(rowNumber, error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    saveChunk(job, chunk, rowNumber);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                saveChunk(job, chunk, rowNumber);
+            }
+            job.complete();
+            log.info("Product import completed - jobId: {}, imported: {}, failed: {}, elapsed: {}ms",
+                    job.getJobId(), job.getImportedRows().get(), job.getFailedRows().get(),
+                    System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("Product import failed - jobId: {}, error: {}", job.getJobId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete import temp file - path: {}", file);
+            }
+        }
+    }
+
+    /**
+     * 청크를 하나의 트랜잭션으로 저장
+     * 저장 후 flush/clear 하여 다음 청크가 빈 영속성 컨텍스트에서 시작하도록 함
+     */
+    private void saveChunk(ProductImportJob job, List<ProductImportRow> chunk, long lastRowNumber) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<ProductChangedEvent> events = new ArrayList<>(chunk.size());
+                for (ProductImportRow row : chunk) {
+                    Product product = toProduct(row);
+                    entityManager.persist(product);
+                    events.add(ProductChangedEvent.created(product));
+                }
+                entityManager.flush();
+                entityManager.clear();
+                // 커밋 이후 검색 색인 등에 청크 단위로 반영
+                eventPublisher.publishEvent(new ProductsImportedEvent(events));
+            });
+            job.recordImported(chunk.size());
+        } catch (RuntimeException e) {
+            log.warn("Product import chunk failed - jobId: {}, rows until: {}, error: {}",
+                    job.getJobId(), lastRowNumber, e.getMessage());
+            job.recordFailed(chunk.size(), "chunk ending at row " + lastRowNumber + ": " + e.getMessage());
+        }
+    }
+
+    private Product toProduct(ProductImportRow row) {
+        Product product = new Product();
+        product.setName(row.getName().trim());
+        product.setPrice(row.getPrice());
+        product.setDescription(row.getDescription());
+        product.setStockQuantity(row.getStockQuantity());
+        product.setCategory(entityManager.getReference(Category.class, row.getCategoryId()));
+
+        ProductDetail detail = new ProductDetail();
+        detail.setManufacturer(row.getManufacturer());
+        detail.setOrigin(row.getOrigin());
+        detail.setMaterial(row.getMaterial());
+        detail.setSize(row.getSize());
+        detail.setWeight(row.getWeight());
+        detail.setContent(row.getContent());
+        if (row.getImageUrls() != null) {
+            detail.getImageUrls().addAll(row.getImageUrls());
+        }
+        detail.setProduct(product);
+        product.setProductDetail(detail);
+        return product;
+    }
+
+    /**
+     * 행의 필수 값을 검증하고 카테고리를 ID로 확정
+     *
+     * @return String 오류 메시지 (정상이면 null)
+     */
+    private String validate(ProductImportRow row, CategoryLookup categories) {
+        if (row.getName() == null || row.getName().isBlank()) {
+            return "상품명은 필수입니다";
+        }
+        if (row.getPrice() == null || row.getPrice().signum() < 0) {
+            return "가격은 0 이상이어야 합니다";
+        }
+        if (row.getStockQuantity() == null || row.getStockQuantity() < 0) {
+            return "재고 수량은 0 이상이어야 합니다";
+        }
+        Long categoryId = categories.resolve(row.getCategoryId(), row.getCategoryName());
+        if (categoryId == null) {
+            return "카테고리를 찾을 수 없습니다: "
+                    + (row.getCategoryId() != null ? row.getCategoryId() : row.getCategoryName());
+        }
+        row.setCategoryId(categoryId);
+        return null;
+    }
+
+    private static Reader openReader(Path file) throws IOException {
+        return Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업 시작 시 적재한 카테고리 ID/이름 조회용 맵
+     */
+    private static final class CategoryLookup {
+        private final Set<Long> ids = new HashSet<>();
+        private final Map<String, Long> idsByName = new HashMap<>();
+
+        CategoryLookup(List<Category> categories) {
+            for (Category category : categories) {
+                ids.add(category.getCategoryId());
+                idsByName.put(category.getName().trim().toLowerCase(Locale.ROOT), category.getCategoryId());
+            }
+        }
+
+        Long resolve(Long categoryId, String categoryName) {
+            if (categoryId != null) {
+                return ids.contains(categoryId) ? categoryId : null;
+            }
+            if (categoryName == null) {
+                return null;
+            }
+            return idsByName.get(categoryName.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * 파일에서 한 행씩 읽는 공통 인터페이스
+     */
+    private interface RowSource extends Closeable {
+        /**
+         * @return ProductImportRow 다음 행 (파일 끝이면 null)
+         * @throws IllegalArgumentException 행의 값 형식이 잘못된 경우 (다음 행은 계속 읽을 수 있음)
+         */
+        ProductImportRow next() throws IOException;
+    }
+
+    /**
+     * CSV 파일 리더 (첫 행은 헤더)
+     */
+    private static final class CsvRowSource implements RowSource {
+        private final CsvRecordReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        CsvRowSource(Reader reader) throws IOException {
+            this.reader = new CsvRecordReader(reader);
+            List<String> header = this.reader.readRecord();
+            if (header == null) {
+                throw new IOException("CSV 헤더가 없습니다.");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                // UTF-8 BOM 제거
+                String column = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                columns.put(column, i);
+            }
+            if (!columns.containsKey("name") || !columns.containsKey("price")) {
+                throw new IOException("CSV 헤더에 name, price 컬럼이 필요합니다.");
+            }
+        }
+
+        @Override
+        public ProductImportRow next() throws IOException {
+            List<String> record;
+            do {
+                record = reader.readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.get(0).isBlank());  // 빈 줄은 건너뜀
+
+            ProductImportRow row = new ProductImportRow();
+            row.setName(value(record, "name"));
+            row.setDescription(value(record, "description"));
+            row.setCategoryName(value(record, "categoryname"));
+            row.setManufacturer(value(record, "manufacturer"));
+            row.setOrigin(value(record, "origin"));
+            row.setMaterial(value(record, "material"));
+            row.setSize(value(record, "size"));
+            row.setWeight(value(record, "weight"));
+            row.setContent(value(record, "content"));
+            try {
+                String price = value(record, "price");
+                String stockQuantity = value(record, "stockquantity");
+                String categoryId = value(record, "categoryid");
+                row.setPrice(price != null ? new BigDecimal(price) : null);
+                row.setStockQuantity(stockQuantity != null ? Integer.valueOf(stockQuantity) : null);
+                row.setCategoryId(categoryId != null ? Long.valueOf(categoryId) : null);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("숫자 형식이 잘못되었습니다: " + e.getMessage());
+            }
+            String imageUrls = value(record, "imageurls");
+            if (imageUrls != null) {
+                for (String url : imageUrls.split("\\|")) {
+                    if (!url.isBlank()) {
+                        row.getImageUrls().add(url.trim());
+                    }
+                }
+            }
+            return row;
+        }
+
+        private String value(List<String> record, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * JSON 배열 또는 줄 단위 JSON(NDJSON) 파일 리더
+     * Jackson MappingIterator로 객체를 하나씩 읽어 파일 전체를 메모리에 올리지 않음
+     */
+    private final class JsonRowSource implements RowSource {
+        private final Reader reader;
+        private final MappingIterator<ProductImportRow> iterator;
+
+        JsonRowSource(Reader reader) throws IOException {
+            this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+            this.iterator = objectMapper.readerFor(ProductImportRow.class).readValues(this.reader);
+        }
+
+        /**
+         * 값의 형식이 잘못된 객체는 해당 행만 실패로 처리하고, 다음 호출에서 다음 객체부터 이어서 읽음
+         * (JSON 문법 자체가 깨진 경우는 이어 읽을 수 없으므로 작업 전체가 실패)
+         */
+        @Override
+        public ProductImportRow next() throws IOException {
+            if (!iterator.hasNextValue()) {
+                return null;
+            }
+            try {
+                return iterator.nextValue();
+            } catch (JsonMappingException e) {
+                throw new IllegalArgumentException("값 형식이 잘못되었습니다: " + e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+            reader.close();
+        }
+    }
+}
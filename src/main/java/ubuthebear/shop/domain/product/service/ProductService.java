@@ -1,25 +1,50 @@
 package ubuthebear.shop.domain.product.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import ubuthebear.shop.domain.product.dto.request.ProductRequest;
+import ubuthebear.shop.domain.product.dto.response.CacheStatsResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductCursorResponse;
 import ubuthebear.shop.domain.product.dto.response.ProductDetailResponse;
 import ubuthebear.shop.domain.product.dto.response.ProductListResponse;
 import ubuthebear.shop.domain.product.dto.response.ProductResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductSearchResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductStockResponse;
+import ubuthebear.shop.domain.product.dto.response.ProductSuggestResponse;
+import ubuthebear.shop.domain.product.dto.search.ProductCursor;
 import ubuthebear.shop.domain.product.dto.search.ProductSearchRequest;
 import ubuthebear.shop.domain.product.entity.Category;
 import ubuthebear.shop.domain.product.entity.Product;
 import ubuthebear.shop.domain.product.entity.ProductDetail;
+import ubuthebear.shop.domain.product.event.ProductChangedEvent;
 import ubuthebear.shop.domain.product.repository.ProductRepository;
 import ubuthebear.shop.domain.product.repository.CategoryRepository;
+import ubuthebear.shop.domain.product.search.ProductFilterEngine;
+import ubuthebear.shop.domain.product.search.ProductSearchIndex;
+import ubuthebear.shop.domain.product.search.ProductSuggestIndex;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 상품 관리를 위한 서비스 클래스
@@ -36,8 +61,18 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)  // 기본적으로 읽기 전용 트랜잭션 설정
 public class ProductService {
 
+    private static final int ID_CHUNK_SIZE = 1000;
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFilterEngine productFilterEngine;
+    private final ProductSuggestIndex productSuggestIndex;
+    private final ProductViewCountBuffer productViewCountBuffer;
+    private final ProductCache productCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
 
     /**
      * 새로운 상품을 등록
@@ -72,8 +107,11 @@ public class ProductService {
 
         product.setProductDetail(productDetail);
 
-        // 4. 상품 저장 및 응답 반환
-        return new ProductResponse(productRepository.save(product));
+        // 4. 상품 저장 및 변경 이벤트 발행 (커밋 후 검색 색인에 반영)
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.created(savedProduct));
+
+        return new ProductResponse(savedProduct);
     }
 
     /**
@@ -82,14 +120,63 @@ public class ProductService {
      * @return List<ProductListResponse> 전체 상품 목록
      */
     public List<ProductListResponse> getAllProducts() {
-        // stream() : 조회된 Product 리스트를 Stream으로 변환 (데이터를 순차적으로 처리 가능)
-        return productRepository.findAll().stream()
-                // 각 Product 엔티티를 ProductListResponse 객체로 변환
-                // 메서드 레퍼런스를 사용한 것으로, 각 Product에 대해 ProductListResponse의 생성자를 호출
-                .map(ProductListResponse::new)
-                // 변환된 ProductListResponse 객체들을 다시 List로 모음
-                // 최종적으로 List<ProductListResponse>가 반환
-                .collect(Collectors.toList());
+        // 목록 컬럼과 카테고리명을 한 번의 조인 쿼리로 DTO에 직접 담아 조회 (엔티티 및 지연 로딩 없음)
+        return productRepository.findAllListItems();
+    }
+
+    /**
+     * 상품 목록을 페이지 단위로 조회
+     * 전체 목록을 한 번에 반환하는 {@link #getAllProducts()} 대신 사용
+     *
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기 (1~100)
+     * @param sort 정렬 조건 ("정렬기준,방향" 형식, 정렬기준은 createdAt/price/name/productId)
+     * @return Page<ProductListResponse> 상품 목록 페이지
+     * @throws IllegalArgumentException 페이지 정보나 정렬 조건이 잘못된 경우
+     */
+    public Page<ProductListResponse> getProductsPage(int page, int size, String sort) {
+        if (page < 0 || size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상, 페이지 크기는 1~100 사이여야 합니다.");
+        }
+
+        String[] sortParts = sort.split(",");
+        String property = ProductCursor.SortField.from(sortParts[0].trim()).getProperty();
+        Sort.Direction direction = sortParts.length > 1 && "asc".equalsIgnoreCase(sortParts[1].trim())
+                ? Sort.Direction.ASC : Sort.Direction.DESC;
+        // 동일한 정렬 값 사이의 순서가 페이지마다 달라지지 않도록 상품 ID를 보조 정렬 키로 추가
+        Sort order = Sort.by(direction, property).and(Sort.by(direction, "productId"));
+
+        return productRepository.findListItems(PageRequest.of(page, size, order));
+    }
+
+    /**
+     * 전체 상품 목록을 NDJSON(한 줄에 상품 하나) 형식으로 출력 스트림에 기록
+     * DB 커서에서 읽는 즉시 직렬화하여 내보내므로 상품 수와 관계없이 메모리 사용량이 일정
+     *
+     * @param out 응답 출력 스트림 (이 메서드에서 닫지 않음)
+     * @throws IOException 출력 스트림에 쓰는 중 오류 발생 시
+     */
+    public void exportProducts(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // 줄 구분은 직접 기록하므로 루트 값 사이의 기본 구분자(공백)를 끄고,
+        // 값마다 flush하지 않도록 하여 EXPORT_FLUSH_INTERVAL 단위로만 응답 청크를 내보냄
+        generator.setRootValueSeparator(null);
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (Stream<ProductListResponse> products = productRepository.streamAllListItems()) {
+            Iterator<ProductListResponse> iterator = products.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        } finally {
+            generator.close();
+        }
     }
 
     /**
@@ -99,50 +186,75 @@ public class ProductService {
      * @return List<ProductListResponse> 해당 카테고리의 상품 목록
      */
     public List<ProductListResponse> getProductsByCategory(Long categoryId) {
-        return productRepository.findByCategoryCategoryId(categoryId).stream()
-                .map(ProductListResponse::new)
-                .collect(Collectors.toList());
+        return productRepository.findListItemsByCategoryId(categoryId);
     }
 
     /**
      * 상품의 기본 정보를 조회
+     * {@link ProductCache}에 있으면 DB 조회 없이 반환하고, 없을 때만 연관 정보와 함께 한 번에 조회
+     * 캐시 적중 시 트랜잭션(커넥션)을 열지 않도록 SUPPORTS 전파 속성을 사용
      *
      * @param id 상품 ID
      * @return ProductResponse 상품 정보
      * @throws RuntimeException 상품을 찾을 수 없는 경우
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductResponse getProduct(Long id) {
-        Product product = productRepository.findById(id)
+        return productCache.getProduct(id, productId -> productRepository.findWithCategoryAndDetailById(productId)
+                .map(ProductResponse::new)
+                .orElseThrow(() -> new RuntimeException("Product not found")));
+    }
+
+    /**
+     * 상품의 현재 재고를 조회
+     * 캐시를 거치지 않고 항상 DB의 최신 값을 반환
+     *
+     * @param productId 상품 ID
+     * @return ProductStockResponse 재고 정보
+     * @throws RuntimeException 상품을 찾을 수 없는 경우
+     */
+    public ProductStockResponse getStock(Long productId) {
+        int stockQuantity = productRepository.findStockQuantityById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
-        return new ProductResponse(product);
+        return new ProductStockResponse(productId, stockQuantity, stockQuantity > 0);
     }
 
     /**
      * 상품의 상세 정보를 조회하는 헬퍼 메서드
      *
      * @param productId 상품 ID
-     * @return ProductDetail 상품 상세 정보
+     * @return ProductDetail 이미지 URL 목록이 함께 로딩된 상품 상세 정보
      * @throws RuntimeException 상품 또는 상세 정보를 찾을 수 없는 경우
      */
     private ProductDetail findProductDetail(Long productId) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new RuntimeException("Product not found"));
-
-        return Optional.ofNullable(product.getProductDetail())
-                .orElseThrow(() -> new RuntimeException("Product detail not found"));
+        return productRepository.findDetailWithImagesByProductId(productId)
+                .orElseThrow(() -> new RuntimeException(productRepository.existsById(productId)
+                        ? "Product detail not found" : "Product not found"));
     }
 
     /**
      * 상품의 상세 정보를 조회하고 조회수를 증가
+     * 상세 정보는 {@link ProductCache}에서 반환하고, 조회수 증가는 {@link ProductViewCountBuffer}에 누적했다가 주기적으로 반영
+     * 응답의 조회수에는 아직 DB에 반영되지 않은 증가분도 포함
      *
      * @param productId 상품 ID
      * @return ProductDetailResponse 상품 상세 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductDetailResponse getProductDetail(Long productId) {
-        ProductDetail detail = findProductDetail(productId);
-        detail.setViewCount(detail.getViewCount() + 1);
-        return new ProductDetailResponse(detail);
+        ProductDetailResponse detail = productCache.getDetail(productId,
+                id -> new ProductDetailResponse(findProductDetail(id)));
+        productViewCountBuffer.increment(productId);
+        return detail.withViewCount(detail.getViewCount() + productViewCountBuffer.getPendingCount(productId));
+    }
+
+    /**
+     * 상품 캐시의 적중/미적중 통계를 조회
+     *
+     * @return List<CacheStatsResponse> 캐시별 통계
+     */
+    public List<CacheStatsResponse> getCacheStats() {
+        return productCache.getStats();
     }
 
     /**
@@ -157,6 +269,8 @@ public class ProductService {
     public ProductResponse updateProduct(Long id, ProductRequest request) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Product not found"));
+        Long previousCategoryId = product.getCategory().getCategoryId();
+        Integer previousStockQuantity = product.getStockQuantity();
 
         // 상품 기본 정보 업데이트
         product.setName(request.getName());
@@ -183,6 +297,7 @@ public class ProductService {
 
         // 변경사항 저장
         product = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(product, previousCategoryId, previousStockQuantity));
 
         return new ProductResponse(product);
     }
@@ -194,33 +309,145 @@ public class ProductService {
      */
     @Transactional
     public void deleteProduct(Long id) {
-        productRepository.deleteById(id);
+        // 삭제 전 카테고리/재고를 이벤트에 담기 위해 먼저 조회 (없는 상품은 기존과 같이 무시)
+        productRepository.findById(id).ifPresent(product -> {
+            productRepository.delete(product);
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(product));
+        });
     }
 
     /**
      * 키워드로 상품을 검색
+     * 메모리 검색 색인으로 상품 ID를 찾은 뒤 목록 컬럼만 DTO로 조회
+     * 색인이 아직 구축되지 않은 경우(애플리케이션 기동 직후)에만 LIKE 검색으로 대체
      *
      * @param keyword 검색 키워드
-     * @return List<ProductListResponse> 검색된 상품 목록
+     * @return List<ProductListResponse> 상품 ID 오름차순으로 정렬된 상품 목록
      */
     public List<ProductListResponse> searchProducts(String keyword) {
-        return productRepository.findByNameContaining(keyword).stream()
-                .map(ProductListResponse::new)
-                .collect(Collectors.toList());
+        if (!productSearchIndex.isReady()) {
+            return productRepository.findListItemsByNameContaining(keyword);
+        }
+
+        List<Long> productIds = productSearchIndex.search(keyword);
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return findListItems(productIds);
     }
 
     /**
-     * 다양한 조건으로 상품을 검색
-     * TODO: QueryDSL을 사용한 동적 쿼리 구현 필요
+     * 상품 ID 목록을 나누어 목록 DTO로 조회하는 헬퍼 메서드
+     * IN 절의 파라미터 수가 과도하게 커지지 않도록 일정 크기씩 나누어 조회
+     *
+     * @param productIds 오름차순으로 정렬된 상품 ID 목록
+     * @return List<ProductListResponse> 상품 ID 오름차순 상품 목록
+     */
+    private List<ProductListResponse> findListItems(List<Long> productIds) {
+        List<ProductListResponse> items = new ArrayList<>(productIds.size());
+        for (int from = 0; from < productIds.size(); from += ID_CHUNK_SIZE) {
+            items.addAll(productRepository.findListItemsByIdIn(
+                    productIds.subList(from, Math.min(from + ID_CHUNK_SIZE, productIds.size()))));
+        }
+        return items;
+    }
+
+    /**
+     * 입력 중인 검색어에 대한 자동완성 제안을 조회
+     * 메모리 자동완성 색인만 사용하며 DB에 접근하지 않으므로 트랜잭션을 시작하지 않음
+     *
+     * @param keyword 입력 중인 검색어
+     * @param limit 종류별 최대 제안 수
+     * @return ProductSuggestResponse 상품/카테고리 제안 목록
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductSuggestResponse suggest(String keyword, int limit) {
+        return productSuggestIndex.suggest(keyword, limit);
+    }
+
+    /**
+     * 다양한 조건으로 상품을 검색하고 패싯 건수를 함께 반환
+     * 키워드는 검색 색인(상품명 또는 설명)으로, 카테고리/가격/재고 조건은 필터 엔진의 비트셋 연산으로 평가한 뒤
+     * 요청한 페이지에 해당하는 상품만 기본키로 조회
      *
      * @param request 검색 조건
-     * @return List<ProductResponse> 검색된 상품 목록
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return ProductSearchResponse 검색된 상품 목록과 패싯 건수
+     * @throws IllegalArgumentException 페이지 정보나 가격 범위가 잘못된 경우
      */
-    public List<ProductResponse> searchProductsWithFilter(ProductSearchRequest request) {
-        return productRepository.findByNameContaining(request.getKeyword())
-                .stream()
-                .map(ProductResponse::new)
+    public ProductSearchResponse searchProductsWithFilter(ProductSearchRequest request, int page, int size) {
+        if (page < 0 || size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상, 페이지 크기는 1~100 사이여야 합니다.");
+        }
+        if (!productSearchIndex.isReady() || !productFilterEngine.isReady()) {
+            return searchProductsWithFilterFallback(request, page, size);
+        }
+
+        List<Long> keywordMatches = hasKeyword(request.getKeyword())
+                ? productSearchIndex.search(request.getKeyword(), true)
+                : null;
+        ProductFilterEngine.FilterResult result = productFilterEngine.filter(request, keywordMatches);
+
+        List<Long> productIds = result.getProductIds();
+        int from = (int) Math.min((long) page * size, productIds.size());
+        int to = Math.min(from + size, productIds.size());
+        List<Long> pageIds = productIds.subList(from, to);
+
+        List<ProductListResponse> content = pageIds.isEmpty() ? List.of()
+                : productRepository.findListItemsByIdIn(pageIds);
+
+        // 패싯에 표시할 카테고리명 조회
+        Map<Long, String> categoryNames = categoryRepository.findAllById(result.getCategoryCounts().keySet()).stream()
+                .collect(Collectors.toMap(Category::getCategoryId, Category::getName));
+        List<ProductSearchResponse.CategoryFacet> categoryFacets = result.getCategoryCounts().entrySet().stream()
+                .filter(entry -> categoryNames.containsKey(entry.getKey()))
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new ProductSearchResponse.CategoryFacet(
+                        entry.getKey(), categoryNames.get(entry.getKey()), entry.getValue()))
+                .collect(Collectors.toList());
+        List<ProductSearchResponse.PriceFacet> priceFacets = result.getPriceBandCounts().stream()
+                .map(band -> new ProductSearchResponse.PriceFacet(band.getMinPrice(), band.getMaxPrice(), band.getCount()))
+                .collect(Collectors.toList());
+
+        return new ProductSearchResponse(content, page, size, productIds.size(),
+                (productIds.size() + size - 1) / size, categoryFacets, priceFacets,
+                result.getInStockCount(), result.getOutOfStockCount());
+    }
+
+    /**
+     * 색인과 필터 엔진이 아직 구축되지 않은 경우(애플리케이션 기동 직후)의 조건 검색
+     * DB 키워드 검색 결과에 조건을 직접 적용하며, 패싯 건수는 제공하지 않음
+     */
+    private ProductSearchResponse searchProductsWithFilterFallback(ProductSearchRequest request, int page, int size) {
+        String keyword = hasKeyword(request.getKeyword()) ? request.getKeyword() : "";
+        List<Product> matched = productRepository.findByNameContainingOrDescriptionContaining(keyword, keyword).stream()
+                .filter(product -> request.getCategoryId() == null
+                        || (product.getCategory() != null
+                        && request.getCategoryId().equals(product.getCategory().getCategoryId())))
+                .filter(product -> request.getMinPrice() == null
+                        || product.getPrice().compareTo(request.getMinPrice()) >= 0)
+                .filter(product -> request.getMaxPrice() == null
+                        || product.getPrice().compareTo(request.getMaxPrice()) <= 0)
+                .filter(product -> request.getInStock() == null
+                        || request.getInStock() == (product.getStockQuantity() > 0))
+                .sorted(Comparator.comparing(Product::getProductId))
+                .collect(Collectors.toList());
+
+        List<ProductListResponse> content = matched.stream()
+                .skip((long) page * size)
+                .limit(size)
+                .map(ProductListResponse::new)
                 .collect(Collectors.toList());
+        long inStockCount = matched.stream().filter(product -> product.getStockQuantity() > 0).count();
+
+        return new ProductSearchResponse(content, page, size, matched.size(),
+                (matched.size() + size - 1) / size, List.of(), List.of(),
+                inStockCount, matched.size() - inStockCount);
+    }
+
+    private boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.isBlank();
     }
 
     /**
@@ -242,9 +469,56 @@ public class ProductService {
         return productPage.map(this::convertToProductListResponse);
     }
 
+    /**
+     * 관리자용 상품 목록을 커서 기반(키셋)으로 조회
+     * OFFSET 대신 직전 페이지 마지막 상품의 (정렬 키, 상품 ID) 이후부터 조회하므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회
+     * 전체 건수 COUNT 쿼리는 요청한 경우에만 실행
+     *
+     * @param cursor 직전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1~100)
+     * @param sort 정렬 조건 ("정렬기준,방향" 형식, 정렬기준은 createdAt/price/name/productId)
+     * @param categoryId 카테고리 ID (선택)
+     * @param keyword 상품명/설명 검색 키워드 (선택)
+     * @param withTotal 전체 건수 포함 여부
+     * @return ProductCursorResponse 상품 목록과 다음 페이지 커서
+     * @throws IllegalArgumentException 페이지 크기, 정렬 조건, 커서가 잘못된 경우
+     */
+    public ProductCursorResponse getAdminProductsByCursor(String cursor, int size, String sort,
+                                                          Long categoryId, String keyword, boolean withTotal) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("페이지 크기는 1~100 사이여야 합니다.");
+        }
+
+        String[] sortParts = sort.split(",");
+        ProductCursor.SortField sortField = ProductCursor.SortField.from(sortParts[0].trim());
+        boolean ascending = sortParts.length > 1 && "asc".equalsIgnoreCase(sortParts[1].trim());
+        ProductCursor after = (cursor == null || cursor.isBlank())
+                ? null
+                : ProductCursor.decode(cursor, sortField, ascending);
+
+        // 한 건을 더 조회하여 다음 페이지 존재 여부를 COUNT 없이 판단
+        List<Product> products = productRepository.findPageByKeyset(
+                categoryId, keyword, sortField, ascending, after, size + 1);
+        boolean hasNext = products.size() > size;
+        if (hasNext) {
+            products = products.subList(0, size);
+        }
+
+        String nextCursor = hasNext
+                ? ProductCursor.after(sortField, ascending, products.get(products.size() - 1)).encode()
+                : null;
+        Long totalElements = withTotal ? productRepository.countByCondition(categoryId, keyword) : null;
+
+        List<ProductListResponse> content = products.stream()
+                .map(this::convertToProductListResponse)
+                .collect(Collectors.toList());
+        return new ProductCursorResponse(content, size, hasNext, nextCursor, totalElements);
+    }
+
     /**
      * 상품 재고 수정
      */
+    @Transactional
     public ProductResponse updateStock(Long productId, int quantity) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("상품을 찾을 수 없습니다: " + productId));
@@ -253,8 +527,11 @@ public class ProductService {
             throw new IllegalArgumentException("재고 수량은 0 이상이어야 합니다.");
         }
 
+        Integer previousStockQuantity = product.getStockQuantity();
         product.setStockQuantity(quantity);
         product = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(product,
+                product.getCategory() != null ? product.getCategory().getCategoryId() : null, previousStockQuantity));
 
         return convertToProductResponse(product);
     }
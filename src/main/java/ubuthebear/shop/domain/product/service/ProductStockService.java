@@ -0,0 +1,107 @@
+package ubuthebear.shop.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ubuthebear.shop.domain.product.event.ProductStockChangedEvent;
+import ubuthebear.shop.domain.product.event.ProductStockChangedEvent.StockChange;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
+
+/**
+ * 주문에 따른 상품 재고 차감/복구를 처리하는 서비스 클래스
+ * 엔티티를 읽어 Java에서 비교한 뒤 값을 덮어쓰면 동시 주문 시 갱신 손실(lost update)이 발생하므로,
+ * 재고 확인과 차감을 조건부 UPDATE 한 문장으로 처리
+ *
+ * 여러 상품을 차감할 때는 항상 상품 ID 오름차순으로 UPDATE하여 주문 간 행 잠금 순서를 일정하게 유지 (교착 상태 방지)
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductRepository#decreaseStock(Long, int)
+ * @see ProductStockChangedEvent
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductStockService {
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 상품별 수량만큼 재고를 차감
+     * 재고가 부족한 상품이 하나라도 있으면 부족한 상품 전체를 사유에 담아 예외를 던지며,
+     * 호출한 트랜잭션이 롤백되어 먼저 차감된 상품의 재고도 함께 원복됨
+     *
+     * @param quantities 상품 ID별 차감 수량 (상품 ID 오름차순으로 처리됨)
+     * @throws RuntimeException 수량이 0 이하이거나, 재고가 부족하거나, 상품이 존재하지 않는 경우
+     */
+    @Transactional
+    public void decreaseStock(SortedMap<Long, Integer> quantities) {
+        // 음수 수량은 조건을 항상 만족하여 재고를 늘리게 되므로 UPDATE 전에 거부
+        quantities.forEach((productId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new RuntimeException("Invalid quantity for productId=" + productId + ": " + quantity);
+            }
+        });
+
+        List<Long> shortages = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            if (productRepository.decreaseStock(productId, quantity) == 0) {
+                shortages.add(productId);
+            }
+        });
+
+        if (!shortages.isEmpty()) {
+            throw new RuntimeException("Insufficient stock: " + describeShortages(shortages, quantities));
+        }
+        publishStockChanged(quantities, -1);
+    }
+
+    /**
+     * 상품별 수량만큼 재고를 복구 (주문 취소 시 사용)
+     * 그 사이 삭제된 상품은 복구 대상에서 제외
+     *
+     * @param quantities 상품 ID별 복구 수량 (상품 ID 오름차순으로 처리됨)
+     */
+    @Transactional
+    public void increaseStock(SortedMap<Long, Integer> quantities) {
+        quantities.forEach(productRepository::increaseStock);
+        publishStockChanged(quantities, 1);
+    }
+
+    // 재고 부족 상품별로 요청 수량과 현재 재고를 기록한 사유 문자열
+    private String describeShortages(List<Long> shortages, Map<Long, Integer> quantities) {
+        Map<Long, Integer> available = new HashMap<>();
+        for (Object[] row : productRepository.findStockRowsByIdIn(shortages)) {
+            available.put((Long) row[0], (Integer) row[2]);
+        }
+        return shortages.stream()
+                .map(productId -> available.containsKey(productId)
+                        ? String.format("productId=%d (requested %d, available %d)",
+                                productId, quantities.get(productId), available.get(productId))
+                        : String.format("productId=%d (not found)", productId))
+                .collect(Collectors.joining(", "));
+    }
+
+    // 변경 후 재고를 한 번에 조회하여 변경 전/후 재고를 담은 이벤트 발행 (행 잠금을 보유한 상태라 커밋 시점 값과 같음)
+    private void publishStockChanged(Map<Long, Integer> quantities, int sign) {
+        List<StockChange> changes = new ArrayList<>(quantities.size());
+        for (Object[] row : productRepository.findStockRowsByIdIn(quantities.keySet())) {
+            Long productId = (Long) row[0];
+            int stockQuantity = (Integer) row[2];
+            changes.add(new StockChange(productId, (Long) row[1],
+                    stockQuantity - sign * quantities.get(productId), stockQuantity));
+        }
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new ProductStockChangedEvent(changes));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package ubuthebear.shop.domain.product.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.product.event.ProductViewsFlushedEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품 상세 조회수를 메모리에 누적했다가 주기적으로 DB에 반영하는 쓰기 지연(write-behind) 버퍼
+ * 조회할 때마다 product_details 행을 잠그고 갱신하는 대신, 상품별 증가분만 메모리에 기록하고
+ * 일정 주기와 애플리케이션 종료 시점에 "view_count = view_count + ?" 형태의 배치 UPDATE로 반영
+ *
+ * 증가분은 DB에 더하는 방식이므로 여러 서버가 동시에 반영해도 갱신 손실이 발생하지 않음
+ * 묶음마다 하나의 트랜잭션으로 반영하므로 묶음은 전부 반영되거나 전부 롤백되며,
+ * 롤백된 묶음의 증가분만 버퍼로 되돌려 다음 주기에 다시 시도
+ * 반영된 증가분은 {@link ProductViewsFlushedEvent}로 알려 캐시 등이 조회수를 맞출 수 있도록 함
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ProductService#getProductDetail(Long)
+ */
+@Slf4j
+@Component
+public class ProductViewCountBuffer {
+
+    private static final String FLUSH_SQL =
+            "UPDATE product_details SET view_count = COALESCE(view_count, 0) + ? WHERE product_id = ?";
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 상품 ID별 미반영 조회수
+     * 증가는 merge로, 반영할 값은 remove로 원자적으로 꺼내므로 반영된 상품의 항목은 맵에서 제거됨
+     */
+    private final Map<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    public ProductViewCountBuffer(JdbcTemplate jdbcTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 상품 조회수를 1 증가
+     *
+     * @param productId 조회된 상품 ID
+     */
+    public void increment(Long productId) {
+        pendingCounts.merge(productId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 반환
+     *
+     * @param productId 상품 ID
+     * @return long 미반영 조회수
+     */
+    public long getPendingCount(Long productId) {
+        return pendingCounts.getOrDefault(productId, 0L);
+    }
+
+    /**
+     * 누적된 조회수를 배치 UPDATE로 DB에 반영
+     * 기본 5초 간격으로 실행되며, shop.product.view-count.flush-interval-ms 속성으로 조정 가능
+     */
+    @Scheduled(fixedDelayString = "${shop.product.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        Map<Long, Long> flushed = new HashMap<>();
+        for (Long productId : pendingCounts.keySet()) {
+            // 꺼낸 뒤에 들어온 증가분은 새 항목으로 쌓여 다음 주기로 넘어감
+            Long delta = pendingCounts.remove(productId);
+            if (delta != null && delta > 0) {
+                batch.add(new Object[]{delta, productId});
+            }
+        }
+
+        for (int from = 0; from < batch.size(); from += FLUSH_BATCH_SIZE) {
+            List<Object[]> chunk = batch.subList(from, Math.min(from + FLUSH_BATCH_SIZE, batch.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, chunk));
+                for (Object[] row : chunk) {
+                    flushed.put((Long) row[1], (Long) row[0]);
+                }
+            } catch (DataAccessException | TransactionException e) {
+                // 이 묶음의 트랜잭션만 롤백되었으므로 이 묶음의 증가분만 되돌림 (앞서 커밋된 묶음은 제외)
+                log.warn("Failed to flush product view counts - products: {}, error: {}", chunk.size(), e.getMessage());
+                for (Object[] row : chunk) {
+                    pendingCounts.merge((Long) row[1], (Long) row[0], Long::sum);
+                }
+            }
+        }
+
+        if (!flushed.isEmpty()) {
+            eventPublisher.publishEvent(new ProductViewsFlushedEvent(flushed));
+            log.debug("Flushed product view counts - products: {}", flushed.size());
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수를 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,59 @@
+package ubuthebear.shop.domain.sales.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import ubuthebear.shop.domain.sales.dto.SalesSummaryResponse;
+import ubuthebear.shop.domain.sales.service.SalesAnalyticsService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자용 판매 통계 API를 제공하는 컨트롤러
+ * 미리 집계된 판매 구간을 합산하여 기간별 상품/카테고리 판매 실적을 조회
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see SalesAnalyticsService
+ */
+@Tag(name = "Admin Sales", description = "관리자용 판매 통계 API")
+@RestController
+@RequestMapping("/api/admin/sales")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminSalesController {
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    @Operation(summary = "상품별 판매 실적 조회", description = "기간 내 상품별 판매 수량/금액을 판매 수량 순으로 조회합니다. 기간은 시간 단위로 맞춰집니다.")
+    @GetMapping("/products")
+    public ResponseEntity<List<SalesSummaryResponse>> getProductSales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false, defaultValue = "100") int limit) {
+        return ResponseEntity.ok(salesAnalyticsService.getProductSales(from, to, limit));
+    }
+
+    @Operation(summary = "카테고리별 판매 실적 조회", description = "기간 내 카테고리별 판매 수량/금액을 판매 수량 순으로 조회합니다. 기간은 시간 단위로 맞춰집니다.")
+    @GetMapping("/categories")
+    public ResponseEntity<List<SalesSummaryResponse>> getCategorySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false, defaultValue = "100") int limit) {
+        return ResponseEntity.ok(salesAnalyticsService.getCategorySales(from, to, limit));
+    }
+
+    @Operation(summary = "판매 집계 재계산", description = "기간(일 단위)의 판매 집계를 주문 원본으로 다시 계산합니다. 주문 상품 전체를 읽으므로 한가한 시간에 실행하세요.")
+    @PostMapping("/rollups/rebuild")
+    public ResponseEntity<Integer> rebuildRollups(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesAnalyticsService.rebuild(from, to));
+    }
+}
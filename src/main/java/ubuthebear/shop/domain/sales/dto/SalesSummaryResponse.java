@@ -0,0 +1,22 @@
+package ubuthebear.shop.domain.sales.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 기간별 상품/카테고리 판매 실적을 반환하기 위한 응답 DTO 클래스
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.sales.service.SalesAnalyticsService
+ */
+@Getter
+@RequiredArgsConstructor
+public class SalesSummaryResponse {
+    private final Long id;                      // 상품 ID 또는 카테고리 ID
+    private final long quantity;                // 판매 수량 (취소분 차감)
+    private final BigDecimal revenue;           // 판매 금액 (취소분 차감)
+    private final long completedQuantity;       // 구매확정 수량
+}
@@ -0,0 +1,87 @@
+package ubuthebear.shop.domain.sales.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품/카테고리별 판매 실적을 시간 단위 또는 일 단위 구간으로 미리 집계해 둔 엔티티 클래스
+ * 기간별 판매 통계를 주문 상품 행 전체를 집계하는 대신 구간 행의 합으로 계산하기 위해 사용
+ *
+ * 모든 값은 주문 생성 일시가 속한 구간에 누적됨 (취소/구매확정도 원래 주문의 구간에 반영)
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.domain.sales.service.SalesRollupBuffer
+ * @see ubuthebear.shop.domain.sales.service.SalesAnalyticsService
+ */
+@Entity
+@Table(name = "sales_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_rollups_bucket",
+                columnNames = {"granularity", "dimension", "bucket_start", "dimension_id"}))
+@Getter @Setter
+@NoArgsConstructor
+public class SalesRollup {
+
+    /**
+     * 집계 구간 단위
+     */
+    public enum Granularity {
+        HOUR,   // 1시간 구간
+        DAY     // 1일 구간
+    }
+
+    /**
+     * 집계 기준
+     */
+    public enum Dimension {
+        PRODUCT,    // 상품별
+        CATEGORY    // 카테고리별
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Dimension dimension;
+
+    /**
+     * 상품 ID 또는 카테고리 ID
+     */
+    @Column(nullable = false)
+    private Long dimensionId;
+
+    /**
+     * 구간 시작 일시 (시간 단위는 정시, 일 단위는 자정)
+     */
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * 판매 수량 (취소분 차감)
+     */
+    @Column(nullable = false)
+    private long quantity;
+
+    /**
+     * 판매 금액 (취소분 차감, 포인트 사용 전 금액)
+     */
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    /**
+     * 구매확정 수량
+     */
+    @Column(nullable = false)
+    private long completedQuantity;
+}
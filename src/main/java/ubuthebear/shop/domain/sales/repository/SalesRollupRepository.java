@@ -0,0 +1,50 @@
+package ubuthebear.shop.domain.sales.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import ubuthebear.shop.domain.sales.entity.SalesRollup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 판매 집계 구간 데이터 접근을 위한 리포지토리 인터페이스
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see SalesRollup
+ */
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    /**
+     * 기간에 속한 집계 구간을 상품/카테고리별로 합산
+     * 조회 비용은 주문 상품 수가 아니라 구간 수에 비례
+     *
+     * @param granularity 구간 단위
+     * @param dimension 집계 기준
+     * @param from 시작 일시 (포함, 구간 경계여야 함)
+     * @param to 종료 일시 (미포함, 구간 경계여야 함)
+     * @return List<Object[]> [dimensionId, quantity, revenue, completedQuantity] 배열 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT r.dimensionId, SUM(r.quantity), SUM(r.revenue), SUM(r.completedQuantity) FROM SalesRollup r " +
+            "WHERE r.granularity = :granularity AND r.dimension = :dimension " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.dimensionId")
+    List<Object[]> sumByDimension(SalesRollup.Granularity granularity, SalesRollup.Dimension dimension,
+                                  LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 기간에 속한 집계 구간을 모두 삭제 (재집계 전 사용)
+     *
+     * @param from 시작 일시 (포함)
+     * @param to 종료 일시 (미포함)
+     * @return int 삭제된 행 수
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("DELETE FROM SalesRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteBucketsBetween(LocalDateTime from, LocalDateTime to);
+}
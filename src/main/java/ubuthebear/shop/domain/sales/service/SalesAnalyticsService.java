@@ -0,0 +1,223 @@
+package ubuthebear.shop.domain.sales.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.order.entity.OrderStatus;
+import ubuthebear.shop.domain.order.event.OrderCancelledEvent;
+import ubuthebear.shop.domain.order.event.OrderConfirmedEvent;
+import ubuthebear.shop.domain.order.event.OrderCreatedEvent;
+import ubuthebear.shop.domain.order.repository.OrderItemRepository;
+import ubuthebear.shop.domain.sales.dto.SalesSummaryResponse;
+import ubuthebear.shop.domain.sales.entity.SalesRollup.Dimension;
+import ubuthebear.shop.domain.sales.entity.SalesRollup.Granularity;
+import ubuthebear.shop.domain.sales.repository.SalesRollupRepository;
+import ubuthebear.shop.domain.sales.service.SalesRollupBuffer.BucketKey;
+import ubuthebear.shop.domain.sales.service.SalesRollupBuffer.Delta;
+import ubuthebear.shop.global.outbox.OutboxConsumerLog;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 판매 집계 구간을 이용한 기간별 판매 통계 서비스 클래스
+ * 기간 중 하루 전체가 포함된 날은 일 단위 구간을, 양 끝의 일부 시간은 시간 단위 구간을 합산하므로
+ * 조회 비용이 주문 상품 수가 아니라 구간 수에 비례 (예: 90일 조회 시 일 단위 약 90개 + 시간 단위 최대 46개 구간)
+ *
+ * 조회 기간은 시간 단위로 맞춰짐 (시작은 정시로 내림, 종료는 정시로 올림)
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see SalesRollupBuffer
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SalesAnalyticsService {
+
+    private static final List<Class<?>> ROLLUP_EVENT_TYPES =
+            List.of(OrderCreatedEvent.class, OrderCancelledEvent.class, OrderConfirmedEvent.class);
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final SalesRollupBuffer salesRollupBuffer;
+    private final OutboxConsumerLog outboxConsumerLog;
+    private final TransactionTemplate transactionTemplate;
+
+    public SalesAnalyticsService(SalesRollupRepository salesRollupRepository,
+                                 OrderItemRepository orderItemRepository,
+                                 SalesRollupBuffer salesRollupBuffer,
+                                 OutboxConsumerLog outboxConsumerLog,
+                                 PlatformTransactionManager transactionManager) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.salesRollupBuffer = salesRollupBuffer;
+        this.outboxConsumerLog = outboxConsumerLog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 기간 내 상품별 판매 실적을 판매 수량 내림차순으로 조회
+     *
+     * @param from 시작 일시 (포함)
+     * @param to 종료 일시 (미포함)
+     * @param limit 최대 조회 건수
+     * @return List<SalesSummaryResponse> 상품별 판매 실적
+     * @throws IllegalArgumentException 기간이 잘못된 경우
+     */
+    public List<SalesSummaryResponse> getProductSales(LocalDateTime from, LocalDateTime to, int limit) {
+        return getSales(Dimension.PRODUCT, from, to, limit);
+    }
+
+    /**
+     * 기간 내 카테고리별 판매 실적을 판매 수량 내림차순으로 조회
+     *
+     * @param from 시작 일시 (포함)
+     * @param to 종료 일시 (미포함)
+     * @param limit 최대 조회 건수
+     * @return List<SalesSummaryResponse> 카테고리별 판매 실적
+     * @throws IllegalArgumentException 기간이 잘못된 경우
+     */
+    public List<SalesSummaryResponse> getCategorySales(LocalDateTime from, LocalDateTime to, int limit) {
+        return getSales(Dimension.CATEGORY, from, to, limit);
+    }
+
+    /**
+     * 기간의 판매 집계 구간을 주문 상품 원본으로 다시 계산
+     * 집계 도입 이전 주문을 반영하거나 집계 값을 보정할 때 사용하며, 주문 상품 행을 모두 읽으므로 한가한 시간에 실행
+     *
+     * 버퍼에 남은 증감분을 먼저 별도 트랜잭션으로 반영한 뒤 재집계 트랜잭션을 시작하고,
+     * 아직 판매 집계에 반영되지 않은 주문 이벤트(발행 대기 또는 버퍼에 누적 중)의 효과는 제외하여 계산
+     * (해당 이벤트는 이후 버퍼를 거쳐 재집계 결과에 더해지므로 중복 반영되지 않음)
+     *
+     * @param from 시작 일자 (포함)
+     * @param to 종료 일자 (포함)
+     * @return int 생성된 구간 수
+     * @throws IllegalArgumentException 기간이 잘못된 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("재집계 기간이 올바르지 않습니다.");
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        // 버퍼에 남은 증감분을 재집계 트랜잭션과 별개로 먼저 커밋
+        salesRollupBuffer.flush();
+        Integer created = transactionTemplate.execute(status -> rebuildBuckets(start, end));
+        log.info("Rebuilt sales rollups - from: {}, to: {}, created: {}", from, to, created);
+        return created != null ? created : 0;
+    }
+
+    // 기간의 구간 행을 삭제하고, 판매 집계에 반영된 주문 이벤트 기준으로 다시 계산하여 추가
+    private int rebuildBuckets(LocalDateTime start, LocalDateTime end) {
+        Map<String, Set<String>> unappliedEvents = new HashMap<>();
+        for (Object[] row : outboxConsumerLog.findUnconsumedSince(SalesRollupBuffer.CONSUMER, ROLLUP_EVENT_TYPES, start)) {
+            if (row[0] != null) {
+                unappliedEvents.computeIfAbsent((String) row[0], key -> new HashSet<>()).add((String) row[1]);
+            }
+        }
+        int deleted = salesRollupRepository.deleteBucketsBetween(start, end);
+
+        Map<BucketKey, Delta> buckets = new HashMap<>();
+        try (Stream<Object[]> lines = orderItemRepository.streamSalesLines(start, end)) {
+            lines.forEach(row -> {
+                Long productId = (Long) row[0];
+                Long categoryId = (Long) row[1];
+                int quantity = (Integer) row[2];
+                BigDecimal amount = ((BigDecimal) row[3]).multiply(BigDecimal.valueOf(quantity));
+                LocalDateTime orderedAt = (LocalDateTime) row[4];
+                OrderStatus status = (OrderStatus) row[5];
+                Set<String> unapplied = unappliedEvents.getOrDefault((String) row[6], Set.of());
+
+                // 버퍼가 이미 반영한 이벤트의 효과만 계산 (생성 +, 취소 -, 구매확정은 확정 수량)
+                boolean createdApplied = !unapplied.contains(OrderCreatedEvent.class.getName());
+                boolean cancelledApplied = status == OrderStatus.CANCELLED
+                        && !unapplied.contains(OrderCancelledEvent.class.getName());
+                boolean confirmedApplied = status == OrderStatus.COMPLETED
+                        && !unapplied.contains(OrderConfirmedEvent.class.getName());
+                int sign = (createdApplied ? 1 : 0) - (cancelledApplied ? 1 : 0);
+                Delta delta = new Delta((long) sign * quantity, amount.multiply(BigDecimal.valueOf(sign)),
+                        confirmedApplied ? quantity : 0L);
+                if (delta.isZero()) {
+                    return;
+                }
+                accumulate(buckets, Dimension.PRODUCT, productId, orderedAt, delta);
+                if (categoryId != null) {
+                    accumulate(buckets, Dimension.CATEGORY, categoryId, orderedAt, delta);
+                }
+            });
+        }
+        salesRollupBuffer.insertAll(buckets);
+        log.debug("Rebuilt sales rollup buckets - deleted: {}, unapplied orders: {}", deleted, unappliedEvents.size());
+        return buckets.size();
+    }
+
+    private List<SalesSummaryResponse> getSales(Dimension dimension, LocalDateTime from, LocalDateTime to, int limit) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 기간이 올바르지 않습니다.");
+        }
+        if (limit < 1 || limit > 1000) {
+            throw new IllegalArgumentException("조회 건수는 1~1000 사이여야 합니다.");
+        }
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.HOURS).equals(to) ? to : to.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+
+        // 하루 전체가 포함된 구간은 일 단위로, 나머지 양 끝은 시간 단위로 합산
+        LocalDateTime firstFullDay = start.truncatedTo(ChronoUnit.DAYS).equals(start)
+                ? start : start.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+        LocalDateTime lastFullDayEnd = end.truncatedTo(ChronoUnit.DAYS);
+
+        Map<Long, Delta> totals = new HashMap<>();
+        if (firstFullDay.isBefore(lastFullDayEnd)) {
+            merge(totals, salesRollupRepository.sumByDimension(Granularity.DAY, dimension, firstFullDay, lastFullDayEnd));
+            if (start.isBefore(firstFullDay)) {
+                merge(totals, salesRollupRepository.sumByDimension(Granularity.HOUR, dimension, start, firstFullDay));
+            }
+            if (lastFullDayEnd.isBefore(end)) {
+                merge(totals, salesRollupRepository.sumByDimension(Granularity.HOUR, dimension, lastFullDayEnd, end));
+            }
+        } else {
+            merge(totals, salesRollupRepository.sumByDimension(Granularity.HOUR, dimension, start, end));
+        }
+
+        return totals.entrySet().stream()
+                .map(entry -> new SalesSummaryResponse(entry.getKey(), entry.getValue().quantity(),
+                        entry.getValue().revenue(), entry.getValue().completedQuantity()))
+                .sorted(Comparator.comparingLong(SalesSummaryResponse::getQuantity).reversed()
+                        .thenComparing(SalesSummaryResponse::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static void merge(Map<Long, Delta> totals, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            Delta delta = new Delta(((Number) row[1]).longValue(),
+                    row[2] != null ? (BigDecimal) row[2] : BigDecimal.ZERO,
+                    ((Number) row[3]).longValue());
+            totals.merge((Long) row[0], delta, Delta::plus);
+        }
+    }
+
+    private static void accumulate(Map<BucketKey, Delta> buckets, Dimension dimension, Long dimensionId,
+                                   LocalDateTime orderedAt, Delta delta) {
+        buckets.merge(new BucketKey(Granularity.HOUR, dimension, orderedAt.truncatedTo(ChronoUnit.HOURS), dimensionId),
+                delta, Delta::plus);
+        buckets.merge(new BucketKey(Granularity.DAY, dimension, orderedAt.truncatedTo(ChronoUnit.DAYS), dimensionId),
+                delta, Delta::plus);
+    }
+}
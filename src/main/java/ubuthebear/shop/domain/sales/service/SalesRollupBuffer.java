@@ -0,0 +1,273 @@
+package ubuthebear.shop.domain.sales.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.order.event.OrderCancelledEvent;
+import ubuthebear.shop.domain.order.event.OrderConfirmedEvent;
+import ubuthebear.shop.domain.order.event.OrderCreatedEvent;
+import ubuthebear.shop.domain.order.event.OrderLine;
+import ubuthebear.shop.domain.sales.entity.SalesRollup.Dimension;
+import ubuthebear.shop.domain.sales.entity.SalesRollup.Granularity;
+import ubuthebear.shop.global.outbox.OutboxConsumerLog;
+import ubuthebear.shop.global.outbox.OutboxMessage;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 주문 판매 실적을 메모리에 누적했다가 주기적으로 판매 집계 구간(sales_rollups)에 반영하는 쓰기 지연 버퍼
+ * 주문마다 집계 행을 갱신하면 인기 상품의 같은 구간 행에 잠금이 몰리므로,
+ * 구간별 증감분만 모아 두었다가 "quantity = quantity + ?" 형태의 UPDATE로 한 번에 반영
+ * (구간 행이 아직 없으면 INSERT)
+ *
+ * 주문 상품 하나는 상품/카테고리 x 시간/일 단위 최대 4개 구간에 반영됨
+ * 증감분을 DB 값에 더하는 방식이므로 여러 서버가 동시에 반영해도 갱신 손실이 없고,
+ * 반영에 실패한 증감분은 버퍼로 되돌려 다음 주기에 다시 시도
+ *
+ * 주문 이벤트는 아웃박스 릴레이를 거쳐 최소 한 번 전달되므로, 누적한 이벤트의 아웃박스 ID를 함께 모아 두고
+ * 증감분과 같은 트랜잭션에 처리 기록을 남김 (이미 누적했거나 기록이 있는 이벤트는 다시 누적하지 않음)
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see ubuthebear.shop.global.outbox.OutboxRelay
+ * @see SalesAnalyticsService
+ */
+@Slf4j
+@Component
+public class SalesRollupBuffer {
+
+    private static final String UPDATE_SQL = "UPDATE sales_rollups " +
+            "SET quantity = quantity + ?, revenue = revenue + ?, completed_quantity = completed_quantity + ? " +
+            "WHERE granularity = ? AND dimension = ? AND bucket_start = ? AND dimension_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO sales_rollups " +
+            "(granularity, dimension, bucket_start, dimension_id, quantity, revenue, completed_quantity) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    /**
+     * 아웃박스 이벤트 처리 기록에 남기는 리스너 이름
+     */
+    static final String CONSUMER = "sales-rollup";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxConsumerLog outboxConsumerLog;
+
+    /**
+     * 미반영 증감분 (아웃박스 이벤트별 구간 증감분과, 아웃박스를 거치지 않은 이벤트의 구간별 증감분)
+     * 이벤트별로 나누어 두었다가 반영 트랜잭션에서 다른 서버가 이미 반영한 이벤트를 제외하고 합산
+     * 반영 중인 이벤트 ID는 커밋될 때까지 flushingEventIds에 남겨 그 사이 다시 전달된 이벤트를 걸러냄
+     */
+    private final Object lock = new Object();
+    private final Map<Long, Map<BucketKey, Delta>> pendingByEvent = new LinkedHashMap<>();
+    private final Map<BucketKey, Delta> pending = new HashMap<>();
+    private final Set<Long> flushingEventIds = new HashSet<>();
+
+    public SalesRollupBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                             OutboxConsumerLog outboxConsumerLog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxConsumerLog = outboxConsumerLog;
+    }
+
+    /**
+     * 집계 구간 식별자
+     */
+    record BucketKey(Granularity granularity, Dimension dimension, LocalDateTime bucketStart, long dimensionId) {
+    }
+
+    /**
+     * 구간별 증감분
+     */
+    record Delta(long quantity, BigDecimal revenue, long completedQuantity) {
+        Delta plus(Delta other) {
+            return new Delta(quantity + other.quantity, revenue.add(other.revenue),
+                    completedQuantity + other.completedQuantity);
+        }
+
+        boolean isZero() {
+            return quantity == 0 && revenue.signum() == 0 && completedQuantity == 0;
+        }
+    }
+
+    /**
+     * 주문 생성으로 늘어난 판매 수량/금액을 누적
+     *
+     * @param event 주문 생성 이벤트
+     */
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        accumulate(event, event.getOrderedAt(), event.getLines(),
+                line -> new Delta(line.getQuantity(), line.getAmount(), 0L));
+    }
+
+    /**
+     * 주문 취소로 줄어든 판매 수량/금액을 누적
+     *
+     * @param event 주문 취소 이벤트
+     */
+    @EventListener
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        accumulate(event, event.getOrderedAt(), event.getLines(),
+                line -> new Delta(-line.getQuantity(), line.getAmount().negate(), 0L));
+    }
+
+    /**
+     * 구매확정으로 늘어난 확정 수량을 누적
+     *
+     * @param event 구매확정 이벤트
+     */
+    @EventListener
+    public void onOrderConfirmed(OrderConfirmedEvent event) {
+        accumulate(event, event.getOrderedAt(), event.getLines(),
+                line -> new Delta(0L, BigDecimal.ZERO, line.getQuantity()));
+    }
+
+    // 주문 상품별 증감분을 주문 생성 시각이 속한 시간/일 구간에 누적 (이미 누적했거나 반영한 이벤트는 건너뜀)
+    private void accumulate(OutboxMessage event, LocalDateTime orderedAt, List<OrderLine> lines,
+                            Function<OrderLine, Delta> toDelta) {
+        Long eventId = event.getOutboxEventId();
+        synchronized (lock) {
+            Map<BucketKey, Delta> target = pending;
+            if (eventId != null) {
+                if (pendingByEvent.containsKey(eventId) || flushingEventIds.contains(eventId)
+                        || outboxConsumerLog.isConsumed(eventId, CONSUMER)) {
+                    log.debug("Sales rollup event already accumulated - eventId: {}", eventId);
+                    return;
+                }
+                target = new HashMap<>();
+                pendingByEvent.put(eventId, target);
+            }
+            LocalDateTime hour = orderedAt.truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime day = orderedAt.truncatedTo(ChronoUnit.DAYS);
+            for (OrderLine line : lines) {
+                Delta delta = toDelta.apply(line);
+                add(target, Dimension.PRODUCT, line.getProductId(), hour, day, delta);
+                if (line.getCategoryId() != null) {
+                    add(target, Dimension.CATEGORY, line.getCategoryId(), hour, day, delta);
+                }
+            }
+        }
+    }
+
+    /**
+     * 누적된 증감분을 집계 구간에 반영
+     * 증감분과 이벤트 처리 기록을 한 트랜잭션으로 저장하여, 실패하면 둘 다 버퍼로 되돌려 다음 주기에 다시 시도
+     * 다른 서버가 같은 이벤트를 먼저 반영했으면(점유 만료로 다시 발행된 경우 등) 그 이벤트의 증감분은 버림
+     * 기본 10초 간격으로 실행되며, shop.sales.rollup.flush-interval-ms 속성으로 조정 가능
+     */
+    @Scheduled(fixedDelayString = "${shop.sales.rollup.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<Long, Map<BucketKey, Delta>> drainedByEvent;
+        Map<BucketKey, Delta> drained;
+        synchronized (lock) {
+            drainedByEvent = new LinkedHashMap<>(pendingByEvent);
+            drained = new HashMap<>(pending);
+            pendingByEvent.clear();
+            pending.clear();
+            flushingEventIds.addAll(drainedByEvent.keySet());
+        }
+        if (drainedByEvent.isEmpty() && drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            Integer buckets = transactionTemplate.execute(status -> {
+                Set<Long> consumed = outboxConsumerLog.findConsumed(drainedByEvent.keySet(), CONSUMER);
+                Map<BucketKey, Delta> merged = new HashMap<>(drained);
+                List<Long> applied = new ArrayList<>();
+                drainedByEvent.forEach((eventId, deltas) -> {
+                    if (consumed.contains(eventId)) {
+                        return;
+                    }
+                    deltas.forEach((key, delta) -> merged.merge(key, delta, Delta::plus));
+                    applied.add(eventId);
+                });
+                merged.forEach((key, delta) -> {
+                    if (!delta.isZero()) {
+                        upsert(key, delta);
+                    }
+                });
+                if (!applied.isEmpty()) {
+                    outboxConsumerLog.markAllConsumed(applied, CONSUMER);
+                }
+                return merged.size();
+            });
+            synchronized (lock) {
+                flushingEventIds.removeAll(drainedByEvent.keySet());
+            }
+            log.debug("Flushed sales rollups - buckets: {}, events: {}", buckets, drainedByEvent.size());
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Failed to flush sales rollups - events: {}, error: {}", drainedByEvent.size(), e.getMessage());
+            synchronized (lock) {
+                flushingEventIds.removeAll(drainedByEvent.keySet());
+                pendingByEvent.putAll(drainedByEvent);
+                drained.forEach((key, delta) -> pending.merge(key, delta, Delta::plus));
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증감분을 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 재집계된 구간 행을 배치 INSERT로 추가 (기존 구간 행을 삭제한 트랜잭션 안에서 호출)
+     *
+     * @param buckets 구간별 집계 값
+     */
+    void insertAll(Map<BucketKey, Delta> buckets) {
+        List<Object[]> rows = new ArrayList<>(buckets.size());
+        buckets.forEach((key, delta) -> rows.add(new Object[]{key.granularity().name(), key.dimension().name(),
+                key.bucketStart(), key.dimensionId(), delta.quantity(), delta.revenue(), delta.completedQuantity()}));
+        for (int from = 0; from < rows.size(); from += FLUSH_CHUNK_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, rows.size())));
+        }
+    }
+
+    private static void add(Map<BucketKey, Delta> target, Dimension dimension, Long dimensionId,
+                            LocalDateTime hour, LocalDateTime day, Delta delta) {
+        target.merge(new BucketKey(Granularity.HOUR, dimension, hour, dimensionId), delta, Delta::plus);
+        target.merge(new BucketKey(Granularity.DAY, dimension, day, dimensionId), delta, Delta::plus);
+    }
+
+    // 구간 행이 있으면 증감분을 더하고, 없으면 새로 추가 (다른 서버가 먼저 추가한 경우 다시 UPDATE)
+    private void upsert(BucketKey key, Delta delta) {
+        if (update(key, delta) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, key.granularity().name(), key.dimension().name(), key.bucketStart(),
+                    key.dimensionId(), delta.quantity(), delta.revenue(), delta.completedQuantity());
+        } catch (DuplicateKeyException e) {
+            update(key, delta);
+        }
+    }
+
+    private int update(BucketKey key, Delta delta) {
+        return jdbcTemplate.update(UPDATE_SQL, delta.quantity(), delta.revenue(), delta.completedQuantity(),
+                key.granularity().name(), key.dimension().name(), key.bucketStart(), key.dimensionId());
+    }
+}
@@ -6,12 +6,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ubuthebear.shop.domain.order.entity.Order;
 import ubuthebear.shop.domain.order.entity.OrderStatus;
+import ubuthebear.shop.domain.order.event.OrderShippedEvent;
 import ubuthebear.shop.domain.order.repository.OrderRepository;
 import ubuthebear.shop.domain.shipping.dto.ShippingRequest;
 import ubuthebear.shop.domain.shipping.dto.ShippingResponse;
 import ubuthebear.shop.domain.shipping.entity.Shipping;
 import ubuthebear.shop.domain.shipping.entity.ShippingStatus;
 import ubuthebear.shop.domain.shipping.repository.ShippingRepository;
+import ubuthebear.shop.global.outbox.OutboxWriter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,10 +32,12 @@ import java.util.stream.Collectors;
 public class ShippingService {
     private final ShippingRepository shippingRepository;
     private final OrderRepository orderRepository;
+    private final OutboxWriter outboxWriter;
 
     /**
      * 새로운 배송 정보를 생성 (관리자 전용)
      * 주문 정보를 확인하고 배송 정보를 등록
+     * 발송 알림 등 후속 처리를 위해 주문 발송 이벤트를 같은 트랜잭션에서 아웃박스에 기록
      *
      * @param orderId 배송을 생성할 주문 ID
      * @param request 배송 생성 요청 정보
@@ -61,7 +65,9 @@ public class ShippingService {
 
         order.setStatus(OrderStatus.SHIPPING);
 
-        return new ShippingResponse(shippingRepository.save(shipping));
+        Shipping savedShipping = shippingRepository.save(shipping);
+        outboxWriter.append(order.getOrderNumber(), OrderShippedEvent.of(savedShipping));
+        return new ShippingResponse(savedShipping);
     }
 
     /**
@@ -0,0 +1,17 @@
+package ubuthebear.shop.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 실행 설정
+ * 아웃박스 릴레이, 포인트 정산, 조회수/판매 집계 반영, 결제 복구/만료 등의 주기 작업을 활성화
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size 속성으로 지정
+ *
+ * @author ubuthebear
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
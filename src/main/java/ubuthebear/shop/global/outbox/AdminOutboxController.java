@@ -0,0 +1,45 @@
+package ubuthebear.shop.global.outbox;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 관리자용 아웃박스 이벤트 조회/재시도 API를 제공하는 컨트롤러
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxAdminService
+ */
+@Tag(name = "Admin Outbox", description = "관리자용 아웃박스 이벤트 API")
+@RestController
+@RequestMapping("/api/admin/outbox/events")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class AdminOutboxController {
+
+    private final OutboxAdminService outboxAdminService;
+
+    @Operation(summary = "아웃박스 이벤트 조회",
+            description = "상태별 아웃박스 이벤트를 최근 순으로 조회합니다. 기본값은 발행이 중단된 FAILED 이벤트입니다.")
+    @GetMapping
+    public ResponseEntity<Page<OutboxEventResponse>> getEvents(
+            @RequestParam(required = false, defaultValue = "FAILED") OutboxEvent.Status status,
+            @RequestParam(required = false, defaultValue = "0") int page,
+            @RequestParam(required = false, defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(outboxAdminService.getEvents(status, PageRequest.of(page, size)));
+    }
+
+    @Operation(summary = "아웃박스 이벤트 재시도",
+            description = "FAILED 이벤트의 실패 횟수를 초기화하고 다시 발행 대기로 돌립니다.")
+    @PostMapping("/{id}/retry")
+    public ResponseEntity<OutboxEventResponse> retry(@PathVariable Long id) {
+        return ResponseEntity.ok(outboxAdminService.retry(id));
+    }
+}
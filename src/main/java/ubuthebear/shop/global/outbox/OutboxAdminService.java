@@ -0,0 +1,63 @@
+package ubuthebear.shop.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 발행이 중단된 아웃박스 이벤트를 관리자가 확인하고 다시 발행 대기로 돌리는 서비스
+ * FAILED 이벤트가 남아 있으면 같은 대상(주문 등)의 뒤 이벤트도 발행이 보류되므로,
+ * 원인을 해결한 뒤 재시도해야 포인트 환불 등 후속 처리가 이어짐
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxRelay
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OutboxAdminService {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * 특정 상태의 아웃박스 이벤트를 최근 순으로 조회
+     *
+     * @param status 이벤트 상태
+     * @param pageable 페이지 정보
+     * @return Page<OutboxEventResponse> 이벤트 페이지
+     */
+    public Page<OutboxEventResponse> getEvents(OutboxEvent.Status status, Pageable pageable) {
+        return outboxEventRepository.findByStatusOrderByIdDesc(status, pageable)
+                .map(OutboxEventResponse::from);
+    }
+
+    /**
+     * FAILED 이벤트를 실패 횟수를 초기화하여 다시 발행 대기로 변경
+     *
+     * @param eventId 아웃박스 이벤트 ID
+     * @return OutboxEventResponse 변경된 이벤트
+     * @throws ResponseStatusException 이벤트가 없거나(404) FAILED 상태가 아닌 경우(409)
+     */
+    @Transactional
+    public OutboxEventResponse retry(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Outbox event not found"));
+        if (event.getStatus() != OutboxEvent.Status.FAILED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Only FAILED outbox events can be retried");
+        }
+        event.setStatus(OutboxEvent.Status.PENDING);
+        event.setAttempts(0);
+        event.setNextAttemptAt(null);
+        event.setClaimedBy(null);
+        event.setClaimedUntil(null);
+        log.info("Outbox event requeued - id: {}, type: {}", event.getId(), event.getEventType());
+        return OutboxEventResponse.from(event);
+    }
+}
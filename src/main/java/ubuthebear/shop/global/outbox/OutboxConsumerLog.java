@@ -0,0 +1,116 @@
+package ubuthebear.shop.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 리스너별 아웃박스 이벤트 처리 여부를 기록하고 확인하는 컴포넌트
+ * 리스너는 이벤트의 효과를 반영하는 트랜잭션 안에서 {@link #markConsumed(OutboxMessage, String)}를 호출하고,
+ * false가 반환되면 이미 반영한 이벤트이므로 처리를 건너뜀
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxConsumption
+ * @see OutboxMessage
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxConsumerLog {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private final OutboxConsumptionRepository outboxConsumptionRepository;
+
+    /**
+     * 리스너의 이벤트 처리를 기록 (리스너의 트랜잭션 안에서 호출해야 함)
+     * 아웃박스를 거치지 않은 이벤트(ID 없음)는 기록하지 않고 처리 대상으로 봄
+     *
+     * @param message 처리할 이벤트
+     * @param consumer 리스너 이름
+     * @return boolean 이번에 처음 처리하는 경우 true, 이미 처리한 경우 false
+     * @throws org.springframework.transaction.IllegalTransactionStateException 진행 중인 트랜잭션이 없는 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean markConsumed(OutboxMessage message, String consumer) {
+        Long eventId = message.getOutboxEventId();
+        if (eventId == null) {
+            return true;
+        }
+        if (outboxConsumptionRepository.existsByEventIdAndConsumer(eventId, consumer)) {
+            return false;
+        }
+        outboxConsumptionRepository.save(new OutboxConsumption(eventId, consumer, LocalDateTime.now()));
+        return true;
+    }
+
+    /**
+     * 메모리에 모아 두었다가 한꺼번에 반영하는 리스너의 처리 기록을 일괄 저장 (반영 트랜잭션 안에서 호출해야 함)
+     *
+     * @param eventIds 반영한 아웃박스 이벤트 ID 목록
+     * @param consumer 리스너 이름
+     * @throws org.springframework.transaction.IllegalTransactionStateException 진행 중인 트랜잭션이 없는 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markAllConsumed(Collection<Long> eventIds, String consumer) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxConsumption> consumptions = eventIds.stream()
+                .map(eventId -> new OutboxConsumption(eventId, consumer, now))
+                .collect(Collectors.toList());
+        outboxConsumptionRepository.saveAll(consumptions);
+    }
+
+    /**
+     * 리스너가 이벤트를 이미 처리했는지 확인
+     *
+     * @param eventId 아웃박스 이벤트 ID (null이면 false)
+     * @param consumer 리스너 이름
+     * @return boolean 처리 기록 존재 여부
+     */
+    @Transactional(readOnly = true)
+    public boolean isConsumed(Long eventId, String consumer) {
+        return eventId != null && outboxConsumptionRepository.existsByEventIdAndConsumer(eventId, consumer);
+    }
+
+    /**
+     * 이벤트 목록 중 리스너가 이미 처리한 이벤트의 ID를 조회
+     *
+     * @param eventIds 확인할 아웃박스 이벤트 ID 목록
+     * @param consumer 리스너 이름
+     * @return Set<Long> 처리 기록이 있는 이벤트 ID
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findConsumed(Collection<Long> eventIds, String consumer) {
+        Set<Long> consumed = new HashSet<>();
+        List<Long> ids = new ArrayList<>(eventIds);
+        for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+            consumed.addAll(outboxConsumptionRepository.findConsumedEventIds(
+                    ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size())), consumer));
+        }
+        return consumed;
+    }
+
+    /**
+     * 특정 시각 이후 기록된 이벤트 중 리스너가 아직 처리하지 않은 이벤트의 대상 식별자와 타입을 조회
+     * 보관 기간이 지나 삭제된 이벤트는 처리된 것으로 봄
+     *
+     * @param consumer 리스너 이름
+     * @param eventTypes 조회할 이벤트 타입 목록
+     * @param since 이 시각 이후 기록된 이벤트만 조회
+     * @return List<Object[]> [aggregateId, eventType(클래스 이름)] 배열 목록
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> findUnconsumedSince(String consumer, Collection<Class<?>> eventTypes, LocalDateTime since) {
+        return outboxConsumptionRepository.findUnconsumedSince(consumer,
+                eventTypes.stream().map(Class::getName).collect(Collectors.toList()), since);
+    }
+}
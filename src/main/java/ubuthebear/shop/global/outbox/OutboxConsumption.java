@@ -0,0 +1,54 @@
+package ubuthebear.shop.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리스너(소비자)별 아웃박스 이벤트 처리 기록 엔티티 클래스
+ * 리스너가 이벤트의 효과를 반영하는 트랜잭션 안에서 함께 저장하므로,
+ * 기록이 있으면 해당 리스너는 그 이벤트를 이미 반영한 것으로 봄
+ *
+ * 이벤트 하나를 여러 리스너가 받으므로, 한 리스너가 실패하여 이벤트가 다시 발행되어도
+ * 이미 성공한 리스너는 이 기록으로 중복 반영을 건너뜀
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxConsumerLog
+ */
+@Entity
+@Table(name = "outbox_consumptions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_consumptions_event_consumer",
+                columnNames = {"event_id", "consumer"}))
+@Getter @Setter
+@NoArgsConstructor
+public class OutboxConsumption {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 처리한 아웃박스 이벤트 ID
+     */
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    /**
+     * 리스너 이름
+     */
+    @Column(nullable = false, length = 50)
+    private String consumer;
+
+    @Column(nullable = false)
+    private LocalDateTime consumedAt;
+
+    public OutboxConsumption(Long eventId, String consumer, LocalDateTime consumedAt) {
+        this.eventId = eventId;
+        this.consumer = consumer;
+        this.consumedAt = consumedAt;
+    }
+}
@@ -0,0 +1,68 @@
+package ubuthebear.shop.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 처리 기록 데이터 접근을 위한 리포지토리 인터페이스
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxConsumption
+ */
+@Repository
+public interface OutboxConsumptionRepository extends JpaRepository<OutboxConsumption, Long> {
+
+    /**
+     * 리스너가 이벤트를 이미 처리했는지 확인
+     *
+     * @param eventId 아웃박스 이벤트 ID
+     * @param consumer 리스너 이름
+     * @return boolean 처리 기록 존재 여부
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    boolean existsByEventIdAndConsumer(Long eventId, String consumer);
+
+    /**
+     * 이벤트 목록 중 리스너가 이미 처리한 이벤트의 ID를 조회
+     *
+     * @param eventIds 확인할 아웃박스 이벤트 ID 목록
+     * @param consumer 리스너 이름
+     * @return List<Long> 처리 기록이 있는 이벤트 ID 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT c.eventId FROM OutboxConsumption c WHERE c.consumer = :consumer AND c.eventId IN :eventIds")
+    List<Long> findConsumedEventIds(Collection<Long> eventIds, String consumer);
+
+    /**
+     * 특정 시각 이후 기록된 이벤트 중 리스너가 아직 처리하지 않은 이벤트의 대상 식별자와 타입을 조회
+     *
+     * @param consumer 리스너 이름
+     * @param eventTypes 조회할 이벤트 클래스 이름 목록
+     * @param since 이 시각 이후 기록된 이벤트만 조회
+     * @return List<Object[]> [aggregateId, eventType] 배열 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT e.aggregateId, e.eventType FROM OutboxEvent e " +
+            "WHERE e.eventType IN :eventTypes AND e.createdAt >= :since AND NOT EXISTS " +
+            "(SELECT c.id FROM OutboxConsumption c WHERE c.eventId = e.id AND c.consumer = :consumer)")
+    List<Object[]> findUnconsumedSince(String consumer, Collection<String> eventTypes, LocalDateTime since);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트의 처리 기록을 삭제 (이벤트 삭제 전에 호출)
+     *
+     * @param before 이 시각 이전에 발행된 이벤트의 기록을 삭제
+     * @return int 삭제된 행 수
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxConsumption c WHERE c.eventId IN (SELECT e.id FROM OutboxEvent e " +
+            "WHERE e.status = ubuthebear.shop.global.outbox.OutboxEvent.Status.PUBLISHED AND e.publishedAt < :before)")
+    int deleteOfEventsPublishedBefore(LocalDateTime before);
+}
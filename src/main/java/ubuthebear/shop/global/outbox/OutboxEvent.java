@@ -0,0 +1,101 @@
+package ubuthebear.shop.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스에 기록되는 도메인 이벤트 엔티티 클래스
+ * 이벤트를 발생시킨 비즈니스 데이터와 같은 트랜잭션으로 저장되므로,
+ * 트랜잭션이 커밋되면 이벤트도 반드시 남고 롤백되면 함께 사라짐
+ *
+ * 저장된 이벤트는 {@link OutboxRelay}가 ID 순서대로 읽어 애플리케이션 이벤트로 발행한 뒤 발행 완료로 표시
+ * 같은 대상(aggregateId)의 이벤트는 앞선 이벤트가 발행 완료되어야 다음 이벤트가 발행됨
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxWriter
+ * @see OutboxRelay
+ */
+@Entity
+@Table(name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_status_id", columnList = "status, id"),
+                @Index(name = "idx_outbox_events_aggregate_id", columnList = "aggregate_id, id")
+        })
+@Getter @Setter
+@NoArgsConstructor
+public class OutboxEvent {
+
+    /**
+     * 이벤트 발행 상태
+     */
+    public enum Status {
+        PENDING,    // 발행 대기
+        PUBLISHED,  // 발행 완료
+        FAILED      // 최대 재시도 횟수 초과로 발행 중단
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 이벤트 클래스의 전체 이름 (발행 시 역직렬화 대상 타입)
+     */
+    @Column(nullable = false, length = 200)
+    private String eventType;
+
+    /**
+     * 이벤트가 발생한 대상 식별자 (주문번호 등, 조회/추적용)
+     */
+    @Column(name = "aggregate_id", length = 100)
+    private String aggregateId;
+
+    /**
+     * JSON으로 직렬화된 이벤트 본문
+     */
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    /**
+     * 발행 실패 횟수
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * 마지막 발행 실패 사유
+     */
+    @Column(length = 500)
+    private String lastError;
+
+    /**
+     * 다음 발행 시도 가능 일시 (발행 실패 시 지수 백오프로 설정, null이면 즉시 발행 대상)
+     */
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 발행을 위해 이벤트를 점유한 릴레이의 점유 토큰 (묶음마다 새로 발급)
+     */
+    @Column(length = 36)
+    private String claimedBy;
+
+    /**
+     * 점유 만료 일시 (이 시각이 지나면 다른 릴레이가 다시 점유할 수 있음)
+     */
+    private LocalDateTime claimedUntil;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,103 @@
+package ubuthebear.shop.global.outbox;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 데이터 접근을 위한 리포지토리 인터페이스
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxEvent
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 지금 발행할 수 있는 대기 이벤트를 기록된 순서(ID 오름차순)대로 조회
+     * 재시도 대기 시각이 지나지 않았거나 다른 릴레이가 점유 중인 이벤트와, 같은 대상(aggregateId)에 아직 발행 완료되지 않은
+     * 앞선 이벤트(대기 또는 실패)가 있는 이벤트는 제외하여 대상별 이벤트 순서를 유지
+     *
+     * @param now 현재 시각
+     * @param pageable 조회 건수
+     * @return List<OutboxEvent> 이벤트 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = ubuthebear.shop.global.outbox.OutboxEvent.Status.PENDING " +
+            "AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now) " +
+            "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now) " +
+            "AND NOT EXISTS (SELECT p.id FROM OutboxEvent p WHERE p.aggregateId = e.aggregateId AND p.id < e.id " +
+            "AND p.status <> ubuthebear.shop.global.outbox.OutboxEvent.Status.PUBLISHED) " +
+            "ORDER BY e.id ASC")
+    List<OutboxEvent> findRelayable(LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발행 대기 이벤트를 점유 (다른 릴레이가 점유 중이거나 이미 발행된 이벤트는 변경되지 않음)
+     * 조건부 UPDATE이므로 여러 릴레이가 같은 이벤트를 동시에 점유하려 해도 한 곳만 성공
+     *
+     * @param ids 점유할 이벤트 ID 목록
+     * @param claimToken 이번 묶음의 점유 토큰
+     * @param claimedUntil 점유 만료 일시
+     * @param now 현재 시각
+     * @return int 점유한 이벤트 수
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = :claimToken, e.claimedUntil = :claimedUntil " +
+            "WHERE e.id IN :ids AND e.status = ubuthebear.shop.global.outbox.OutboxEvent.Status.PENDING " +
+            "AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)")
+    int claim(Collection<Long> ids, String claimToken, LocalDateTime claimedUntil, LocalDateTime now);
+
+    /**
+     * 점유 토큰으로 점유한 이벤트를 ID 오름차순으로 조회
+     *
+     * @param claimToken 점유 토큰
+     * @return List<OutboxEvent> 점유한 이벤트 목록
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    List<OutboxEvent> findByClaimedByOrderByIdAsc(String claimToken);
+
+    /**
+     * 특정 상태의 이벤트를 최근 기록 순서(ID 내림차순)대로 조회
+     *
+     * @param status 이벤트 상태
+     * @param pageable 페이지 정보
+     * @return Page<OutboxEvent> 이벤트 페이지
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    Page<OutboxEvent> findByStatusOrderByIdDesc(OutboxEvent.Status status, Pageable pageable);
+
+    /**
+     * 발행한 이벤트들을 한 번의 UPDATE로 발행 완료 처리하고 점유를 해제
+     *
+     * @param ids 발행한 이벤트 ID 목록
+     * @param publishedAt 발행 일시
+     * @return int 변경된 행 수
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = ubuthebear.shop.global.outbox.OutboxEvent.Status.PUBLISHED, " +
+            "e.publishedAt = :publishedAt, e.claimedBy = NULL, e.claimedUntil = NULL WHERE e.id IN :ids " +
+            "AND e.status = ubuthebear.shop.global.outbox.OutboxEvent.Status.PENDING")
+    int markPublished(Collection<Long> ids, LocalDateTime publishedAt);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 삭제
+     *
+     * @param before 이 시각 이전에 발행된 이벤트를 삭제
+     * @return int 삭제된 행 수
+     * @throws org.springframework.dao.DataAccessException 데이터베이스 접근 중 오류 발생 시
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = ubuthebear.shop.global.outbox.OutboxEvent.Status.PUBLISHED " +
+            "AND e.publishedAt < :before")
+    int deletePublishedBefore(LocalDateTime before);
+}
@@ -0,0 +1,32 @@
+package ubuthebear.shop.global.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자용 아웃박스 이벤트 응답 DTO
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxEvent
+ */
+@Getter
+@AllArgsConstructor
+public class OutboxEventResponse {
+    private final Long id;                      // 아웃박스 이벤트 ID
+    private final String eventType;             // 이벤트 클래스 이름
+    private final String aggregateId;           // 대상 식별자 (주문번호 등)
+    private final String status;                // 발행 상태 (PENDING, PUBLISHED, FAILED)
+    private final int attempts;                 // 발행 실패 횟수
+    private final String lastError;             // 마지막 발행 실패 사유
+    private final LocalDateTime nextAttemptAt;  // 다음 발행 시도 가능 일시
+    private final LocalDateTime createdAt;      // 기록 일시
+
+    public static OutboxEventResponse from(OutboxEvent event) {
+        return new OutboxEventResponse(event.getId(), event.getEventType(), event.getAggregateId(),
+                event.getStatus().name(), event.getAttempts(), event.getLastError(),
+                event.getNextAttemptAt(), event.getCreatedAt());
+    }
+}
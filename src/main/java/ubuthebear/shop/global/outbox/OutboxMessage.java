@@ -0,0 +1,32 @@
+package ubuthebear.shop.global.outbox;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 아웃박스를 거쳐 발행되는 이벤트의 기반 클래스
+ * 릴레이가 발행할 때 아웃박스 이벤트 ID를 채워 주므로, 리스너는 이 ID로 같은 이벤트의 중복 처리를 걸러낼 수 있음
+ * ID는 JSON 본문에 포함되지 않으며, 아웃박스를 거치지 않고 직접 발행된 경우 null
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxConsumerLog
+ */
+public abstract class OutboxMessage {
+
+    @JsonIgnore
+    private Long outboxEventId;
+
+    /**
+     * 이 이벤트를 발행한 아웃박스 이벤트 ID
+     *
+     * @return Long 아웃박스 이벤트 ID (아웃박스를 거치지 않은 경우 null)
+     */
+    @JsonIgnore
+    public Long getOutboxEventId() {
+        return outboxEventId;
+    }
+
+    void assignOutboxEventId(Long outboxEventId) {
+        this.outboxEventId = outboxEventId;
+    }
+}
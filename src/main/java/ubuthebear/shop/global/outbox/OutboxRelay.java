@@ -0,0 +1,206 @@
+package ubuthebear.shop.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 트랜잭션 아웃박스에 기록된 이벤트를 애플리케이션 이벤트로 발행하는 릴레이
+ * 발행 대기 이벤트를 ID 순서대로 일정 건수씩 읽어 로컬 리스너(@EventListener)에 전달하고,
+ * 전달에 성공한 이벤트들은 한 번의 UPDATE로 발행 완료 처리
+ *
+ * 리스너가 예외를 던지면 해당 이벤트의 실패 횟수를 기록하고 지수 백오프로 다음 시도 시각을 늦춤
+ * 같은 대상(aggregateId)의 뒤 이벤트는 앞 이벤트가 발행될 때까지 보류하고, 다른 대상의 이벤트는 계속 발행
+ * 최대 재시도 횟수를 넘긴 이벤트는 FAILED 상태로 남기며, 관리자가 확인 후 다시 발행 대기로 돌릴 수 있음
+ *
+ * 여러 서버가 함께 릴레이할 수 있도록, 발행 전에 이벤트를 조건부 UPDATE로 점유(claimedBy, claimedUntil)하고
+ * 점유에 성공한 이벤트만 발행함 (점유 기간이 지나도록 완료되지 않은 이벤트는 다른 서버가 다시 점유)
+ *
+ * 이벤트 하나를 여러 리스너가 받고 점유 만료나 한 리스너의 실패로 같은 이벤트가 다시 발행될 수 있으므로 (최소 한 번 전달),
+ * 발행할 때 이벤트에 아웃박스 ID를 채워 주고 리스너는 {@link OutboxConsumerLog}로 이미 반영한 이벤트를 건너뜀
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxWriter
+ * @see OutboxEvent
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String EVENT_PACKAGE_PREFIX = "ubuthebear.shop.";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxConsumptionRepository outboxConsumptionRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffInitialMs;
+    private final long backoffMaxMs;
+    private final long leaseSeconds;
+    private final long retentionHours;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxConsumptionRepository outboxConsumptionRepository,
+                       ObjectMapper objectMapper,
+                       ApplicationEventPublisher eventPublisher,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${shop.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${shop.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${shop.outbox.relay.max-attempts:15}") int maxAttempts,
+                       @Value("${shop.outbox.relay.backoff-initial-ms:1000}") long backoffInitialMs,
+                       @Value("${shop.outbox.relay.backoff-max-ms:1800000}") long backoffMaxMs,
+                       @Value("${shop.outbox.relay.lease-seconds:60}") long leaseSeconds,
+                       @Value("${shop.outbox.retention-hours:72}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxConsumptionRepository = outboxConsumptionRepository;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffInitialMs = backoffInitialMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.leaseSeconds = leaseSeconds;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * 발행 대기 이벤트를 주기적으로 발행
+     * 한 묶음을 가득 채워 처리하면 대기 이벤트가 남아 있을 수 있으므로 다음 묶음을 이어서 처리
+     * 기본 1초 간격으로 실행되며, shop.outbox.relay.interval-ms 속성으로 조정 가능
+     */
+    @Scheduled(fixedDelayString = "${shop.outbox.relay.interval-ms:1000}")
+    public void relayPending() {
+        if (!enabled) {
+            return;
+        }
+        int processed;
+        do {
+            processed = relayBatch();
+        } while (processed == batchSize);
+    }
+
+    /**
+     * 지금 발행할 수 있는 대기 이벤트 한 묶음을 점유하여 발행
+     * 발행에 실패한 이벤트는 실패를 기록하고 나머지 이벤트를 계속 발행
+     * (조회 단계에서 대상별로 가장 앞선 대기 이벤트만 가져오므로 같은 대상의 순서는 유지됨)
+     *
+     * @return int 이번 묶음에서 발행 대상으로 조회한 이벤트 수 (다른 서버가 먼저 점유한 이벤트 포함)
+     */
+    public synchronized int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidates = outboxEventRepository.findRelayable(now, PageRequest.of(0, batchSize)).stream()
+                .map(OutboxEvent::getId)
+                .collect(Collectors.toList());
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        // 다른 서버가 먼저 점유한 이벤트는 UPDATE 조건에서 빠지므로, 이번 점유 토큰으로 표시된 이벤트만 발행
+        String claimToken = UUID.randomUUID().toString();
+        List<OutboxEvent> events = transactionTemplate.execute(status -> {
+            outboxEventRepository.claim(candidates, claimToken, now.plusSeconds(leaseSeconds), now);
+            return outboxEventRepository.findByClaimedByOrderByIdAsc(claimToken);
+        });
+
+        List<Long> published = new ArrayList<>();
+        Map<OutboxEvent, RuntimeException> failures = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            try {
+                eventPublisher.publishEvent(deserialize(event));
+                published.add(event.getId());
+            } catch (RuntimeException e) {
+                failures.put(event, e);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!published.isEmpty()) {
+                outboxEventRepository.markPublished(published, LocalDateTime.now());
+            }
+            failures.forEach(this::recordFailure);
+        });
+        return candidates.size();
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트를 삭제
+     * 기본 1시간 간격으로 실행되며, shop.outbox.purge-interval-ms 속성으로 조정 가능
+     */
+    @Scheduled(fixedDelayString = "${shop.outbox.purge-interval-ms:3600000}")
+    public void purgePublished() {
+        LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(status -> {
+            outboxConsumptionRepository.deleteOfEventsPublishedBefore(before);
+            return outboxEventRepository.deletePublishedBefore(before);
+        });
+        if (deleted != null && deleted > 0) {
+            log.debug("Purged published outbox events - count: {}", deleted);
+        }
+    }
+
+    private Object deserialize(OutboxEvent event) {
+        if (!event.getEventType().startsWith(EVENT_PACKAGE_PREFIX)) {
+            throw new IllegalStateException("Unsupported outbox event type: " + event.getEventType());
+        }
+        try {
+            Object message = objectMapper.readValue(event.getPayload(), Class.forName(event.getEventType()));
+            if (message instanceof OutboxMessage outboxMessage) {
+                outboxMessage.assignOutboxEventId(event.getId());
+            }
+            return message;
+        } catch (ClassNotFoundException | java.io.IOException e) {
+            throw new IllegalStateException("Failed to deserialize outbox event: id=" + event.getId(), e);
+        }
+    }
+
+    private void recordFailure(OutboxEvent event, RuntimeException cause) {
+        OutboxEvent current = outboxEventRepository.findById(event.getId()).orElse(null);
+        if (current == null || current.getStatus() != OutboxEvent.Status.PENDING) {
+            return;
+        }
+        current.setClaimedBy(null);
+        current.setClaimedUntil(null);
+        current.setAttempts(current.getAttempts() + 1);
+        String message = String.valueOf(cause.getMessage());
+        current.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        if (current.getAttempts() >= maxAttempts) {
+            current.setStatus(OutboxEvent.Status.FAILED);
+            current.setNextAttemptAt(null);
+            log.error("Outbox event moved to FAILED - id: {}, type: {}, aggregateId: {}, attempts: {}",
+                    current.getId(), current.getEventType(), current.getAggregateId(), current.getAttempts(), cause);
+        } else {
+            current.setNextAttemptAt(LocalDateTime.now().plus(backoffDelay(current.getAttempts()), ChronoUnit.MILLIS));
+            log.warn("Failed to publish outbox event - id: {}, type: {}, attempts: {}, next attempt: {}, error: {}",
+                    current.getId(), current.getEventType(), current.getAttempts(), current.getNextAttemptAt(), message);
+        }
+    }
+
+    /**
+     * 실패 횟수에 따른 재시도 대기 시간 (초기값에서 시작해 실패할 때마다 두 배, 최댓값으로 제한)
+     */
+    private long backoffDelay(int attempts) {
+        int exponent = Math.min(attempts - 1, 30);
+        return Math.min(backoffInitialMs << exponent, backoffMaxMs);
+    }
+}
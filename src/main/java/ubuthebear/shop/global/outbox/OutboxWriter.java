@@ -0,0 +1,49 @@
+package ubuthebear.shop.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트를 트랜잭션 아웃박스에 기록하는 컴포넌트
+ * 반드시 이벤트를 발생시킨 비즈니스 트랜잭션 안에서 호출해야 하며 (트랜잭션이 없으면 예외 발생),
+ * 기록된 이벤트는 커밋 이후 {@link OutboxRelay}가 발행
+ *
+ * @author ubuthebear
+ * @version 1.0
+ * @see OutboxEvent
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트를 JSON으로 직렬화하여 아웃박스에 기록
+     *
+     * @param aggregateId 이벤트가 발생한 대상 식별자 (주문번호 등)
+     * @param event 기록할 이벤트 (기본 생성자와 getter로 JSON 변환이 가능해야 함)
+     * @throws org.springframework.transaction.IllegalTransactionStateException 진행 중인 트랜잭션이 없는 경우
+     * @throws RuntimeException 이벤트를 직렬화할 수 없는 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateId, Object event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setEventType(event.getClass().getName());
+        outboxEvent.setAggregateId(aggregateId);
+        outboxEvent.setCreatedAt(LocalDateTime.now());
+        try {
+            outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize outbox event: " + event.getClass().getName(), e);
+        }
+        outboxEventRepository.save(outboxEvent);
+    }
+}
@@ -0,0 +1,6 @@
+-- 결제/결제 이력 상태 컬럼을 VARCHAR로 변경 (MariaDB, 배포 전에 한 번 실행)
+-- 기존 컬럼은 ddl-auto가 만든 네이티브 ENUM(PENDING, COMPLETED, FAILED, CANCELLED)이라
+-- CONFIRMING, CANCELLING, EXPIRED 상태를 저장하면 오류가 발생하며, ddl-auto=update는 기존 컬럼 타입을 바꾸지 않음
+-- 상태 값이 추가되어도 스키마 변경이 필요 없도록 문자열 컬럼으로 변경
+ALTER TABLE payments MODIFY status VARCHAR(20) NOT NULL;
+ALTER TABLE payment_histories MODIFY status VARCHAR(20) NOT NULL;
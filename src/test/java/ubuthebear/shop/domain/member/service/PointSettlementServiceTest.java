@@ -0,0 +1,160 @@
+package ubuthebear.shop.domain.member.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.member.entity.Address;
+import ubuthebear.shop.domain.member.entity.LoyaltyPoint;
+import ubuthebear.shop.domain.member.entity.Member;
+import ubuthebear.shop.domain.member.entity.PaymentMethod;
+import ubuthebear.shop.domain.member.repository.LoyaltyPointRepository;
+import ubuthebear.shop.domain.order.entity.Order;
+import ubuthebear.shop.domain.order.event.OrderConfirmedEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "shop.outbox.relay.enabled=false",
+        "shop.point.settlement.interval-ms=3600000"})
+class PointSettlementServiceTest {
+
+    @Autowired
+    private PointSettlementService pointSettlementService;
+
+    @Autowired
+    private LoyaltyPointRepository loyaltyPointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void confirmedEventDeliveredTwiceIsSettledOnce() {
+        Member member = createMember("settle-twice");
+        OrderConfirmedEvent event = confirmedEvent(member, createOrder(member, "ORD-settle-twice"), "100");
+
+        pointSettlementService.enqueue(event);
+        pointSettlementService.settlePending();
+        pointSettlementService.enqueue(event);
+        pointSettlementService.settlePending();
+
+        assertThat(balanceOf(member)).isEqualByComparingTo("1100");
+        assertThat(countByOrder("point_settlements", event.getOrderId())).isEqualTo(1);
+        assertThat(countByOrder("point_histories", event.getOrderId())).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentSettlementsApplyEachOrderOnce() throws Exception {
+        Member member = createMember("settle-concurrent");
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Order order = createOrder(member, "ORD-settle-concurrent-" + i);
+            pointSettlementService.enqueue(confirmedEvent(member, order, "100"));
+            orderIds.add(order.getOrderId());
+        }
+
+        // 두 정산 작업이 같은 대기 건을 동시에 정산하려는 상황 (늦은 쪽은 잠금 대기 후 빈 묶음을 받거나 롤백됨)
+        int threads = 2;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    pointSettlementService.settlePending();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // 롤백된 쪽이 있었다면 남은 대기 건이 없음을 확인
+        pointSettlementService.settlePending();
+
+        assertThat(balanceOf(member)).isEqualByComparingTo("1300");
+        for (Long orderId : orderIds) {
+            assertThat(countByOrder("point_histories", orderId)).isEqualTo(1);
+        }
+    }
+
+    private BigDecimal balanceOf(Member member) {
+        return loyaltyPointRepository.findAll().stream()
+                .filter(point -> point.getMember().getMemberId().equals(member.getMemberId()))
+                .findFirst().orElseThrow()
+                .getBalance();
+    }
+
+    private int countByOrder(String table, Long orderId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE order_id = ?",
+                Integer.class, orderId);
+    }
+
+    private static OrderConfirmedEvent confirmedEvent(Member member, Order order, String earnedPoints) {
+        return new OrderConfirmedEvent(order.getOrderId(), order.getOrderNumber(), member.getUsername(),
+                member.getMemberId(), LocalDateTime.now(), new BigDecimal(earnedPoints), List.of());
+    }
+
+    private Member createMember(String username) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Member member = new Member();
+            member.setUsername(username);
+            member.setName(username);
+            member.setPassword("password");
+            member.setContact("010-0000-0000");
+            entityManager.persist(member);
+
+            LoyaltyPoint point = new LoyaltyPoint();
+            point.setMember(member);
+            point.setBalance(new BigDecimal("1000"));
+            entityManager.persist(point);
+            return member;
+        });
+    }
+
+    private Order createOrder(Member member, String orderNumber) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Member managed = entityManager.merge(member);
+            Address address = new Address(managed, "12345", "도로명 " + orderNumber, "101호");
+            entityManager.persist(address);
+
+            PaymentMethod paymentMethod = new PaymentMethod();
+            paymentMethod.setMember(managed);
+            paymentMethod.setPaymentType("CARD");
+            entityManager.persist(paymentMethod);
+
+            Order order = new Order();
+            order.setMember(managed);
+            order.setOrderNumber(orderNumber);
+            order.setDeliveryAddress(address);
+            order.setPaymentMethod(paymentMethod);
+            order.calculateTotalAmount();
+            entityManager.persist(order);
+            return order;
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package ubuthebear.shop.domain.order.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ubuthebear.shop.domain.member.entity.Address;
+import ubuthebear.shop.domain.member.entity.Member;
+import ubuthebear.shop.domain.member.entity.PaymentMethod;
+import ubuthebear.shop.domain.order.dto.OrderResponse;
+import ubuthebear.shop.domain.order.entity.Order;
+import ubuthebear.shop.domain.order.entity.OrderItem;
+import ubuthebear.shop.domain.product.entity.Product;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderRepositoryQueryCountTest {
+
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listingOrdersUsesConstantNumberOfQueries() {
+        Member fewOrders = createMemberWithOrders("few", 2);
+        Member manyOrders = createMemberWithOrders("many", 20);
+
+        long fewQueries = countQueries(() -> toResponses(orderRepository.findByMember(fewOrders)));
+        long manyQueries = countQueries(() -> toResponses(orderRepository.findByMember(manyOrders)));
+
+        assertThat(manyQueries).isEqualTo(fewQueries);
+        assertThat(manyQueries).isEqualTo(1);
+    }
+
+    @Test
+    void orderDetailUsesConstantNumberOfQueries() {
+        Member member = createMemberWithOrders("detail", 1);
+        String orderNumber = orderRepository.findByMember(member).get(0).getOrderNumber();
+        entityManager.clear();
+
+        long queries = countQueries(() ->
+                new OrderResponse(orderRepository.findWithDetailsByOrderNumber(orderNumber).orElseThrow()));
+
+        // 주문 조회 1회 + 회원의 권한(EAGER) 조회 1회
+        assertThat(queries).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void loadingOrderItemsForPageUsesSingleQuery() {
+        Member member = createMemberWithOrders("items", 5);
+        List<Long> orderIds = orderRepository.findByMember(member).stream()
+                .map(Order::getOrderId)
+                .collect(Collectors.toList());
+
+        long queries = countQueries(() -> orderItemRepository.findWithProductByOrderIdIn(orderIds)
+                .forEach(item -> item.getProduct().getName()));
+
+        assertThat(queries).isEqualTo(1);
+    }
+
+    private long countQueries(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static List<OrderResponse> toResponses(List<Order> orders) {
+        return orders.stream().map(OrderResponse::new).collect(Collectors.toList());
+    }
+
+    private Member createMemberWithOrders(String username, int orderCount) {
+        Member member = new Member();
+        member.setUsername(username);
+        member.setName(username);
+        member.setPassword("password");
+        member.setContact("010-0000-0000");
+        entityManager.persist(member);
+
+        Address address = new Address(member, "12345", "도로명 " + username, "101호");
+        entityManager.persist(address);
+
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setMember(member);
+        paymentMethod.setPaymentType("CARD");
+        entityManager.persist(paymentMethod);
+
+        for (int i = 0; i < orderCount; i++) {
+            Order order = new Order();
+            order.setMember(member);
+            order.setOrderNumber("ORD-" + username + "-" + i);
+            order.setDeliveryAddress(address);
+            order.setPaymentMethod(paymentMethod);
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                Product product = new Product();
+                product.setName(username + " 상품 " + i + "-" + j);
+                product.setPrice(BigDecimal.valueOf(1000L * (j + 1)));
+                product.setStockQuantity(10);
+                entityManager.persist(product);
+
+                OrderItem item = new OrderItem();
+                item.setProduct(product);
+                item.setQuantity(1);
+                item.setPrice(product.getPrice());
+                order.addOrderItem(item);
+            }
+            order.calculateTotalAmount();
+            entityManager.persist(order);
+        }
+        entityManager.flush();
+        return member;
+    }
+}
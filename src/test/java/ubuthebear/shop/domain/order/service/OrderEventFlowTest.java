@@ -0,0 +1,193 @@
+package ubuthebear.shop.domain.order.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.member.entity.Address;
+import ubuthebear.shop.domain.member.entity.LoyaltyPoint;
+import ubuthebear.shop.domain.member.entity.Member;
+import ubuthebear.shop.domain.member.entity.PaymentMethod;
+import ubuthebear.shop.domain.member.service.LoyaltyPointService;
+import ubuthebear.shop.domain.member.service.PointSettlementService;
+import ubuthebear.shop.domain.order.dto.OrderItemRequest;
+import ubuthebear.shop.domain.order.dto.OrderRequest;
+import ubuthebear.shop.domain.order.entity.OrderStatus;
+import ubuthebear.shop.domain.order.repository.OrderRepository;
+import ubuthebear.shop.domain.product.entity.Category;
+import ubuthebear.shop.domain.product.entity.Product;
+import ubuthebear.shop.domain.sales.service.SalesAnalyticsService;
+import ubuthebear.shop.domain.sales.service.SalesRollupBuffer;
+import ubuthebear.shop.global.outbox.OutboxEvent;
+import ubuthebear.shop.global.outbox.OutboxEventRepository;
+import ubuthebear.shop.global.outbox.OutboxRelay;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 생성 → 취소 → 구매확정 이벤트가 아웃박스 릴레이를 거쳐 포인트/판매 집계에 정확히 한 번 반영되는지 확인
+ * 스케줄러 대신 릴레이, 집계 반영, 포인트 정산을 직접 호출하여 순서를 고정
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "shop.outbox.relay.enabled=false",
+        "shop.sales.rollup.flush-interval-ms=3600000",
+        "shop.point.settlement.interval-ms=3600000"})
+class OrderEventFlowTest {
+
+    private static final String USERNAME = "outbox-flow";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private SalesRollupBuffer salesRollupBuffer;
+
+    @Autowired
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Autowired
+    private PointSettlementService pointSettlementService;
+
+    @Autowired
+    private LoyaltyPointService loyaltyPointService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void orderLifecycleEventsAreAppliedOnceThroughRelay() {
+        LocalDateTime from = LocalDateTime.now().minusHours(1);
+        Long[] ids = setUpMemberAndProduct();
+        Long addressId = ids[0];
+        Long paymentMethodId = ids[1];
+        Long productId = ids[2];
+
+        // 포인트를 사용한 주문을 취소하면 릴레이 이후 사용 포인트가 환급됨
+        String cancelled = orderService.createOrder(USERNAME,
+                request(addressId, paymentMethodId, productId, 2, "500")).getOrderNumber();
+        assertThat(balance()).isEqualByComparingTo("500");
+        orderService.cancelOrder(USERNAME, cancelled);
+        assertThat(balance()).isEqualByComparingTo("500");
+        relayAll();
+        assertThat(balance()).isEqualByComparingTo("1000");
+
+        // 구매확정하면 릴레이와 정산 이후 주문 금액의 1%가 적립됨
+        String confirmed = orderService.createOrder(USERNAME,
+                request(addressId, paymentMethodId, productId, 3, "0")).getOrderNumber();
+        markPaid(confirmed);
+        orderService.confirmOrder(USERNAME, confirmed);
+        relayAll();
+        pointSettlementService.settlePending();
+        assertThat(balance()).isEqualByComparingTo("1300");
+
+        // 모든 이벤트가 다시 전달되어도 결과가 바뀌지 않음
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE OutboxEvent e SET e.status = :pending WHERE e.aggregateId IN :orderNumbers")
+                .setParameter("pending", OutboxEvent.Status.PENDING)
+                .setParameter("orderNumbers", List.of(cancelled, confirmed))
+                .executeUpdate());
+        relayAll();
+        pointSettlementService.settlePending();
+        assertThat(balance()).isEqualByComparingTo("1300");
+
+        assertThat(outboxEventRepository.findAll())
+                .filteredOn(event -> List.of(cancelled, confirmed).contains(event.getAggregateId()))
+                .hasSize(4)
+                .allSatisfy(event -> assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.PUBLISHED));
+        assertThat(salesAnalyticsService.getProductSales(from, LocalDateTime.now().plusHours(1), 1000))
+                .filteredOn(sales -> sales.getId().equals(productId))
+                .singleElement()
+                .satisfies(sales -> {
+                    assertThat(sales.getQuantity()).isEqualTo(3);
+                    assertThat(sales.getRevenue()).isEqualByComparingTo("30000");
+                    assertThat(sales.getCompletedQuantity()).isEqualTo(3);
+                });
+    }
+
+    // 발행할 수 있는 이벤트가 없을 때까지 릴레이한 뒤 판매 집계 버퍼를 반영
+    private void relayAll() {
+        while (outboxRelay.relayBatch() > 0) {
+            // 같은 주문의 뒤 이벤트는 앞 이벤트가 발행된 다음 묶음에서 발행됨
+        }
+        salesRollupBuffer.flush();
+    }
+
+    private BigDecimal balance() {
+        return loyaltyPointService.getPointBalance(USERNAME).getBalance();
+    }
+
+    private void markPaid(String orderNumber) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderRepository.findWithDetailsByOrderNumber(orderNumber).orElseThrow().setStatus(OrderStatus.PAID));
+    }
+
+    private Long[] setUpMemberAndProduct() {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Member member = new Member();
+            member.setUsername(USERNAME);
+            member.setName(USERNAME);
+            member.setPassword("password");
+            member.setContact("010-0000-0000");
+            entityManager.persist(member);
+
+            Address address = new Address(member, "12345", "도로명 주소", "101호");
+            entityManager.persist(address);
+
+            PaymentMethod paymentMethod = new PaymentMethod();
+            paymentMethod.setMember(member);
+            paymentMethod.setPaymentType("CARD");
+            entityManager.persist(paymentMethod);
+
+            LoyaltyPoint point = new LoyaltyPoint();
+            point.setMember(member);
+            point.setBalance(new BigDecimal("1000"));
+            entityManager.persist(point);
+
+            Category category = new Category();
+            category.setName("아웃박스 카테고리");
+            entityManager.persist(category);
+
+            Product product = new Product();
+            product.setName("아웃박스 상품");
+            product.setPrice(new BigDecimal("10000"));
+            product.setStockQuantity(10);
+            product.setCategory(category);
+            entityManager.persist(product);
+
+            return new Long[]{address.getAddressId(), paymentMethod.getPaymentMethodId(), product.getProductId()};
+        });
+    }
+
+    private static OrderRequest request(Long addressId, Long paymentMethodId, Long productId, int quantity,
+                                        String usePoints) {
+        OrderItemRequest item = new OrderItemRequest();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        OrderRequest request = new OrderRequest();
+        request.setDeliveryAddressId(addressId);
+        request.setPaymentMethodId(paymentMethodId);
+        request.setItems(List.of(item));
+        request.setUsePoints(new BigDecimal(usePoints));
+        return request;
+    }
+}
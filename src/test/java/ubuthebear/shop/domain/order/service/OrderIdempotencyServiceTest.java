@@ -0,0 +1,201 @@
+package ubuthebear.shop.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import ubuthebear.shop.domain.member.entity.Address;
+import ubuthebear.shop.domain.member.entity.Member;
+import ubuthebear.shop.domain.member.entity.PaymentMethod;
+import ubuthebear.shop.domain.order.dto.OrderItemRequest;
+import ubuthebear.shop.domain.order.dto.OrderRequest;
+import ubuthebear.shop.domain.order.entity.IdempotencyRecord;
+import ubuthebear.shop.domain.order.repository.IdempotencyRecordRepository;
+import ubuthebear.shop.domain.order.service.OrderIdempotencyService.IdempotentOrder;
+import ubuthebear.shop.domain.product.entity.Category;
+import ubuthebear.shop.domain.product.entity.Product;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 멱등성 키로 주문 생성이 한 번만 일어나는지 확인
+ * 키 점유, 완료된 요청 재반환, 처리 중 중복 요청(409), 같은 키의 다른 요청(422), 실패 후 키 해제를 검증
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "shop.outbox.relay.enabled=false")
+class OrderIdempotencyServiceTest {
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void sameKeyReplaysCompletedOrderWithoutDecreasingStockAgain() {
+        Fixture fixture = setUp();
+        OrderRequest request = fixture.request(2);
+
+        IdempotentOrder first = orderIdempotencyService.createOrderOnce(fixture.username(), "key-1", request);
+        IdempotentOrder second = orderIdempotencyService.createOrderOnce(fixture.username(), "key-1", request);
+
+        assertThat(first.replayed()).isFalse();
+        assertThat(second.replayed()).isTrue();
+        assertThat(second.response().getOrderNumber()).isEqualTo(first.response().getOrderNumber());
+        assertThat(productRepository.findStockQuantityById(fixture.productId())).contains(8);
+        assertThat(recordRepository.findByUsernameAndIdempotencyKey(fixture.username(), "key-1"))
+                .hasValueSatisfying(record -> {
+                    assertThat(record.getStatus()).isEqualTo(IdempotencyRecord.Status.COMPLETED);
+                    assertThat(record.getOrderNumber()).isEqualTo(first.response().getOrderNumber());
+                });
+    }
+
+    @Test
+    void completedRecordIsReplayedFromDatabaseWhenNotCached() {
+        Fixture fixture = setUp();
+        OrderRequest request = fixture.request(1);
+        String orderNumber = orderIdempotencyService.createOrder(fixture.username(), "key-1", request)
+                .getOrderNumber();
+
+        // 다른 인스턴스(캐시가 비어 있는 서버)에서 같은 키로 재요청
+        OrderIdempotencyService otherInstance = new OrderIdempotencyService(orderService, recordRepository,
+                objectMapper, transactionManager, 300, 24, 100);
+        IdempotentOrder replayed = otherInstance.createOrderOnce(fixture.username(), "key-1", request);
+
+        assertThat(replayed.replayed()).isTrue();
+        assertThat(replayed.response().getOrderNumber()).isEqualTo(orderNumber);
+        assertThat(productRepository.findStockQuantityById(fixture.productId())).contains(9);
+    }
+
+    @Test
+    void duplicateRequestWhileInProgressIsRejectedWithConflict() throws Exception {
+        Fixture fixture = setUp();
+        OrderRequest request = fixture.request(1);
+
+        // 먼저 도착한 같은 요청이 키를 점유하고 처리 중인 상태
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setUsername(fixture.username());
+        record.setIdempotencyKey("key-1");
+        record.setRequestHash(hash(request));
+        record.setStatus(IdempotencyRecord.Status.IN_PROGRESS);
+        record.setClaimedAt(LocalDateTime.now());
+        recordRepository.saveAndFlush(record);
+
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder(fixture.username(), "key-1", request))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e ->
+                        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThat(productRepository.findStockQuantityById(fixture.productId())).contains(10);
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestIsRejected() {
+        Fixture fixture = setUp();
+        orderIdempotencyService.createOrder(fixture.username(), "key-1", fixture.request(1));
+
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder(fixture.username(), "key-1", fixture.request(3)))
+                .isInstanceOfSatisfying(ResponseStatusException.class, e ->
+                        assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+        assertThat(productRepository.findStockQuantityById(fixture.productId())).contains(9);
+    }
+
+    @Test
+    void failedOrderReleasesKeyForRetry() {
+        Fixture fixture = setUp();
+
+        assertThatThrownBy(() -> orderIdempotencyService.createOrder(fixture.username(), "key-1", fixture.request(11)))
+                .hasMessageContaining("Insufficient stock");
+        assertThat(recordRepository.findByUsernameAndIdempotencyKey(fixture.username(), "key-1")).isEmpty();
+        assertThat(productRepository.findStockQuantityById(fixture.productId())).contains(10);
+
+        IdempotentOrder retried = orderIdempotencyService.createOrderOnce(fixture.username(), "key-1",
+                fixture.request(10));
+        assertThat(retried.replayed()).isFalse();
+        assertThat(productRepository.findStockQuantityById(fixture.productId())).contains(0);
+    }
+
+    // OrderIdempotencyService와 같은 방식(요청 JSON의 SHA-256)으로 계산한 요청 해시
+    private String hash(OrderRequest request) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request)));
+    }
+
+    private record Fixture(String username, Long addressId, Long paymentMethodId, Long productId) {
+
+        OrderRequest request(int quantity) {
+            OrderItemRequest item = new OrderItemRequest();
+            item.setProductId(productId);
+            item.setQuantity(quantity);
+            OrderRequest request = new OrderRequest();
+            request.setDeliveryAddressId(addressId);
+            request.setPaymentMethodId(paymentMethodId);
+            request.setItems(List.of(item));
+            request.setUsePoints(BigDecimal.ZERO);
+            return request;
+        }
+    }
+
+    // 테스트마다 다른 회원과 재고 10개인 상품을 생성 (키는 회원별로 구분됨)
+    private Fixture setUp() {
+        String username = "idem-" + UUID.randomUUID().toString().substring(0, 8);
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Member member = new Member();
+            member.setUsername(username);
+            member.setName(username);
+            member.setPassword("password");
+            member.setContact("010-0000-0000");
+            entityManager.persist(member);
+
+            Address address = new Address(member, "12345", "도로명 주소", "101호");
+            entityManager.persist(address);
+
+            PaymentMethod paymentMethod = new PaymentMethod();
+            paymentMethod.setMember(member);
+            paymentMethod.setPaymentType("CARD");
+            entityManager.persist(paymentMethod);
+
+            Category category = new Category();
+            category.setName("멱등성 카테고리 " + username);
+            entityManager.persist(category);
+
+            Product product = new Product();
+            product.setName("멱등성 상품");
+            product.setPrice(new BigDecimal("10000"));
+            product.setStockQuantity(10);
+            product.setCategory(category);
+            entityManager.persist(product);
+
+            return new Fixture(username, address.getAddressId(), paymentMethod.getPaymentMethodId(),
+                    product.getProductId());
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package ubuthebear.shop.domain.order.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.member.entity.Address;
+import ubuthebear.shop.domain.member.entity.Member;
+import ubuthebear.shop.domain.member.entity.PaymentMethod;
+import ubuthebear.shop.domain.order.dto.OrderItemRequest;
+import ubuthebear.shop.domain.order.dto.OrderRequest;
+import ubuthebear.shop.domain.order.dto.OrderResponse;
+import ubuthebear.shop.domain.product.entity.Category;
+import ubuthebear.shop.domain.product.entity.Product;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 한 주문 요청에 같은 상품이 여러 줄로 들어왔을 때 하나의 주문상품으로 병합되는지 확인
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "shop.outbox.relay.enabled=false")
+class OrderServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void duplicateLinesAreMergedIntoOneOrderItem() {
+        String username = "merge-" + UUID.randomUUID().toString().substring(0, 8);
+        Long[] ids = setUp(username);
+        Long first = ids[2];
+        Long second = ids[3];
+
+        OrderResponse order = orderService.createOrder(username,
+                request(ids[0], ids[1], item(second, 1), item(first, 2), item(first, 3)));
+
+        assertThat(order.getItems()).hasSize(2);
+        assertThat(order.getItems())
+                .filteredOn(item -> item.getProductId().equals(first))
+                .singleElement()
+                .satisfies(item -> {
+                    assertThat(item.getQuantity()).isEqualTo(5);
+                    assertThat(item.getSubtotal()).isEqualByComparingTo("50000");
+                });
+        assertThat(order.getTotalAmount()).isEqualByComparingTo("70000");
+        assertThat(productRepository.findStockQuantityById(first)).contains(5);
+        assertThat(productRepository.findStockQuantityById(second)).contains(9);
+    }
+
+    @Test
+    void mergedQuantityIsCheckedAgainstStock() {
+        String username = "merge-" + UUID.randomUUID().toString().substring(0, 8);
+        Long[] ids = setUp(username);
+        Long first = ids[2];
+
+        // 줄마다 재고(10개) 이내여도 합친 수량이 재고를 넘으면 주문할 수 없음
+        assertThatThrownBy(() -> orderService.createOrder(username,
+                request(ids[0], ids[1], item(first, 6), item(first, 6))))
+                .hasMessageContaining("Insufficient stock")
+                .hasMessageContaining("requested 12");
+        assertThat(productRepository.findStockQuantityById(first)).contains(10);
+    }
+
+    // 회원, 배송지, 결제수단과 재고 10개인 상품 두 개(10000원, 20000원)를 생성
+    private Long[] setUp(String username) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Member member = new Member();
+            member.setUsername(username);
+            member.setName(username);
+            member.setPassword("password");
+            member.setContact("010-0000-0000");
+            entityManager.persist(member);
+
+            Address address = new Address(member, "12345", "도로명 주소", "101호");
+            entityManager.persist(address);
+
+            PaymentMethod paymentMethod = new PaymentMethod();
+            paymentMethod.setMember(member);
+            paymentMethod.setPaymentType("CARD");
+            entityManager.persist(paymentMethod);
+
+            Category category = new Category();
+            category.setName("병합 카테고리");
+            entityManager.persist(category);
+
+            Product first = product(category, "병합 상품 1", "10000");
+            Product second = product(category, "병합 상품 2", "20000");
+
+            return new Long[]{address.getAddressId(), paymentMethod.getPaymentMethodId(),
+                    first.getProductId(), second.getProductId()};
+        });
+    }
+
+    private Product product(Category category, String name, String price) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(new BigDecimal(price));
+        product.setStockQuantity(10);
+        product.setCategory(category);
+        entityManager.persist(product);
+        return product;
+    }
+
+    private static OrderItemRequest item(Long productId, int quantity) {
+        OrderItemRequest item = new OrderItemRequest();
+        item.setProductId(productId);
+        item.setQuantity(quantity);
+        return item;
+    }
+
+    private static OrderRequest request(Long addressId, Long paymentMethodId, OrderItemRequest... items) {
+        OrderRequest request = new OrderRequest();
+        request.setDeliveryAddressId(addressId);
+        request.setPaymentMethodId(paymentMethodId);
+        request.setItems(List.of(items));
+        request.setUsePoints(BigDecimal.ZERO);
+        return request;
+    }
+}
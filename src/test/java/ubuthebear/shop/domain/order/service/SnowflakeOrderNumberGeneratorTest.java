@@ -0,0 +1,101 @@
+package ubuthebear.shop.domain.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnowflakeOrderNumberGeneratorTest {
+
+    private static final int THREADS = 16;
+    private static final int PER_THREAD = 50_000;
+
+    @Test
+    void generatesNoDuplicatesAcrossThreads() throws Exception {
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1L, System::currentTimeMillis);
+        Set<String> orderNumbers = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    String previous = null;
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        String orderNumber = generator.generate();
+                        // 같은 스레드에서 받은 번호는 항상 증가
+                        if (previous != null) {
+                            assertThat(orderNumber).isGreaterThan(previous);
+                        }
+                        orderNumbers.add(orderNumber);
+                        previous = orderNumber;
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(orderNumbers).hasSize(THREADS * PER_THREAD);
+        assertThat(orderNumbers).allSatisfy(orderNumber ->
+                assertThat(orderNumber).matches("ORD\\d{8}[0-9A-Z]{13}"));
+    }
+
+    @Test
+    void staysMonotonicWhenClockMovesBackwards() {
+        AtomicLong now = new AtomicLong(System.currentTimeMillis());
+        SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(1L, now::get);
+
+        String first = generator.generate();
+        now.addAndGet(-5_000);
+        String second = generator.generate();
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    void differentNodesNeverCollideAtSameInstant() {
+        long fixed = System.currentTimeMillis();
+        SnowflakeOrderNumberGenerator node1 = new SnowflakeOrderNumberGenerator(1L, () -> fixed);
+        SnowflakeOrderNumberGenerator node2 = new SnowflakeOrderNumberGenerator(2L, () -> fixed);
+
+        Set<String> orderNumbers = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < 10_000; i++) {
+            orderNumbers.add(node1.generate());
+            orderNumbers.add(node2.generate());
+        }
+
+        assertThat(orderNumbers).hasSize(20_000);
+    }
+
+    @Test
+    void resumesAfterOrderNumberIssuedBeforeRestart() {
+        AtomicLong now = new AtomicLong(System.currentTimeMillis());
+        SnowflakeOrderNumberGenerator beforeRestart = new SnowflakeOrderNumberGenerator(1L, now::get);
+        // 한 밀리초에 시퀀스를 넘게 발급하여 논리 시각이 실제 시각보다 앞선 상태
+        String latest = null;
+        for (int i = 0; i < 10_000; i++) {
+            latest = beforeRestart.generate();
+        }
+
+        SnowflakeOrderNumberGenerator afterRestart = new SnowflakeOrderNumberGenerator(1L, now::get);
+        afterRestart.resumeAfter(latest);
+
+        assertThat(afterRestart.generate()).isGreaterThan(latest);
+    }
+}
@@ -0,0 +1,117 @@
+package ubuthebear.shop.domain.payment.client;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentGatewayGuardTest {
+
+    private static final int MINIMUM_CALLS = 4;
+    private static final long OPEN_DURATION_MS = 300;
+
+    private StubTossPaymentsServer stub;
+    private PaymentGatewayGuard guard;
+    private TossPaymentsClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubTossPaymentsServer(0);
+        guard = new PaymentGatewayGuard(50, 200, 50, 60, MINIMUM_CALLS, OPEN_DURATION_MS, 2, 3);
+        client = new TossPaymentsClient(guard, stub.getApiUrl(), "test_sk", 1000, 2000, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        stub.close();
+    }
+
+    @Test
+    void gatewayErrorsOpenCircuitAndShortCircuitCalls() {
+        stub.setStatusCode(500);
+        for (int i = 0; i < MINIMUM_CALLS; i++) {
+            assertThatThrownBy(() -> confirm().join()).hasCauseInstanceOf(TossPaymentsException.class);
+        }
+
+        assertThat(guard.getStatus().getCircuitState()).isEqualTo("OPEN");
+        assertThatThrownBy(() -> confirm().join()).hasCauseInstanceOf(CallNotPermittedException.class);
+        assertThat(stub.getRequests()).hasSize(MINIMUM_CALLS);
+        assertThat(guard.getStatus().getNotPermittedCalls()).isEqualTo(1);
+        assertThat(guard.getStatus().getStateTransitions()).containsEntry("CLOSED->OPEN", 1L);
+    }
+
+    @Test
+    void halfOpenProbesCloseCircuitWhenGatewayRecovers() throws Exception {
+        stub.setStatusCode(500);
+        for (int i = 0; i < MINIMUM_CALLS; i++) {
+            assertThatThrownBy(() -> confirm().join()).hasCauseInstanceOf(TossPaymentsException.class);
+        }
+        stub.setStatusCode(200);
+        Thread.sleep(OPEN_DURATION_MS + 200);
+
+        assertThat(guard.getStatus().getCircuitState()).isEqualTo("HALF_OPEN");
+        assertThat(confirm().join().getString("status")).isEqualTo("DONE");
+        assertThat(confirm().join().getString("status")).isEqualTo("DONE");
+
+        assertThat(guard.getStatus().getCircuitState()).isEqualTo("CLOSED");
+        assertThat(guard.getStatus().getStateTransitions())
+                .containsEntry("OPEN->HALF_OPEN", 1L)
+                .containsEntry("HALF_OPEN->CLOSED", 1L);
+    }
+
+    @Test
+    void businessRejectionsDoNotOpenCircuit() {
+        stub.setStatusCode(400);
+        for (int i = 0; i < MINIMUM_CALLS * 2; i++) {
+            assertThatThrownBy(() -> confirm().join()).hasCauseInstanceOf(TossPaymentsException.class);
+        }
+
+        assertThat(guard.getStatus().getCircuitState()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void slowGatewayOpensCircuit() {
+        stub.setDelayMillis(300);
+        for (int i = 0; i < MINIMUM_CALLS; i++) {
+            assertThat(confirm().join().getString("status")).isEqualTo("DONE");
+        }
+
+        assertThat(guard.getStatus().getCircuitState()).isEqualTo("OPEN");
+        assertThat(guard.getStatus().getSlowCallRate()).isEqualTo(100f);
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverConcurrencyLimit() {
+        stub.setDelayMillis(300);
+
+        List<CompletableFuture<JSONObject>> calls = IntStream.range(0, 5)
+                .mapToObj(i -> confirm())
+                .collect(Collectors.toList());
+        List<Throwable> failures = calls.stream()
+                .map(call -> call.handle((result, e) -> e instanceof CompletionException ? e.getCause() : e).join())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        assertThat(failures).hasSize(2).allMatch(BulkheadFullException.class::isInstance);
+        assertThat(guard.getStatus().getBulkheadRejectedCalls()).isEqualTo(2);
+        assertThat(stub.getRequests()).hasSize(3);
+    }
+
+    private CompletableFuture<JSONObject> confirm() {
+        return client.confirm("pay_1", "ORD-1", BigDecimal.TEN);
+    }
+}
@@ -0,0 +1,117 @@
+package ubuthebear.shop.domain.payment.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트와 부하 측정에 사용하는 로컬 토스페이먼츠 스텁 서버
+ * /v1/payments/confirm, /v1/payments/{paymentKey}/cancel, /v1/payments/{paymentKey} (조회) 요청에 응답하며,
+ * 응답 지연과 상태 코드, 조회 시 반환할 결제 상태를 바꿀 수 있음
+ *
+ * 단독 실행 시 (main) 지정한 포트에서 계속 실행되므로, toss.payments.api-url=http://localhost:{port}/v1 로
+ * 애플리케이션을 띄워 실제 게이트웨이 없이 결제 흐름을 측정할 수 있음
+ */
+public class StubTossPaymentsServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private volatile long delayMillis;
+    private volatile int statusCode = 200;
+    private volatile String paymentStatus = "DONE";
+
+    public StubTossPaymentsServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/payments", this::handle);
+        server.start();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        StubTossPaymentsServer stub = new StubTossPaymentsServer(port);
+        if (args.length > 1) {
+            stub.setDelayMillis(Long.parseLong(args[1]));
+        }
+        System.out.println("Stub Toss Payments server listening on " + stub.getApiUrl());
+    }
+
+    public String getApiUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1";
+    }
+
+    public List<String> getRequests() {
+        return requests;
+    }
+
+    public void setDelayMillis(long delayMillis) {
+        this.delayMillis = delayMillis;
+    }
+
+    public void setStatusCode(int statusCode) {
+        this.statusCode = statusCode;
+    }
+
+    public void setPaymentStatus(String paymentStatus) {
+        this.paymentStatus = paymentStatus;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        JSONObject request = requestBody.isEmpty() ? new JSONObject() : new JSONObject(requestBody);
+        requests.add(exchange.getRequestMethod() + " " + path + " "
+                + exchange.getRequestHeaders().getFirst("Authorization") + " " + request);
+
+        if (delayMillis > 0) {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        JSONObject response;
+        if (statusCode != 200) {
+            response = new JSONObject().put("code", "REJECT_CARD_PAYMENT").put("message", "stub failure");
+        } else if (path.endsWith("/confirm")) {
+            response = new JSONObject()
+                    .put("paymentKey", request.getString("paymentKey"))
+                    .put("orderId", request.getString("orderId"))
+                    .put("totalAmount", request.getBigDecimal("amount"))
+                    .put("status", "DONE")
+                    .put("method", "카드")
+                    .put("card", new JSONObject()
+                            .put("number", "1234-****-****-5678")
+                            .put("company", "스텁카드")
+                            .put("installmentPlanMonths", 0)
+                            .put("approveNo", "00000000"));
+        } else if (path.endsWith("/cancel")) {
+            String paymentKey = path.substring("/v1/payments/".length(), path.length() - "/cancel".length());
+            response = new JSONObject().put("paymentKey", paymentKey).put("status", "CANCELED");
+        } else {
+            String paymentKey = path.substring("/v1/payments/".length());
+            response = new JSONObject().put("paymentKey", paymentKey).put("status", paymentStatus).put("method", "카드");
+        }
+
+        byte[] body = response.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
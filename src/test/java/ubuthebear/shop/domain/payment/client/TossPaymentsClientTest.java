@@ -0,0 +1,93 @@
+package ubuthebear.shop.domain.payment.client;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TossPaymentsClientTest {
+
+    private StubTossPaymentsServer stub;
+    private TossPaymentsClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new StubTossPaymentsServer(0);
+        PaymentGatewayGuard guard = new PaymentGatewayGuard(50, 1000, 100, 60, 100, 1000, 1, 100);
+        client = new TossPaymentsClient(guard, stub.getApiUrl(), "test_sk", 1000, 500, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        stub.close();
+    }
+
+    @Test
+    void confirmSendsAuthorizedRequestAndParsesResponse() throws Exception {
+        JSONObject response = client.confirm("pay_1", "ORD-1", new BigDecimal("15000")).get();
+
+        assertThat(response.getString("status")).isEqualTo("DONE");
+        assertThat(response.getJSONObject("card").getString("company")).isEqualTo("스텁카드");
+        String expectedAuth = "Basic " + Base64.getEncoder().encodeToString("test_sk:".getBytes(StandardCharsets.UTF_8));
+        assertThat(stub.getRequests()).singleElement().asString()
+                .startsWith("POST /v1/payments/confirm " + expectedAuth)
+                .contains("\"orderId\":\"ORD-1\"");
+    }
+
+    @Test
+    void cancelUsesPaymentKeyPath() throws Exception {
+        JSONObject response = client.cancel("pay_1", "단순 변심").get();
+
+        assertThat(response.getString("status")).isEqualTo("CANCELED");
+        assertThat(stub.getRequests()).singleElement().asString().startsWith("POST /v1/payments/pay_1/cancel");
+    }
+
+    @Test
+    void errorResponseCompletesWithGatewayException() {
+        stub.setStatusCode(400);
+
+        assertThatThrownBy(() -> client.confirm("pay_1", "ORD-1", BigDecimal.TEN).get())
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOfSatisfying(TossPaymentsException.class, e -> {
+                    assertThat(e.getStatusCode()).isEqualTo(400);
+                    assertThat(e.getErrorCode()).isEqualTo("REJECT_CARD_PAYMENT");
+                });
+    }
+
+    @Test
+    void slowGatewayTimesOut() {
+        stub.setDelayMillis(2000);
+
+        assertThatThrownBy(() -> client.confirm("pay_1", "ORD-1", BigDecimal.TEN).get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    void concurrentCallsCompleteWithoutBlockingCaller() {
+        stub.setDelayMillis(100);
+
+        List<CompletableFuture<JSONObject>> calls = IntStream.range(0, 20)
+                .mapToObj(i -> client.confirm("pay_" + i, "ORD-" + i, BigDecimal.ONE))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).join();
+
+        assertThat(calls).allSatisfy(call -> assertThat(call.join().getString("status")).isEqualTo("DONE"));
+        assertThat(stub.getRequests()).hasSize(20);
+    }
+}
@@ -0,0 +1,112 @@
+package ubuthebear.shop.domain.payment.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ubuthebear.shop.domain.payment.dto.ReconciliationMismatch;
+import ubuthebear.shop.domain.payment.dto.ReconciliationReportResponse;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SettlementReconcilerTest {
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    void reportsEveryMismatchTypeFromUnsortedInputs() throws Exception {
+        Path settlement = write("settlement.csv",
+                "paymentKey,orderId,totalAmount,status",
+                "pk-5,ORD-5,5000,DONE",
+                "pk-1,ORD-1,1000,DONE",
+                "pk-3,ORD-3,3000,DONE",
+                "\"pk,2\",\"ORD-2\",2500,DONE",
+                "pk-9,ORD-9,9000,DONE",
+                "pk-3,ORD-3,3000,CANCELED");
+        List<SettlementReconciler.Entry> local = List.of(
+                entry("ORD-3", "3000", "COMPLETED"),
+                entry("ORD-1", "1000.00", "COMPLETED"),
+                entry("ORD-4", "4000", "COMPLETED"),
+                entry("ORD-2", "2000", "COMPLETED"),
+                entry("ORD-6", "6000", "PENDING"),
+                entry("ORD-5", "5000", "COMPLETED"));
+        Path report = workDir.resolve("report.csv");
+
+        ReconciliationReportResponse result = new SettlementReconciler(workDir, 2, 10)
+                .reconcile(local.iterator(), settlement, report);
+
+        assertThat(result.getLocalCount()).isEqualTo(6);
+        assertThat(result.getRemoteCount()).isEqualTo(5);
+        assertThat(result.getMatchedCount()).isEqualTo(2);
+        assertThat(result.getMismatchCounts())
+                .containsEntry(ReconciliationMismatch.Type.AMOUNT_MISMATCH, 1L)
+                .containsEntry(ReconciliationMismatch.Type.STATUS_MISMATCH, 1L)
+                .containsEntry(ReconciliationMismatch.Type.MISSING_REMOTELY, 1L)
+                .containsEntry(ReconciliationMismatch.Type.MISSING_LOCALLY, 1L);
+        assertThat(result.getSamples()).extracting(ReconciliationMismatch::getOrderId)
+                .containsExactly("ORD-2", "ORD-3", "ORD-4", "ORD-9");
+        assertThat(Files.readAllLines(report)).containsExactly(
+                "type,orderId,localAmount,remoteAmount,localStatus,remoteStatus",
+                "AMOUNT_MISMATCH,ORD-2,2000,2500,COMPLETED,DONE",
+                "STATUS_MISMATCH,ORD-3,3000,3000,COMPLETED,CANCELED",
+                "MISSING_REMOTELY,ORD-4,4000,,COMPLETED,",
+                "MISSING_LOCALLY,ORD-9,,9000,,DONE");
+        try (Stream<Path> files = Files.list(workDir)) {
+            assertThat(files.map(path -> path.getFileName().toString()).collect(Collectors.toList()))
+                    .containsExactlyInAnyOrder("settlement.csv", "report.csv");
+        }
+    }
+
+    @Test
+    void matchesOrderIdsContainingTabsAndNewlinesAcrossManyRuns() throws Exception {
+        Path settlement = write("settlement.csv",
+                "orderId,amount,status",
+                "\"ORD\t7\",7000,DONE",
+                "\"ORD\\8\",8000,DONE");
+        List<SettlementReconciler.Entry> local = Stream.concat(
+                        Stream.of(entry("ORD\t7", "7000", "COMPLETED"),
+                                entry("ORD\\8", "8000", "COMPLETED"),
+                                entry("ORD\n9", "9000", "COMPLETED")),
+                        Stream.iterate(1, i -> i + 1).limit(200)
+                                .map(i -> entry(String.format("OLD-%03d", i), "100", "PENDING")))
+                .collect(Collectors.toList());
+
+        ReconciliationReportResponse result = new SettlementReconciler(workDir, 1, 10)
+                .reconcile(local.iterator(), settlement, workDir.resolve("report.csv"));
+
+        assertThat(result.getLocalCount()).isEqualTo(203);
+        assertThat(result.getMatchedCount()).isEqualTo(2);
+        assertThat(result.getSamples()).extracting(ReconciliationMismatch::getType, ReconciliationMismatch::getOrderId)
+                .containsExactly(tuple(ReconciliationMismatch.Type.MISSING_REMOTELY, "ORD\n9"));
+        try (Stream<Path> files = Files.list(workDir)) {
+            assertThat(files.map(path -> path.getFileName().toString()).collect(Collectors.toList()))
+                    .containsExactlyInAnyOrder("settlement.csv", "report.csv");
+        }
+    }
+
+    @Test
+    void rejectsSettlementFileWithoutRequiredColumns() throws Exception {
+        Path settlement = write("settlement.csv", "orderId,status", "ORD-1,DONE");
+
+        assertThatThrownBy(() -> new SettlementReconciler(workDir, 2, 10)
+                .reconcile(List.<SettlementReconciler.Entry>of().iterator(), settlement, workDir.resolve("report.csv")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path write(String name, String... lines) throws Exception {
+        return Files.write(workDir.resolve(name), List.of(lines), StandardCharsets.UTF_8);
+    }
+
+    private static SettlementReconciler.Entry entry(String orderId, String amount, String status) {
+        return new SettlementReconciler.Entry(orderId, new BigDecimal(amount), status);
+    }
+}
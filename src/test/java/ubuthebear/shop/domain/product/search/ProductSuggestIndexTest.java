@@ -0,0 +1,75 @@
+package ubuthebear.shop.domain.product.search;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ubuthebear.shop.domain.product.dto.response.ProductSuggestResponse;
+import ubuthebear.shop.domain.product.entity.Product;
+import ubuthebear.shop.domain.product.event.ProductChangedEvent;
+import ubuthebear.shop.domain.product.repository.CategoryRepository;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class ProductSuggestIndexTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void changesCommittedWhileBuildingAreNotOverwrittenByStaleRows() {
+        Product renamed = persistProduct("구형 노트북");
+        Product deleted = persistProduct("구형 모니터");
+        entityManager.flush();
+
+        // 구축이 한 묶음을 조회한 직후, 반영하기 전에 변경 이벤트가 커밋된 상황
+        AtomicReference<ProductSuggestIndex> indexRef = new AtomicReference<>();
+        ProductRepository racingRepository = (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(), new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(productRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("findSuggestRowsAfter") && (Long) args[0] == 0L) {
+                        renamed.setName("신형 태블릿");
+                        indexRef.get().onProductChanged(ProductChangedEvent.updated(renamed, null, 10));
+                        indexRef.get().onProductChanged(ProductChangedEvent.deleted(deleted));
+                    }
+                    return result;
+                });
+        ProductSuggestIndex index = new ProductSuggestIndex(racingRepository, categoryRepository);
+        indexRef.set(index);
+
+        index.build();
+
+        assertThat(index.suggest("신형", 10).getProducts())
+                .extracting(ProductSuggestResponse.Suggestion::getId)
+                .containsExactly(renamed.getProductId());
+        assertThat(index.suggest("구형", 10).getProducts()).isEmpty();
+    }
+
+    private Product persistProduct(String name) {
+        Product product = new Product();
+        product.setName(name);
+        product.setPrice(BigDecimal.valueOf(1000));
+        product.setStockQuantity(10);
+        entityManager.persist(product);
+        return product;
+    }
+}
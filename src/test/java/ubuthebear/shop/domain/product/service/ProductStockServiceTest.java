@@ -0,0 +1,114 @@
+package ubuthebear.shop.domain.product.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.product.entity.Category;
+import ubuthebear.shop.domain.product.entity.Product;
+import ubuthebear.shop.domain.product.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 조건부 UPDATE로 재고를 차감할 때 동시 주문에도 재고가 음수가 되거나 갱신이 손실되지 않는지 확인
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "shop.outbox.relay.enabled=false")
+class ProductStockServiceTest {
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentDecreasesNeverOversell() throws Exception {
+        Long productId = createProduct(5);
+        int threads = 10;
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        int succeeded = 0;
+        int rejected = 0;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    productStockService.decreaseStock(new TreeMap<>(Map.of(productId, 1)));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).hasMessageContaining("Insufficient stock");
+                    rejected++;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(succeeded).isEqualTo(5);
+        assertThat(rejected).isEqualTo(5);
+        assertThat(productRepository.findStockQuantityById(productId)).contains(0);
+    }
+
+    @Test
+    void shortageOfOneProductRollsBackWholeDecrease() {
+        Long enough = createProduct(10);
+        Long scarce = createProduct(1);
+        TreeMap<Long, Integer> quantities = new TreeMap<>();
+        quantities.put(enough, 3);
+        quantities.put(scarce, 2);
+
+        assertThatThrownBy(() -> productStockService.decreaseStock(quantities))
+                .hasMessageContaining("Insufficient stock")
+                .hasMessageContaining("productId=" + scarce);
+        assertThat(productRepository.findStockQuantityById(enough)).contains(10);
+        assertThat(productRepository.findStockQuantityById(scarce)).contains(1);
+    }
+
+    private Long createProduct(int stockQuantity) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Category category = new Category();
+            category.setName("재고 카테고리");
+            entityManager.persist(category);
+
+            Product product = new Product();
+            product.setName("재고 상품");
+            product.setPrice(new BigDecimal("10000"));
+            product.setStockQuantity(stockQuantity);
+            product.setCategory(category);
+            entityManager.persist(product);
+            return product.getProductId();
+        });
+    }
+}
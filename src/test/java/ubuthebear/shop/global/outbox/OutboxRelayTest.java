@@ -0,0 +1,174 @@
+package ubuthebear.shop.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ubuthebear.shop.domain.order.event.OrderShippedEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxConsumptionRepository outboxConsumptionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void relaysPendingEventsInOrderAndMarksThemPublished() {
+        appendShipped("ORD-1", "ORD-2", "ORD-3");
+        List<Object> received = new ArrayList<>();
+
+        relay(received::add, 3, 0).relayPending();
+
+        assertThat(received).extracting(event -> ((OrderShippedEvent) event).getOrderNumber())
+                .containsExactly("ORD-1", "ORD-2", "ORD-3");
+        assertThat(((OrderShippedEvent) received.get(0)).getEstimatedDeliveryDate())
+                .isEqualTo(LocalDateTime.of(2024, 1, 4, 12, 0));
+        assertThat(received).extracting(event -> ((OrderShippedEvent) event).getOutboxEventId())
+                .containsExactlyElementsOf(outboxEventRepository.findAll().stream()
+                        .map(OutboxEvent::getId).sorted().toList());
+        assertThat(outboxEventRepository.findAll())
+                .allSatisfy(event -> {
+                    assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.PUBLISHED);
+                    assertThat(event.getPublishedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    void failedEventIsRetriedAfterBackoffWithoutBlockingOtherOrders() {
+        appendShipped("ORD-1", "ORD-2");
+        List<Object> received = new ArrayList<>();
+        OutboxRelay relay = relay(event -> {
+            if (((OrderShippedEvent) event).getOrderNumber().equals("ORD-1")) {
+                throw new IllegalStateException("listener failure");
+            }
+            received.add(event);
+        }, 3, 60_000);
+
+        assertThat(relay.relayBatch()).isEqualTo(2);
+        assertThat(received).extracting(event -> ((OrderShippedEvent) event).getOrderNumber())
+                .containsExactly("ORD-2");
+        OutboxEvent failed = outboxEventRepository.findAll().stream()
+                .filter(event -> event.getStatus() == OutboxEvent.Status.PENDING)
+                .findFirst().orElseThrow();
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now().plusSeconds(30));
+
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    void laterEventOfSameOrderWaitsForEarlierOne() {
+        appendShipped("ORD-1", "ORD-1");
+        List<Object> received = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+        OutboxRelay relay = relay(event -> {
+            if (calls.getAndIncrement() == 0) {
+                throw new IllegalStateException("listener failure");
+            }
+            received.add(event);
+        }, 3, 0);
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+        assertThat(received).isEmpty();
+
+        relay.relayBatch();
+        relay.relayBatch();
+
+        assertThat(received).extracting(event -> ((OrderShippedEvent) event).getOrderId())
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void eventIsMarkedFailedAfterMaxAttempts() {
+        appendShipped("ORD-1", "ORD-2");
+        List<Object> received = new ArrayList<>();
+        OutboxRelay relay = relay(event -> {
+            if (((OrderShippedEvent) event).getOrderNumber().equals("ORD-1")) {
+                throw new IllegalStateException("listener failure");
+            }
+            received.add(event);
+        }, 2, 0);
+
+        relay.relayBatch();
+        relay.relayBatch();
+        relay.relayBatch();
+
+        assertThat(received).extracting(event -> ((OrderShippedEvent) event).getOrderNumber())
+                .containsExactly("ORD-2");
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAggregateId, OutboxEvent::getStatus)
+                .containsExactlyInAnyOrder(
+                        tuple("ORD-1", OutboxEvent.Status.FAILED),
+                        tuple("ORD-2", OutboxEvent.Status.PUBLISHED));
+    }
+
+    @Test
+    void eventsClaimedByOneRelayAreNotPublishedByAnother() {
+        appendShipped("ORD-1", "ORD-2", "ORD-3", "ORD-4");
+        List<Object> receivedByOther = new ArrayList<>();
+        OutboxRelay other = relay(receivedByOther::add, 3, 0);
+        List<Object> received = new ArrayList<>();
+
+        // 첫 번째 릴레이가 발행하는 도중 두 번째 릴레이가 실행되는 상황
+        relay(event -> {
+            if (received.isEmpty()) {
+                other.relayBatch();
+            }
+            received.add(event);
+        }, 3, 0).relayBatch();
+
+        assertThat(received).extracting(event -> ((OrderShippedEvent) event).getOrderNumber())
+                .containsExactly("ORD-1", "ORD-2");
+        assertThat(receivedByOther).extracting(event -> ((OrderShippedEvent) event).getOrderNumber())
+                .containsExactly("ORD-3", "ORD-4");
+        assertThat(outboxEventRepository.findAll())
+                .allSatisfy(event -> {
+                    assertThat(event.getStatus()).isEqualTo(OutboxEvent.Status.PUBLISHED);
+                    assertThat(event.getClaimedBy()).isNull();
+                });
+    }
+
+    private OutboxRelay relay(ApplicationEventPublisher publisher, int maxAttempts, long backoffInitialMs) {
+        return new OutboxRelay(outboxEventRepository, outboxConsumptionRepository, objectMapper, publisher,
+                transactionManager, true, 2, maxAttempts, backoffInitialMs, 1_800_000, 60, 72);
+    }
+
+    private void appendShipped(String... orderNumbers) {
+        OutboxWriter writer = new OutboxWriter(outboxEventRepository, objectMapper);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            long id = 1;
+            for (String orderNumber : orderNumbers) {
+                writer.append(orderNumber, new OrderShippedEvent(id, orderNumber, "user", id++,
+                        "CJ", "TRK-" + orderNumber, LocalDateTime.of(2024, 1, 4, 12, 0)));
+            }
+        });
+    }
+}